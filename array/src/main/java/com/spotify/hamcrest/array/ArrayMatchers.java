@@ -0,0 +1,126 @@
+/*-
+ * -\-\-
+ * hamcrest-array
+ * --
+ * Copyright (C) 2016 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.hamcrest.array;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import org.hamcrest.Matcher;
+
+/**
+ * Matchers for large primitive arrays.
+ *
+ * <p>Unlike {@code org.hamcrest.Matchers.equalTo}, these matchers compare the arrays with the JDK's
+ * bulk comparisons instead of boxing every element, and a mismatch only shows the elements around
+ * the first difference instead of both arrays in full.
+ *
+ * <pre>{@code
+ * assertThat(decoder.decode(frame), intArrayEqualTo(expectedSamples));
+ *
+ * assertThat(model.predict(input), doubleArrayCloseTo(expectedScores, 1e-9));
+ * }</pre>
+ */
+public final class ArrayMatchers {
+
+  private ArrayMatchers() {}
+
+  /**
+   * Creates a {@link Matcher} that matches an {@code int[]} with the same length and elements as
+   * {@code expected}.
+   */
+  public static Matcher<int[]> intArrayEqualTo(final int[] expected) {
+    requireNonNull(expected);
+    return new PrimitiveArrayMatcher<>(
+        int[].class,
+        "an int[]",
+        expected,
+        "equal to",
+        (e, a) -> Arrays.equals(e, a) ? -1 : ArrayMismatch.mismatch(e, a),
+        (array, i) -> String.valueOf(array[i]));
+  }
+
+  /**
+   * Creates a {@link Matcher} that matches a {@code long[]} with the same length and elements as
+   * {@code expected}.
+   */
+  public static Matcher<long[]> longArrayEqualTo(final long[] expected) {
+    requireNonNull(expected);
+    return new PrimitiveArrayMatcher<>(
+        long[].class,
+        "a long[]",
+        expected,
+        "equal to",
+        (e, a) -> Arrays.equals(e, a) ? -1 : ArrayMismatch.mismatch(e, a),
+        (array, i) -> String.valueOf(array[i]));
+  }
+
+  /**
+   * Creates a {@link Matcher} that matches a {@code double[]} with the same length and elements as
+   * {@code expected}. Elements are compared like {@link Double#equals(Object)}: NaN equals NaN, and
+   * 0.0 doesn't equal -0.0. Use {@link #doubleArrayCloseTo(double[], double)} for computed values.
+   */
+  public static Matcher<double[]> doubleArrayEqualTo(final double[] expected) {
+    requireNonNull(expected);
+    return new PrimitiveArrayMatcher<>(
+        double[].class,
+        "a double[]",
+        expected,
+        "equal to",
+        (e, a) -> Arrays.equals(e, a) ? -1 : ArrayMismatch.mismatch(e, a),
+        (array, i) -> String.valueOf(array[i]));
+  }
+
+  /**
+   * Creates a {@link Matcher} that matches a {@code double[]} with the same length as {@code
+   * expected}, where every element equals the expected one or differs at most {@code tolerance}
+   * from it. Equal is meant like in {@link #doubleArrayEqualTo(double[])}, so NaN only matches NaN
+   * and an infinity only matches the same infinity.
+   */
+  public static Matcher<double[]> doubleArrayCloseTo(
+      final double[] expected, final double tolerance) {
+    requireNonNull(expected);
+    if (!(tolerance >= 0)) {
+      throw new IllegalArgumentException("tolerance must not be negative, was " + tolerance);
+    }
+    return new PrimitiveArrayMatcher<>(
+        double[].class,
+        "a double[]",
+        expected,
+        "with every element within " + tolerance + " of",
+        (e, a) -> Arrays.equals(e, a) ? -1 : ArrayMismatch.mismatch(e, a, tolerance),
+        (array, i) -> String.valueOf(array[i]));
+  }
+
+  /**
+   * Creates a {@link Matcher} that matches a {@code byte[]} with the same length and elements as
+   * {@code expected}. Elements are described in hexadecimal.
+   */
+  public static Matcher<byte[]> byteArrayEqualTo(final byte[] expected) {
+    requireNonNull(expected);
+    return new PrimitiveArrayMatcher<>(
+        byte[].class,
+        "a byte[]",
+        expected,
+        "equal to",
+        (e, a) -> Arrays.equals(e, a) ? -1 : ArrayMismatch.mismatch(e, a),
+        (array, i) -> String.format("0x%02x", array[i] & 0xff));
+  }
+}
@@ -0,0 +1,164 @@
+/*-
+ * -\-\-
+ * hamcrest-array
+ * --
+ * Copyright (C) 2016 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.hamcrest.array;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Arrays;
+
+/**
+ * Finds the first index at which two primitive arrays differ.
+ *
+ * <p>From Java 9 the JDK's {@code Arrays.mismatch} is used, which the JIT compiles to vectorized
+ * code. On Java 8 it doesn't exist and the arrays are scanned element by element. The methods are
+ * only called after {@link Arrays#equals} reported a difference, so the scan is never on the path
+ * of a successful match.
+ */
+final class ArrayMismatch {
+
+  private static final MethodHandle INT_MISMATCH = mismatchHandle(int[].class);
+  private static final MethodHandle LONG_MISMATCH = mismatchHandle(long[].class);
+  private static final MethodHandle DOUBLE_MISMATCH = mismatchHandle(double[].class);
+  private static final MethodHandle BYTE_MISMATCH = mismatchHandle(byte[].class);
+
+  private ArrayMismatch() {}
+
+  /**
+   * Returns the first index at which the arrays differ, the length of the shorter array if it is a
+   * prefix of the other one, or -1 if they are equal.
+   */
+  static int mismatch(final int[] a, final int[] b) {
+    if (INT_MISMATCH != null) {
+      try {
+        return (int) INT_MISMATCH.invokeExact(a, b);
+      } catch (Throwable t) {
+        throw new IllegalStateException(t);
+      }
+    }
+    return scan(a, b);
+  }
+
+  /** See {@link #mismatch(int[], int[])}. */
+  static int mismatch(final long[] a, final long[] b) {
+    if (LONG_MISMATCH != null) {
+      try {
+        return (int) LONG_MISMATCH.invokeExact(a, b);
+      } catch (Throwable t) {
+        throw new IllegalStateException(t);
+      }
+    }
+    return scan(a, b);
+  }
+
+  /**
+   * See {@link #mismatch(int[], int[])}. Elements are compared like {@link Double#equals(Object)},
+   * so NaN equals NaN and 0.0 differs from -0.0.
+   */
+  static int mismatch(final double[] a, final double[] b) {
+    if (DOUBLE_MISMATCH != null) {
+      try {
+        return (int) DOUBLE_MISMATCH.invokeExact(a, b);
+      } catch (Throwable t) {
+        throw new IllegalStateException(t);
+      }
+    }
+    return scan(a, b);
+  }
+
+  /** See {@link #mismatch(int[], int[])}. */
+  static int mismatch(final byte[] a, final byte[] b) {
+    if (BYTE_MISMATCH != null) {
+      try {
+        return (int) BYTE_MISMATCH.invokeExact(a, b);
+      } catch (Throwable t) {
+        throw new IllegalStateException(t);
+      }
+    }
+    return scan(a, b);
+  }
+
+  /**
+   * Returns the first index at which the elements neither are equal, as in {@link
+   * #mismatch(double[], double[])}, nor differ at most {@code tolerance}, the length of the shorter
+   * array if all common elements are close, or -1 if the arrays are close.
+   */
+  static int mismatch(final double[] a, final double[] b, final double tolerance) {
+    final int length = Math.min(a.length, b.length);
+    for (int i = 0; i < length; i++) {
+      if (!(Math.abs(a[i] - b[i]) <= tolerance)
+          && Double.doubleToLongBits(a[i]) != Double.doubleToLongBits(b[i])) {
+        return i;
+      }
+    }
+    return a.length == b.length ? -1 : length;
+  }
+
+  static int scan(final int[] a, final int[] b) {
+    final int length = Math.min(a.length, b.length);
+    for (int i = 0; i < length; i++) {
+      if (a[i] != b[i]) {
+        return i;
+      }
+    }
+    return a.length == b.length ? -1 : length;
+  }
+
+  static int scan(final long[] a, final long[] b) {
+    final int length = Math.min(a.length, b.length);
+    for (int i = 0; i < length; i++) {
+      if (a[i] != b[i]) {
+        return i;
+      }
+    }
+    return a.length == b.length ? -1 : length;
+  }
+
+  static int scan(final double[] a, final double[] b) {
+    final int length = Math.min(a.length, b.length);
+    for (int i = 0; i < length; i++) {
+      if (Double.doubleToLongBits(a[i]) != Double.doubleToLongBits(b[i])) {
+        return i;
+      }
+    }
+    return a.length == b.length ? -1 : length;
+  }
+
+  static int scan(final byte[] a, final byte[] b) {
+    final int length = Math.min(a.length, b.length);
+    for (int i = 0; i < length; i++) {
+      if (a[i] != b[i]) {
+        return i;
+      }
+    }
+    return a.length == b.length ? -1 : length;
+  }
+
+  private static MethodHandle mismatchHandle(final Class<?> arrayType) {
+    try {
+      return MethodHandles.publicLookup()
+          .findStatic(
+              Arrays.class, "mismatch", MethodType.methodType(int.class, arrayType, arrayType));
+    } catch (NoSuchMethodException | IllegalAccessException e) {
+      return null;
+    }
+  }
+}
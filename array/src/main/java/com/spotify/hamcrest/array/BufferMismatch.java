@@ -0,0 +1,78 @@
+/*-
+ * -\-\-
+ * hamcrest-array
+ * --
+ * Copyright (C) 2016 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.hamcrest.array;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.nio.ByteBuffer;
+
+/**
+ * Finds the first index at which the remaining bytes of two buffers differ, without copying them or
+ * moving their positions.
+ *
+ * <p>From Java 11 the JDK's {@code ByteBuffer.mismatch} is used, which compares heap, direct and
+ * mapped buffers with vectorized code. Before that the buffers are scanned with absolute gets.
+ */
+final class BufferMismatch {
+
+  private static final MethodHandle MISMATCH = mismatchHandle();
+
+  private BufferMismatch() {}
+
+  /**
+   * Returns the first index, relative to the positions, at which the remaining bytes differ, the
+   * number of remaining bytes of the shorter buffer if they are a prefix of the other one, or -1 if
+   * they are equal.
+   */
+  static int mismatch(final ByteBuffer a, final ByteBuffer b) {
+    if (MISMATCH != null) {
+      try {
+        return (int) MISMATCH.invokeExact(a, b);
+      } catch (Throwable t) {
+        throw new IllegalStateException(t);
+      }
+    }
+    return scan(a, b);
+  }
+
+  static int scan(final ByteBuffer a, final ByteBuffer b) {
+    final int length = Math.min(a.remaining(), b.remaining());
+    final int aPosition = a.position();
+    final int bPosition = b.position();
+    for (int i = 0; i < length; i++) {
+      if (a.get(aPosition + i) != b.get(bPosition + i)) {
+        return i;
+      }
+    }
+    return a.remaining() == b.remaining() ? -1 : length;
+  }
+
+  private static MethodHandle mismatchHandle() {
+    try {
+      return MethodHandles.publicLookup()
+          .findVirtual(
+              ByteBuffer.class, "mismatch", MethodType.methodType(int.class, ByteBuffer.class));
+    } catch (NoSuchMethodException | IllegalAccessException e) {
+      return null;
+    }
+  }
+}
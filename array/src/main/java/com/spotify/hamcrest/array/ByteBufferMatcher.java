@@ -0,0 +1,68 @@
+/*-
+ * -\-\-
+ * hamcrest-array
+ * --
+ * Copyright (C) 2016 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.hamcrest.array;
+
+import java.nio.ByteBuffer;
+import org.hamcrest.Description;
+import org.hamcrest.TypeSafeMatcher;
+
+/**
+ * Matches the remaining bytes of a {@link ByteBuffer} against the remaining bytes of an expected
+ * one. Neither buffer is copied and their positions are left as they are, so heap, direct and
+ * memory-mapped buffers are compared in place. A mismatch is rendered as a hexdump of the rows
+ * around the first difference.
+ */
+final class ByteBufferMatcher extends TypeSafeMatcher<ByteBuffer> {
+
+  private final ByteBuffer expected;
+
+  ByteBufferMatcher(final ByteBuffer expected) {
+    this.expected = expected;
+  }
+
+  @Override
+  protected boolean matchesSafely(final ByteBuffer item) {
+    return item.remaining() == expected.remaining() && BufferMismatch.mismatch(expected, item) < 0;
+  }
+
+  @Override
+  public void describeTo(final Description description) {
+    description.appendText("a ByteBuffer with " + expected.remaining() + " remaining bytes");
+    if (expected.remaining() > Hexdump.ROW_LENGTH) {
+      description.appendText(" starting with " + Hexdump.bytes(expected, Hexdump.ROW_LENGTH));
+    } else if (expected.hasRemaining()) {
+      description.appendText(" " + Hexdump.bytes(expected, Hexdump.ROW_LENGTH));
+    }
+  }
+
+  @Override
+  protected void describeMismatchSafely(
+      final ByteBuffer item, final Description mismatchDescription) {
+    final int offset = BufferMismatch.mismatch(expected, item);
+    if (item.remaining() != expected.remaining()) {
+      mismatchDescription.appendText(
+          "had " + item.remaining() + " remaining bytes instead of " + expected.remaining() + ", ");
+    }
+    mismatchDescription.appendText(
+        String.format("differed first at offset %d (0x%08x):", offset, offset));
+    Hexdump.appendDifference(mismatchDescription, expected, item, offset);
+  }
+}
@@ -0,0 +1,57 @@
+/*-
+ * -\-\-
+ * hamcrest-array
+ * --
+ * Copyright (C) 2016 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.hamcrest.array;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.ByteBuffer;
+import org.hamcrest.Matcher;
+
+/**
+ * Matchers for binary payloads in {@link ByteBuffer}s.
+ *
+ * <pre>{@code
+ * assertThat(codec.encode(message), byteBufferEqualTo(goldenFrame));
+ * }</pre>
+ */
+public final class ByteBufferMatchers {
+
+  private ByteBufferMatchers() {}
+
+  /**
+   * Creates a {@link Matcher} that matches a {@link ByteBuffer} whose remaining bytes are the same
+   * as the remaining bytes of {@code expected}, independent of their positions, byte orders and
+   * whether they are heap, direct or memory-mapped buffers. The buffers are compared in place,
+   * without copying them or changing their positions. The bytes of {@code expected} must not change
+   * while the matcher is used.
+   */
+  public static Matcher<ByteBuffer> byteBufferEqualTo(final ByteBuffer expected) {
+    return new ByteBufferMatcher(expected.duplicate());
+  }
+
+  /**
+   * Creates a {@link Matcher} that matches a {@link ByteBuffer} whose remaining bytes are the same
+   * as {@code expected}. The array is not copied and must not change while the matcher is used.
+   */
+  public static Matcher<ByteBuffer> byteBufferEqualTo(final byte[] expected) {
+    return new ByteBufferMatcher(ByteBuffer.wrap(requireNonNull(expected)));
+  }
+}
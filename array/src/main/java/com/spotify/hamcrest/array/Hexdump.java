@@ -0,0 +1,112 @@
+/*-
+ * -\-\-
+ * hamcrest-array
+ * --
+ * Copyright (C) 2016 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.hamcrest.array;
+
+import java.nio.ByteBuffer;
+import java.util.Objects;
+import org.hamcrest.Description;
+
+/**
+ * Renders the remaining bytes of buffers in the format of {@code hexdump -C}.
+ *
+ * <pre>
+ * 00000010  6f 72 6c 64 0a 00 00 00  00 00 00 00 00 00 00 00  |orld............|
+ * </pre>
+ */
+final class Hexdump {
+
+  static final int ROW_LENGTH = 16;
+  static final int CONTEXT_ROWS = 2;
+
+  private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+  private Hexdump() {}
+
+  /**
+   * Appends the rows around the row containing {@code offset}, at most {@value #CONTEXT_ROWS}
+   * before and after it. Rows that are the same in both buffers are rendered once, the others as
+   * the expected row prefixed with {@code -} followed by the actual row prefixed with {@code +}.
+   */
+  static void appendDifference(
+      final Description description,
+      final ByteBuffer expected,
+      final ByteBuffer actual,
+      final int offset) {
+    final int rows =
+        (Math.max(expected.remaining(), actual.remaining()) + ROW_LENGTH - 1) / ROW_LENGTH;
+    final int differingRow = offset / ROW_LENGTH;
+    final int last = Math.min(rows, differingRow + CONTEXT_ROWS + 1);
+    for (int row = Math.max(0, differingRow - CONTEXT_ROWS); row < last; row++) {
+      final String expectedRow = row(expected, row * ROW_LENGTH);
+      final String actualRow = row(actual, row * ROW_LENGTH);
+      if (Objects.equals(expectedRow, actualRow)) {
+        description.appendText("\n    " + expectedRow);
+      } else {
+        if (expectedRow != null) {
+          description.appendText("\n  - " + expectedRow);
+        }
+        if (actualRow != null) {
+          description.appendText("\n  + " + actualRow);
+        }
+      }
+    }
+  }
+
+  /**
+   * Renders the row of bytes starting at {@code offset}, relative to the position of the buffer, or
+   * returns null if the buffer has no remaining bytes at that offset.
+   */
+  static String row(final ByteBuffer buffer, final int offset) {
+    final int length = Math.min(ROW_LENGTH, buffer.remaining() - offset);
+    if (length <= 0) {
+      return null;
+    }
+
+    final StringBuilder hex = new StringBuilder(String.format("%08x ", offset));
+    final StringBuilder ascii = new StringBuilder(length);
+    for (int i = 0; i < ROW_LENGTH; i++) {
+      if (i == ROW_LENGTH / 2) {
+        hex.append(' ');
+      }
+      if (i < length) {
+        final int b = buffer.get(buffer.position() + offset + i) & 0xff;
+        hex.append(' ').append(HEX_DIGITS[b >> 4]).append(HEX_DIGITS[b & 0xf]);
+        ascii.append(b >= 0x20 && b < 0x7f ? (char) b : '.');
+      } else {
+        hex.append("   ");
+      }
+    }
+    return hex.append("  |").append(ascii).append('|').toString();
+  }
+
+  /** Renders up to {@code limit} remaining bytes as space separated hex digits. */
+  static String bytes(final ByteBuffer buffer, final int limit) {
+    final StringBuilder hex = new StringBuilder();
+    for (int i = 0; i < Math.min(limit, buffer.remaining()); i++) {
+      final int b = buffer.get(buffer.position() + i) & 0xff;
+      if (i > 0) {
+        hex.append(' ');
+      }
+      hex.append(HEX_DIGITS[b >> 4]).append(HEX_DIGITS[b & 0xf]);
+    }
+    return hex.toString();
+  }
+}
@@ -0,0 +1,167 @@
+/*-
+ * -\-\-
+ * hamcrest-array
+ * --
+ * Copyright (C) 2016 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.hamcrest.array;
+
+import java.lang.reflect.Array;
+import org.hamcrest.Description;
+import org.hamcrest.TypeSafeMatcher;
+
+/**
+ * Matches a primitive array against an expected one.
+ *
+ * <p>Matching doesn't box or allocate; the comparison is left to a {@link Comparison}, normally
+ * backed by {@link java.util.Arrays#equals} and {@link ArrayMismatch}. Both the description and the
+ * mismatch are bounded: the expected array is cut off after {@value #WINDOW} elements and a
+ * mismatch only shows the elements around the first difference, for example
+ *
+ * <pre>
+ * differed first at index 500:
+ *   expected [..., 496, 497, 498, 499, 500, 501, 502, 503, 504, ...]
+ *   but was  [..., 496, 497, 498, 499,  -1, 501, 502, 503, 504, ...]
+ * </pre>
+ */
+final class PrimitiveArrayMatcher<A> extends TypeSafeMatcher<A> {
+
+  static final int WINDOW = 9;
+
+  /** Compares an actual array to the expected one. */
+  interface Comparison<A> {
+
+    /**
+     * Returns the first index at which {@code actual} doesn't match {@code expected}, the length of
+     * the shorter array if it is a matching prefix of the other one, or -1 if they match.
+     */
+    int firstMismatch(A expected, A actual);
+  }
+
+  /** Formats the element of an array at an index. */
+  interface ElementFormat<A> {
+
+    String format(A array, int index);
+  }
+
+  private final String typeName;
+  private final A expected;
+  private final String relation;
+  private final Comparison<A> comparison;
+  private final ElementFormat<A> format;
+
+  PrimitiveArrayMatcher(
+      final Class<A> type,
+      final String typeName,
+      final A expected,
+      final String relation,
+      final Comparison<A> comparison,
+      final ElementFormat<A> format) {
+    super(type);
+    this.typeName = typeName;
+    this.expected = expected;
+    this.relation = relation;
+    this.comparison = comparison;
+    this.format = format;
+  }
+
+  @Override
+  protected boolean matchesSafely(final A item) {
+    return comparison.firstMismatch(expected, item) < 0;
+  }
+
+  @Override
+  public void describeTo(final Description description) {
+    final int length = Array.getLength(expected);
+    description.appendText(typeName);
+    if (length > WINDOW) {
+      description.appendText(" of length " + length);
+    }
+    description.appendText(" " + relation + " [");
+    for (int i = 0; i < Math.min(length, WINDOW); i++) {
+      if (i > 0) {
+        description.appendText(", ");
+      }
+      description.appendText(format.format(expected, i));
+    }
+    description.appendText(length > WINDOW ? ", ...]" : "]");
+  }
+
+  @Override
+  protected void describeMismatchSafely(final A item, final Description mismatchDescription) {
+    final int index = comparison.firstMismatch(expected, item);
+    final int expectedLength = Array.getLength(expected);
+    final int actualLength = Array.getLength(item);
+    if (expectedLength != actualLength) {
+      mismatchDescription.appendText(
+          "had length " + actualLength + " instead of " + expectedLength + ", ");
+    }
+    mismatchDescription.appendText("differed first at index " + index + ":");
+
+    final int from = Math.max(0, index - WINDOW / 2);
+    final int to = Math.min(Math.max(expectedLength, actualLength), from + WINDOW);
+    final String[] expectedElements = elements(expected, from, to);
+    final String[] actualElements = elements(item, from, to);
+    final int[] widths = new int[to - from];
+    for (int i = 0; i < widths.length; i++) {
+      widths[i] = Math.max(width(expectedElements[i]), width(actualElements[i]));
+    }
+
+    mismatchDescription.appendText("\n  expected ");
+    appendWindow(mismatchDescription, expectedElements, widths, from, expectedLength > to);
+    mismatchDescription.appendText("\n  but was  ");
+    appendWindow(mismatchDescription, actualElements, widths, from, actualLength > to);
+  }
+
+  private String[] elements(final A array, final int from, final int to) {
+    final int length = Array.getLength(array);
+    final String[] elements = new String[to - from];
+    for (int i = from; i < Math.min(length, to); i++) {
+      elements[i - from] = format.format(array, i);
+    }
+    return elements;
+  }
+
+  private static int width(final String element) {
+    return element == null ? 0 : element.length();
+  }
+
+  private static void appendWindow(
+      final Description description,
+      final String[] elements,
+      final int[] widths,
+      final int from,
+      final boolean more) {
+    final StringBuilder window = new StringBuilder("[");
+    if (from > 0) {
+      window.append("...");
+    }
+    for (int i = 0; i < elements.length && elements[i] != null; i++) {
+      if (window.length() > 1) {
+        window.append(", ");
+      }
+      for (int pad = elements[i].length(); pad < widths[i]; pad++) {
+        window.append(' ');
+      }
+      window.append(elements[i]);
+    }
+    if (more) {
+      window.append(", ...");
+    }
+    description.appendText(window.append(']').toString());
+  }
+}
@@ -0,0 +1,156 @@
+/*-
+ * -\-\-
+ * hamcrest-array
+ * --
+ * Copyright (C) 2016 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.hamcrest.array;
+
+import static com.spotify.hamcrest.array.ArrayMatchers.byteArrayEqualTo;
+import static com.spotify.hamcrest.array.ArrayMatchers.doubleArrayCloseTo;
+import static com.spotify.hamcrest.array.ArrayMatchers.doubleArrayEqualTo;
+import static com.spotify.hamcrest.array.ArrayMatchers.intArrayEqualTo;
+import static com.spotify.hamcrest.array.ArrayMatchers.longArrayEqualTo;
+import static com.spotify.hamcrest.perf.PerfMatchers.allocatesAtMost;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.junit.Assert.assertThat;
+
+import org.hamcrest.Matcher;
+import org.hamcrest.StringDescription;
+import org.junit.Test;
+
+public class ArrayMatchersTest {
+
+  private static final int[] LARGE = range(1_000_000);
+
+  @Test
+  public void testIntArrays() throws Exception {
+    assertThat(new int[] {1, 2, 3}, intArrayEqualTo(new int[] {1, 2, 3}));
+    assertThat(new int[] {1, 2, 4}, not(intArrayEqualTo(new int[] {1, 2, 3})));
+    assertThat(new int[] {1, 2}, not(intArrayEqualTo(new int[] {1, 2, 3})));
+    assertThat(new int[0], intArrayEqualTo(new int[0]));
+    assertThat(range(1_000_000), intArrayEqualTo(LARGE));
+  }
+
+  @Test
+  public void testLongArrays() throws Exception {
+    assertThat(new long[] {1L << 40}, longArrayEqualTo(new long[] {1L << 40}));
+    assertThat(new long[] {1L << 41}, not(longArrayEqualTo(new long[] {1L << 40})));
+  }
+
+  @Test
+  public void testDoubleArrays() throws Exception {
+    assertThat(new double[] {1.5, Double.NaN}, doubleArrayEqualTo(new double[] {1.5, Double.NaN}));
+    assertThat(new double[] {-0.0}, not(doubleArrayEqualTo(new double[] {0.0})));
+    assertThat(new double[] {0.1 + 0.2}, not(doubleArrayEqualTo(new double[] {0.3})));
+  }
+
+  @Test
+  public void testDoubleArraysWithTolerance() throws Exception {
+    final Matcher<double[]> sut = doubleArrayCloseTo(new double[] {0.3, 1.0, Double.NaN}, 1e-9);
+
+    assertThat(new double[] {0.1 + 0.2, 1.0, Double.NaN}, sut);
+    assertThat(new double[] {0.3, 1.1, Double.NaN}, not(sut));
+    assertThat(new double[] {0.3, 1.0, 0.0}, not(sut));
+    assertThat(new double[] {0.3, 1.0}, not(sut));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNegativeTolerance() throws Exception {
+    doubleArrayCloseTo(new double[0], -1);
+  }
+
+  @Test
+  public void testByteArrays() throws Exception {
+    assertThat(new byte[] {(byte) 0xca, (byte) 0xfe}, byteArrayEqualTo(new byte[] {-54, -2}));
+    assertThat(new byte[] {(byte) 0xca, (byte) 0xfe}, not(byteArrayEqualTo(new byte[] {-54})));
+  }
+
+  @Test
+  public void testMatchDoesNotAllocate() throws Exception {
+    final int[] actual = range(1_000);
+    final Matcher<int[]> sut = intArrayEqualTo(range(1_000));
+
+    assertThat(() -> sut.matches(actual), allocatesAtMost(0));
+  }
+
+  @Test
+  public void testMismatchFormatting() throws Exception {
+    final int[] actual = range(1_000_000);
+    actual[500] = -1;
+
+    final StringDescription description = new StringDescription();
+    intArrayEqualTo(LARGE).describeMismatch(actual, description);
+
+    assertThat(
+        description.toString(),
+        is(
+            "differed first at index 500:\n"
+                + "  expected [..., 496, 497, 498, 499, 500, 501, 502, 503, 504, ...]\n"
+                + "  but was  [..., 496, 497, 498, 499,  -1, 501, 502, 503, 504, ...]"));
+  }
+
+  @Test
+  public void testMismatchFormattingAtStart() throws Exception {
+    final StringDescription description = new StringDescription();
+    doubleArrayCloseTo(new double[] {1, 2, 3}, 0.01)
+        .describeMismatch(new double[] {1.5, 2, 3}, description);
+
+    assertThat(
+        description.toString(),
+        is(
+            "differed first at index 0:\n"
+                + "  expected [1.0, 2.0, 3.0]\n"
+                + "  but was  [1.5, 2.0, 3.0]"));
+  }
+
+  @Test
+  public void testMismatchFormattingDifferentLength() throws Exception {
+    final StringDescription description = new StringDescription();
+    byteArrayEqualTo(new byte[] {1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12})
+        .describeMismatch(new byte[] {1, 2, 3, 4, 5, 6, 7, 8}, description);
+
+    assertThat(
+        description.toString(),
+        is(
+            "had length 8 instead of 12, differed first at index 8:\n"
+                + "  expected [..., 0x05, 0x06, 0x07, 0x08, 0x09, 0x0a, 0x0b, 0x0c]\n"
+                + "  but was  [..., 0x05, 0x06, 0x07, 0x08]"));
+  }
+
+  @Test
+  public void testDescriptionFormatting() throws Exception {
+    assertThat(
+        StringDescription.toString(intArrayEqualTo(new int[] {1, 2, 3})),
+        is("an int[] equal to [1, 2, 3]"));
+    assertThat(
+        StringDescription.toString(intArrayEqualTo(LARGE)),
+        is("an int[] of length 1000000 equal to [0, 1, 2, 3, 4, 5, 6, 7, 8, ...]"));
+    assertThat(
+        StringDescription.toString(doubleArrayCloseTo(new double[] {0.5}, 0.001)),
+        is("a double[] with every element within 0.001 of [0.5]"));
+  }
+
+  private static int[] range(final int length) {
+    final int[] array = new int[length];
+    for (int i = 0; i < length; i++) {
+      array[i] = i;
+    }
+    return array;
+  }
+}
@@ -0,0 +1,88 @@
+/*-
+ * -\-\-
+ * hamcrest-array
+ * --
+ * Copyright (C) 2016 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.hamcrest.array;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.Random;
+import org.junit.Test;
+
+public class ArrayMismatchTest {
+
+  @Test
+  public void testEqual() throws Exception {
+    assertThat(ArrayMismatch.mismatch(new int[] {1, 2}, new int[] {1, 2}), is(-1));
+    assertThat(ArrayMismatch.scan(new int[] {1, 2}, new int[] {1, 2}), is(-1));
+    assertThat(ArrayMismatch.scan(new long[0], new long[0]), is(-1));
+    assertThat(ArrayMismatch.scan(new double[] {Double.NaN}, new double[] {Double.NaN}), is(-1));
+    assertThat(ArrayMismatch.scan(new byte[] {1}, new byte[] {1}), is(-1));
+  }
+
+  @Test
+  public void testPrefix() throws Exception {
+    assertThat(ArrayMismatch.mismatch(new long[] {1, 2}, new long[] {1, 2, 3}), is(2));
+    assertThat(ArrayMismatch.scan(new long[] {1, 2}, new long[] {1, 2, 3}), is(2));
+    assertThat(ArrayMismatch.scan(new byte[] {1, 2, 3}, new byte[0]), is(0));
+  }
+
+  @Test
+  public void testSignedZero() throws Exception {
+    assertThat(ArrayMismatch.mismatch(new double[] {1, 0.0}, new double[] {1, -0.0}), is(1));
+    assertThat(ArrayMismatch.scan(new double[] {1, 0.0}, new double[] {1, -0.0}), is(1));
+  }
+
+  @Test
+  public void testScanAgreesWithMismatch() throws Exception {
+    final Random random = new Random(42);
+    for (int n = 0; n < 100; n++) {
+      final int[] a = new int[random.nextInt(1000)];
+      final int[] b = new int[random.nextBoolean() ? a.length : random.nextInt(1000)];
+      if (b.length > 0 && random.nextBoolean()) {
+        b[random.nextInt(b.length)] = 1;
+      }
+      assertThat(ArrayMismatch.scan(a, b), is(ArrayMismatch.mismatch(a, b)));
+
+      final byte[] c = new byte[a.length];
+      final byte[] d = new byte[b.length];
+      if (d.length > 0) {
+        d[random.nextInt(d.length)] = 1;
+      }
+      assertThat(ArrayMismatch.scan(c, d), is(ArrayMismatch.mismatch(c, d)));
+    }
+  }
+
+  @Test
+  public void testTolerance() throws Exception {
+    final double[] expected = {1.0, 2.0, Double.NaN, Double.POSITIVE_INFINITY};
+
+    assertThat(
+        ArrayMismatch.mismatch(
+            expected, new double[] {1.05, 1.95, Double.NaN, Double.POSITIVE_INFINITY}, 0.1),
+        is(-1));
+    assertThat(
+        ArrayMismatch.mismatch(
+            expected, new double[] {1.0, 2.2, Double.NaN, Double.POSITIVE_INFINITY}, 0.1),
+        is(1));
+    assertThat(ArrayMismatch.mismatch(expected, new double[] {1.0, 2.0, 3.0, 4.0}, 0.1), is(2));
+    assertThat(ArrayMismatch.mismatch(expected, new double[] {1.0}, 0.1), is(1));
+  }
+}
@@ -0,0 +1,66 @@
+/*-
+ * -\-\-
+ * hamcrest-array
+ * --
+ * Copyright (C) 2016 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.hamcrest.array;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.nio.ByteBuffer;
+import java.util.Random;
+import org.junit.Test;
+
+public class BufferMismatchTest {
+
+  @Test
+  public void testRelativeToPositions() throws Exception {
+    final ByteBuffer a = ByteBuffer.wrap(new byte[] {9, 1, 2, 3});
+    final ByteBuffer b = ByteBuffer.wrap(new byte[] {1, 2, 4});
+    a.position(1);
+
+    assertThat(BufferMismatch.mismatch(a, b), is(2));
+    assertThat(BufferMismatch.scan(a, b), is(2));
+    assertThat(a.position(), is(1));
+    assertThat(b.position(), is(0));
+  }
+
+  @Test
+  public void testPrefix() throws Exception {
+    final ByteBuffer a = ByteBuffer.wrap(new byte[] {1, 2, 3});
+    final ByteBuffer b = ByteBuffer.wrap(new byte[] {1, 2});
+
+    assertThat(BufferMismatch.mismatch(a, b), is(2));
+    assertThat(BufferMismatch.scan(a, b), is(2));
+    assertThat(BufferMismatch.scan(b, b), is(-1));
+  }
+
+  @Test
+  public void testScanAgreesWithMismatch() throws Exception {
+    final Random random = new Random(42);
+    for (int n = 0; n < 100; n++) {
+      final ByteBuffer a = ByteBuffer.allocateDirect(random.nextInt(1000));
+      final ByteBuffer b = ByteBuffer.allocate(random.nextBoolean() ? a.capacity() : 1000);
+      if (b.capacity() > 0 && random.nextBoolean()) {
+        b.put(random.nextInt(b.capacity()), (byte) 1);
+      }
+      assertThat(BufferMismatch.scan(a, b), is(BufferMismatch.mismatch(a, b)));
+    }
+  }
+}
@@ -0,0 +1,137 @@
+/*-
+ * -\-\-
+ * hamcrest-array
+ * --
+ * Copyright (C) 2016 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.hamcrest.array;
+
+import static com.spotify.hamcrest.array.ByteBufferMatchers.byteBufferEqualTo;
+import static com.spotify.hamcrest.perf.PerfMatchers.allocatesAtMost;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.junit.Assert.assertThat;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import org.hamcrest.Matcher;
+import org.hamcrest.StringDescription;
+import org.junit.Test;
+
+public class ByteBufferMatchersTest {
+
+  private static final byte[] HELLO = "Hello, world".getBytes(StandardCharsets.US_ASCII);
+
+  @Test
+  public void testMatches() throws Exception {
+    final Matcher<ByteBuffer> sut = byteBufferEqualTo(HELLO);
+
+    assertThat(ByteBuffer.wrap(HELLO.clone()), sut);
+    assertThat(ByteBuffer.wrap("Hello, World".getBytes(StandardCharsets.US_ASCII)), not(sut));
+    assertThat(ByteBuffer.wrap(HELLO, 0, 5), not(sut));
+    assertThat(ByteBuffer.allocate(0), byteBufferEqualTo(new byte[0]));
+  }
+
+  @Test
+  public void testMatchesRemainingBytesInPlace() throws Exception {
+    final ByteBuffer direct = ByteBuffer.allocateDirect(20);
+    direct.put(new byte[] {1, 2, 3}).put(HELLO).flip().position(3);
+    final ByteBuffer expected = ByteBuffer.wrap(HELLO, 7, 5).slice();
+
+    assertThat(direct, byteBufferEqualTo(ByteBuffer.wrap(HELLO)));
+    assertThat(direct.position(), is(3));
+    assertThat(direct.limit(), is(15));
+
+    direct.position(10);
+    assertThat(direct, byteBufferEqualTo(expected));
+  }
+
+  @Test
+  public void testExpectedPositionIsCaptured() throws Exception {
+    final ByteBuffer expected = ByteBuffer.wrap(HELLO);
+    final Matcher<ByteBuffer> sut = byteBufferEqualTo(expected);
+    expected.position(5);
+
+    assertThat(ByteBuffer.wrap(HELLO), sut);
+  }
+
+  @Test
+  public void testMatchDoesNotAllocate() throws Exception {
+    final ByteBuffer actual = ByteBuffer.allocateDirect(4096);
+    final Matcher<ByteBuffer> sut = byteBufferEqualTo(new byte[4096]);
+
+    assertThat(() -> sut.matches(actual), allocatesAtMost(0));
+  }
+
+  @Test
+  public void testMismatchFormatting() throws Exception {
+    final byte[] actual = new byte[256];
+    for (int i = 0; i < actual.length; i++) {
+      actual[i] = (byte) i;
+    }
+    final byte[] expected = actual.clone();
+    expected[0x53] = 0;
+
+    final StringDescription description = new StringDescription();
+    byteBufferEqualTo(expected).describeMismatch(ByteBuffer.wrap(actual), description);
+
+    assertThat(
+        description.toString(),
+        is(
+            "differed first at offset 83 (0x00000053):\n"
+                + "    00000030  30 31 32 33 34 35 36 37  38 39 3a 3b 3c 3d 3e 3f  "
+                + "|0123456789:;<=>?|\n"
+                + "    00000040  40 41 42 43 44 45 46 47  48 49 4a 4b 4c 4d 4e 4f  "
+                + "|@ABCDEFGHIJKLMNO|\n"
+                + "  - 00000050  50 51 52 00 54 55 56 57  58 59 5a 5b 5c 5d 5e 5f  "
+                + "|PQR.TUVWXYZ[\\]^_|\n"
+                + "  + 00000050  50 51 52 53 54 55 56 57  58 59 5a 5b 5c 5d 5e 5f  "
+                + "|PQRSTUVWXYZ[\\]^_|\n"
+                + "    00000060  60 61 62 63 64 65 66 67  68 69 6a 6b 6c 6d 6e 6f  "
+                + "|`abcdefghijklmno|\n"
+                + "    00000070  70 71 72 73 74 75 76 77  78 79 7a 7b 7c 7d 7e 7f  "
+                + "|pqrstuvwxyz{|}~.|"));
+  }
+
+  @Test
+  public void testMismatchFormattingDifferentLength() throws Exception {
+    final StringDescription description = new StringDescription();
+    byteBufferEqualTo(HELLO).describeMismatch(ByteBuffer.wrap(HELLO, 0, 5), description);
+
+    assertThat(
+        description.toString(),
+        is(
+            "had 5 remaining bytes instead of 12, differed first at offset 5 (0x00000005):\n"
+                + "  - 00000000  48 65 6c 6c 6f 2c 20 77  6f 72 6c 64              |Hello, world|\n"
+                + "  + 00000000  48 65 6c 6c 6f                                    |Hello|"));
+  }
+
+  @Test
+  public void testDescriptionFormatting() throws Exception {
+    assertThat(
+        StringDescription.toString(byteBufferEqualTo(HELLO)),
+        is("a ByteBuffer with 12 remaining bytes 48 65 6c 6c 6f 2c 20 77 6f 72 6c 64"));
+    assertThat(
+        StringDescription.toString(byteBufferEqualTo(new byte[1 << 20])),
+        is(
+            "a ByteBuffer with 1048576 remaining bytes starting with"
+                + " 00 00 00 00 00 00 00 00 00 00 00 00 00 00 00 00"));
+    assertThat(
+        StringDescription.toString(byteBufferEqualTo(new byte[0])),
+        is("a ByteBuffer with 0 remaining bytes"));
+  }
+}
@@ -0,0 +1,65 @@
+/*-
+ * -\-\-
+ * hamcrest-array
+ * --
+ * Copyright (C) 2016 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.hamcrest.array;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import org.hamcrest.StringDescription;
+import org.junit.Test;
+
+public class HexdumpTest {
+
+  private static final ByteBuffer BUFFER =
+      ByteBuffer.wrap("\0\0Hello, world\nand more".getBytes(StandardCharsets.US_ASCII), 2, 21);
+
+  @Test
+  public void testRow() throws Exception {
+    assertThat(
+        Hexdump.row(BUFFER, 0),
+        is("00000000  48 65 6c 6c 6f 2c 20 77  6f 72 6c 64 0a 61 6e 64  |Hello, world.and|"));
+    assertThat(
+        Hexdump.row(BUFFER, 16),
+        is("00000010  20 6d 6f 72 65                                    | more|"));
+    assertThat(Hexdump.row(BUFFER, 32), is(nullValue()));
+  }
+
+  @Test
+  public void testBytes() throws Exception {
+    assertThat(Hexdump.bytes(BUFFER, 3), is("48 65 6c"));
+    assertThat(Hexdump.bytes(ByteBuffer.allocate(0), 3), is(""));
+  }
+
+  @Test
+  public void testDifferenceIsBounded() throws Exception {
+    final ByteBuffer expected = ByteBuffer.allocate(1 << 20);
+    final ByteBuffer actual = ByteBuffer.allocate(1 << 20);
+    actual.put(1 << 19, (byte) 1);
+
+    final StringDescription description = new StringDescription();
+    Hexdump.appendDifference(description, expected, actual, 1 << 19);
+
+    assertThat(description.toString().split("\n").length, is(2 * Hexdump.CONTEXT_ROWS + 3));
+  }
+}
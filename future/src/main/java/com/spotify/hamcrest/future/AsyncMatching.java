@@ -0,0 +1,197 @@
+/*-
+ * -\-\-
+ * hamcrest-future
+ * --
+ * Copyright (C) 2016 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.hamcrest.future;
+
+import static org.hamcrest.CoreMatchers.any;
+import static org.hamcrest.CoreMatchers.is;
+
+import com.spotify.hamcrest.util.MismatchTree;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import org.hamcrest.Matcher;
+
+/**
+ * Non-blocking counterparts of the "will complete" matchers in {@link CompletableFutureMatchers}.
+ *
+ * <p>Instead of waiting for a {@link CompletionStage} on the calling thread, these methods attach
+ * to the stage and return a stage of the {@link MatchResult}, which completes once the matched
+ * stage did. The matcher runs on the thread that completes the stage, or on the calling thread if
+ * the stage is already completed, so any number of assertions can be in flight without holding a
+ * thread each.
+ *
+ * <pre>{@code
+ * AsyncMatching.stageWillCompleteWithValueThat(client.fetch(id), is(expected))
+ *     .thenAccept(MatchResult::assertMatched);
+ * }</pre>
+ */
+public final class AsyncMatching {
+
+  private AsyncMatching() {}
+
+  /**
+   * Matches a {@link CompletionStage} against a matcher once it has completed, typically one of the
+   * non-blocking matchers in {@link CompletableFutureMatchers}.
+   *
+   * @param stage the stage to match.
+   * @param matcher the matcher to apply to the completed stage.
+   * @return a stage of the match result, completing after {@code stage}.
+   */
+  public static <S extends CompletionStage<?>> CompletionStage<MatchResult> whenComplete(
+      final S stage, final Matcher<? super S> matcher) {
+    final CompletableFuture<MatchResult> result = new CompletableFuture<>();
+    stage.whenComplete(
+        (value, throwable) -> {
+          try {
+            result.complete(MatchResult.of(matcher, stage));
+          } catch (Throwable t) {
+            result.completeExceptionally(t);
+          }
+        });
+    return result;
+  }
+
+  /**
+   * Like {@link #whenComplete(CompletionStage, Matcher)}, but gives up waiting for the stage after
+   * a timeout. The result is then the match of the still incomplete stage, which typically is a
+   * mismatch like {@code after 100 ms a stage that was not done}.
+   *
+   * <p>Timeouts are tracked on a shared timer with a coarse resolution of 10 ms by default, so any
+   * number of timed assertions can be pending without a thread or scheduled task each.
+   *
+   * @param stage the stage to match.
+   * @param matcher the matcher to apply to the stage.
+   * @param timeout how long to wait for the stage to complete.
+   * @return a stage of the match result, completing after {@code stage} or the timeout.
+   */
+  public static <S extends CompletionStage<?>> CompletionStage<MatchResult> whenComplete(
+      final S stage, final Matcher<? super S> matcher, final Duration timeout) {
+    final CompletableFuture<MatchResult> result = new CompletableFuture<>();
+    final WheelTimer.Timeout deadline =
+        WheelTimer.shared()
+            .schedule(
+                () -> Schedulers.worker().execute(() -> timedOut(result, stage, matcher, timeout)),
+                timeout.toNanos(),
+                TimeUnit.NANOSECONDS);
+    whenComplete(stage, matcher)
+        .whenComplete(
+            (match, throwable) -> {
+              deadline.cancel();
+              if (throwable == null) {
+                result.complete(match);
+              } else {
+                result.completeExceptionally(throwable);
+              }
+            });
+    return result;
+  }
+
+  private static <S> void timedOut(
+      final CompletableFuture<MatchResult> result,
+      final S stage,
+      final Matcher<? super S> matcher,
+      final Duration timeout) {
+    try {
+      final MatchResult match = MatchResult.of(matcher, stage);
+      if (match.matched()) {
+        // completed just in time
+        result.complete(match);
+      } else {
+        result.complete(
+            MatchResult.mismatched(
+                matcher,
+                MismatchTree.wrapping(
+                    "after " + timeout.toMillis() + " ms ", match.mismatch().get())));
+      }
+    } catch (Throwable t) {
+      result.completeExceptionally(t);
+    }
+  }
+
+  /**
+   * Matches when the {@link CompletionStage} completes with a value, without blocking.
+   *
+   * @see CompletableFutureMatchers#stageWillCompleteWithValue()
+   */
+  public static CompletionStage<MatchResult> stageWillCompleteWithValue(
+      final CompletionStage<?> stage) {
+    return whenComplete(stage, CompletableFutureMatchers.stageCompletedWithValue());
+  }
+
+  /**
+   * Matches when the {@link CompletionStage} completes with a value that matches the given Matcher,
+   * without blocking.
+   *
+   * @see CompletableFutureMatchers#stageWillCompleteWithValueThat(Matcher)
+   */
+  public static <T> CompletionStage<MatchResult> stageWillCompleteWithValueThat(
+      final CompletionStage<? extends T> stage, final Matcher<T> matcher) {
+    return whenComplete(stage, CompletableFutureMatchers.stageCompletedWithValueThat(matcher));
+  }
+
+  /**
+   * Matches when the {@link CompletionStage} completes within a timeout with a value that matches
+   * the given Matcher, without blocking.
+   *
+   * @see #whenComplete(CompletionStage, Matcher, Duration)
+   */
+  public static <T> CompletionStage<MatchResult> stageWillCompleteWithValueThat(
+      final CompletionStage<? extends T> stage, final Matcher<T> matcher, final Duration timeout) {
+    return whenComplete(
+        stage, CompletableFutureMatchers.stageCompletedWithValueThat(matcher), timeout);
+  }
+
+  /**
+   * Matches when the {@link CompletionStage} completes with an exception, without blocking.
+   *
+   * @see CompletableFutureMatchers#stageWillCompleteWithException()
+   */
+  public static CompletionStage<MatchResult> stageWillCompleteWithException(
+      final CompletionStage<?> stage) {
+    return stageWillCompleteWithExceptionThat(stage, is(any(Throwable.class)));
+  }
+
+  /**
+   * Matches when the {@link CompletionStage} completes with an exception that matches the given
+   * Matcher, without blocking.
+   *
+   * @see CompletableFutureMatchers#stageWillCompleteWithExceptionThat(Matcher)
+   */
+  public static CompletionStage<MatchResult> stageWillCompleteWithExceptionThat(
+      final CompletionStage<?> stage, final Matcher<? extends Throwable> matcher) {
+    return whenComplete(stage, CompletableFutureMatchers.stageCompletedWithExceptionThat(matcher));
+  }
+
+  /**
+   * Matches when the {@link CompletionStage} completes within a timeout with an exception that
+   * matches the given Matcher, without blocking.
+   *
+   * @see #whenComplete(CompletionStage, Matcher, Duration)
+   */
+  public static CompletionStage<MatchResult> stageWillCompleteWithExceptionThat(
+      final CompletionStage<?> stage,
+      final Matcher<? extends Throwable> matcher,
+      final Duration timeout) {
+    return whenComplete(
+        stage, CompletableFutureMatchers.stageCompletedWithExceptionThat(matcher), timeout);
+  }
+}
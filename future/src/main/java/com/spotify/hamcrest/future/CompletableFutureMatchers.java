@@ -24,6 +24,7 @@ import static org.hamcrest.CoreMatchers.any;
 import static org.hamcrest.CoreMatchers.anything;
 import static org.hamcrest.CoreMatchers.is;
 
+import java.time.Duration;
 import java.util.concurrent.CompletionStage;
 import org.hamcrest.Matcher;
 
@@ -96,6 +97,35 @@ public final class CompletableFutureMatchers {
     return new SuccessfullyCompletedBlockingCompletionStage<>(matcher);
   }
 
+  /**
+   * Creates a {@link Matcher} that matches when the {@link CompletionStage} completes with a value
+   * within the given time budget.
+   *
+   * <p>The latency is measured from when the matcher first sees the stage until it completes, so a
+   * stage that has already completed takes no time. It is included in the mismatch description.
+   *
+   * <p><strong>If the {@link CompletionStage} has not yet completed, this matcher waits for it for
+   * at most the budget.</strong>
+   */
+  public static Matcher<CompletionStage<?>> stageWillCompleteWithValue(final Duration budget) {
+    return stageWillCompleteWithValueThat(anything(), budget);
+  }
+
+  /**
+   * Creates a {@link Matcher} that matches when the {@link CompletionStage} completes within the
+   * given time budget with a value that matches the given Matcher.
+   *
+   * <p>The latency is measured from when the matcher first sees the stage until it completes, so a
+   * stage that has already completed takes no time. It is included in the mismatch description.
+   *
+   * <p><strong>If the {@link CompletionStage} has not yet completed, this matcher waits for it for
+   * at most the budget.</strong>
+   */
+  public static <T> Matcher<CompletionStage<? extends T>> stageWillCompleteWithValueThat(
+      final Matcher<T> matcher, final Duration budget) {
+    return new SuccessfullyCompletedWithinCompletionStage<>(matcher, budget);
+  }
+
   /**
    * Creates a {@link Matcher} that matches when the {@link CompletionStage} completes with an
    * exception.
@@ -0,0 +1,217 @@
+/*-
+ * -\-\-
+ * hamcrest-future
+ * --
+ * Copyright (C) 2016 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.hamcrest.future;
+
+import static java.util.Objects.requireNonNull;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import com.spotify.hamcrest.util.MismatchTree;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.hamcrest.Matcher;
+import org.hamcrest.SelfDescribing;
+
+/**
+ * Polls a value until it matches, for state that converges eventually like caches, queues or
+ * replicated stores.
+ *
+ * <p>Attempts are scheduled according to a {@link PollPolicy} on a shared timer and run on a shared
+ * pool of daemon threads, so no thread sleeps between attempts. When the deadline passes without a
+ * match, the result reports the number of attempts and the mismatch of the last one.
+ *
+ * <pre>{@code
+ * assertEventually(cache::size, is(3), PollPolicy.timeout(Duration.ofSeconds(5)));
+ * }</pre>
+ */
+public final class Eventually {
+
+  private Eventually() {}
+
+  /**
+   * Polls a value until it matches a matcher or the policy's deadline passes. Exceptions thrown by
+   * the supplier count as failed attempts.
+   *
+   * @param supplier supplies the value to match on every attempt.
+   * @param matcher the matcher the value should eventually match.
+   * @param policy the deadline and delays between attempts.
+   * @return a stage of the result, completing after the first matching attempt or the deadline.
+   */
+  public static <T> CompletionStage<MatchResult> eventually(
+      final Supplier<? extends T> supplier,
+      final Matcher<? super T> matcher,
+      final PollPolicy policy) {
+    return poll(
+        supplier,
+        matcher,
+        policy,
+        Schedulers.worker(),
+        (attempt, delayNanos) ->
+            WheelTimer.shared()
+                .schedule(() -> Schedulers.worker().execute(attempt), delayNanos, NANOSECONDS));
+  }
+
+  /**
+   * Like {@link #eventually(Supplier, Matcher, PollPolicy)}, polling on the given executor.
+   *
+   * @param supplier supplies the value to match on every attempt.
+   * @param matcher the matcher the value should eventually match.
+   * @param policy the deadline and delays between attempts.
+   * @param executor runs the attempts.
+   * @return a stage of the result, completing after the first matching attempt or the deadline.
+   */
+  public static <T> CompletionStage<MatchResult> eventually(
+      final Supplier<? extends T> supplier,
+      final Matcher<? super T> matcher,
+      final PollPolicy policy,
+      final ScheduledExecutorService executor) {
+    requireNonNull(executor);
+    return poll(
+        supplier,
+        matcher,
+        policy,
+        executor,
+        (attempt, delayNanos) -> executor.schedule(attempt, delayNanos, NANOSECONDS));
+  }
+
+  /**
+   * Waits until a value matches a matcher, failing with the mismatch of the last attempt once the
+   * policy's deadline passes.
+   *
+   * @param supplier supplies the value to match on every attempt.
+   * @param matcher the matcher the value should eventually match.
+   * @param policy the deadline and delays between attempts.
+   * @throws AssertionError if the value did not match before the deadline.
+   */
+  public static <T> void assertEventually(
+      final Supplier<? extends T> supplier,
+      final Matcher<? super T> matcher,
+      final PollPolicy policy) {
+    final MatchResult result;
+    try {
+      result = eventually(supplier, matcher, policy).toCompletableFuture().get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new AssertionError("Interrupted while polling", e);
+    } catch (ExecutionException e) {
+      throw new AssertionError("Polling failed", e.getCause());
+    }
+    result.assertMatched();
+  }
+
+  private static <T> CompletionStage<MatchResult> poll(
+      final Supplier<? extends T> supplier,
+      final Matcher<? super T> matcher,
+      final PollPolicy policy,
+      final Executor executor,
+      final Delayer delayer) {
+    final Poll<T> poll =
+        new Poll<>(
+            requireNonNull(supplier), requireNonNull(matcher), requireNonNull(policy), delayer);
+    executor.execute(poll);
+    return poll.result;
+  }
+
+  /** Runs an attempt after a delay. */
+  private interface Delayer {
+
+    void schedule(Runnable attempt, long delayNanos);
+  }
+
+  private static final class Poll<T> implements Runnable {
+
+    private final Supplier<? extends T> supplier;
+    private final Matcher<? super T> matcher;
+    private final PollPolicy policy;
+    private final Delayer delayer;
+    private final SelfDescribing expected;
+    private final CompletableFuture<MatchResult> result = new CompletableFuture<>();
+    private final long start = System.nanoTime();
+
+    // only accessed by the attempts, which happen one after the other
+    private int attempts;
+    private MismatchTree lastMismatch;
+
+    Poll(
+        final Supplier<? extends T> supplier,
+        final Matcher<? super T> matcher,
+        final PollPolicy policy,
+        final Delayer delayer) {
+      this.supplier = supplier;
+      this.matcher = matcher;
+      this.policy = policy;
+      this.delayer = delayer;
+      this.expected =
+          description -> description.appendText("eventually ").appendDescriptionOf(matcher);
+    }
+
+    @Override
+    public void run() {
+      if (result.isDone()) {
+        // cancelled by the caller
+        return;
+      }
+      try {
+        attempt();
+      } catch (Throwable t) {
+        result.completeExceptionally(t);
+      }
+    }
+
+    private void attempt() {
+      attempts++;
+      try {
+        final T value = supplier.get();
+        if (matcher.matches(value)) {
+          result.complete(MatchResult.matched(expected));
+          return;
+        }
+        lastMismatch = MismatchTree.of(matcher, value);
+      } catch (RuntimeException e) {
+        lastMismatch =
+            MismatchTree.leaf("threw " + e.getClass().getCanonicalName() + ": " + e.getMessage());
+      }
+
+      final long elapsed = System.nanoTime() - start;
+      final long remaining = policy.timeout().toNanos() - elapsed;
+      if (remaining > 0) {
+        delayer.schedule(this, Math.min(policy.delayNanos(attempts), remaining));
+      } else {
+        // describe the last value now, it may still change after polling stopped
+        final MismatchTree described = lastMismatch.resolve();
+        result.complete(
+            MatchResult.mismatched(
+                expected,
+                MismatchTree.wrapping(
+                    "after "
+                        + attempts
+                        + " attempts in "
+                        + TimeUnit.NANOSECONDS.toMillis(elapsed)
+                        + " ms the last attempt ",
+                    described)));
+      }
+    }
+  }
+}
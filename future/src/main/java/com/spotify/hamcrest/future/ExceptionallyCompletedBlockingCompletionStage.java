@@ -20,10 +20,9 @@
 
 package com.spotify.hamcrest.future;
 
+import com.spotify.hamcrest.util.MismatchTree;
 import java.util.Objects;
-import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletionStage;
-import java.util.concurrent.ExecutionException;
 import org.hamcrest.Description;
 import org.hamcrest.Matcher;
 import org.hamcrest.TypeSafeDiagnosingMatcher;
@@ -37,6 +36,7 @@ class ExceptionallyCompletedBlockingCompletionStage
     extends TypeSafeDiagnosingMatcher<CompletionStage<?>> {
 
   private final Matcher<? extends Throwable> matcher;
+  private final StageOutcomes outcomes = new StageOutcomes();
 
   ExceptionallyCompletedBlockingCompletionStage(final Matcher<? extends Throwable> matcher) {
     this.matcher = Objects.requireNonNull(matcher);
@@ -45,26 +45,31 @@ class ExceptionallyCompletedBlockingCompletionStage
   @Override
   protected boolean matchesSafely(
       final CompletionStage<?> stage, final Description mismatchDescription) {
+    final StageOutcome outcome = outcomes.of(stage);
     try {
-      final Object item = stage.toCompletableFuture().get();
-      mismatchDescription
-          .appendText("a stage that completed with a value that was ")
-          .appendValue(item);
-      return false;
+      outcome.await();
     } catch (InterruptedException e) {
       mismatchDescription.appendText("a stage that was interrupted");
       return false;
-    } catch (CancellationException e) {
+    }
+
+    if (outcome.isCancelled()) {
       mismatchDescription.appendText("a stage that was cancelled");
       return false;
-    } catch (ExecutionException e) {
-      if (matcher.matches(e.getCause())) {
+    } else if (outcome.isCompletedExceptionally()) {
+      final Throwable failure = outcome.failure();
+      if (matcher.matches(failure)) {
         return true;
       } else {
-        mismatchDescription.appendText("a stage completed exceptionally with ");
-        matcher.describeMismatch(e.getCause(), mismatchDescription);
+        MismatchTree.wrapping(
+                "a stage completed exceptionally with ", MismatchTree.of(matcher, failure))
+            .appendTo(mismatchDescription);
         return false;
       }
+    } else {
+      MismatchTree.leaf("a stage that completed with a value that was ", outcome.value())
+          .appendTo(mismatchDescription);
+      return false;
     }
   }
 
@@ -20,6 +20,7 @@
 
 package com.spotify.hamcrest.future;
 
+import com.spotify.hamcrest.util.MismatchTree;
 import java.util.Objects;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.ExecutionException;
@@ -44,9 +45,8 @@ class ExceptionallyCompletedBlockingFuture<T> extends TypeSafeDiagnosingMatcher<
   protected boolean matchesSafely(final Future<T> future, final Description mismatchDescription) {
     try {
       final T item = future.get();
-      mismatchDescription
-          .appendText("a future that completed to a value that was ")
-          .appendValue(item);
+      MismatchTree.leaf("a future that completed to a value that was ", item)
+          .appendTo(mismatchDescription);
       return false;
     } catch (InterruptedException e) {
       mismatchDescription.appendText("a future that was interrupted");
@@ -58,8 +58,9 @@ class ExceptionallyCompletedBlockingFuture<T> extends TypeSafeDiagnosingMatcher<
       if (matcher.matches(e.getCause())) {
         return true;
       } else {
-        mismatchDescription.appendText("a future completed exceptionally with ");
-        matcher.describeMismatch(e.getCause(), mismatchDescription);
+        MismatchTree.wrapping(
+                "a future completed exceptionally with ", MismatchTree.of(matcher, e.getCause()))
+            .appendTo(mismatchDescription);
         return false;
       }
     }
@@ -20,9 +20,8 @@
 
 package com.spotify.hamcrest.future;
 
+import com.spotify.hamcrest.util.MismatchTree;
 import java.util.Objects;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
 import org.hamcrest.Description;
 import org.hamcrest.Matcher;
@@ -35,6 +34,7 @@ import org.hamcrest.TypeSafeDiagnosingMatcher;
 class ExceptionallyCompletedCompletionStage extends TypeSafeDiagnosingMatcher<CompletionStage<?>> {
 
   private final Matcher<? extends Throwable> matcher;
+  private final StageOutcomes outcomes = new StageOutcomes();
 
   ExceptionallyCompletedCompletionStage(final Matcher<? extends Throwable> matcher) {
     this.matcher = Objects.requireNonNull(matcher);
@@ -43,29 +43,24 @@ class ExceptionallyCompletedCompletionStage extends TypeSafeDiagnosingMatcher<Co
   @Override
   protected boolean matchesSafely(
       final CompletionStage<?> stage, final Description mismatchDescription) {
-    final CompletableFuture<?> future = stage.toCompletableFuture();
-    if (future.isDone()) {
-      if (future.isCancelled()) {
+    final StageOutcome outcome = outcomes.of(stage);
+    if (outcome.isDone()) {
+      if (outcome.isCancelled()) {
         mismatchDescription.appendText("a stage that was cancelled");
         return false;
-      } else if (future.isCompletedExceptionally()) {
-        try {
-          future.getNow(null);
-          throw new AssertionError(
-              "This should never happen because the stage completed exceptionally.");
-        } catch (CompletionException e) {
-          if (matcher.matches(e.getCause())) {
-            return true;
-          } else {
-            mismatchDescription.appendText("a stage completed exceptionally with ");
-            matcher.describeMismatch(e.getCause(), mismatchDescription);
-            return false;
-          }
+      } else if (outcome.isCompletedExceptionally()) {
+        final Throwable failure = outcome.failure();
+        if (matcher.matches(failure)) {
+          return true;
+        } else {
+          MismatchTree.wrapping(
+                  "a stage completed exceptionally with ", MismatchTree.of(matcher, failure))
+              .appendTo(mismatchDescription);
+          return false;
         }
       } else {
-        mismatchDescription
-            .appendText("a stage that completed to a value that was ")
-            .appendValue(future.getNow(null));
+        MismatchTree.leaf("a stage that completed to a value that was ", outcome.value())
+            .appendTo(mismatchDescription);
         return false;
       }
     } else {
@@ -20,6 +20,7 @@
 
 package com.spotify.hamcrest.future;
 
+import com.spotify.hamcrest.util.MismatchTree;
 import java.util.Objects;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
@@ -54,17 +55,17 @@ class ExceptionallyCompletedFuture<T> extends TypeSafeDiagnosingMatcher<Future<T
           if (matcher.matches(cause)) {
             return true;
           } else {
-            mismatchDescription.appendText("a future completed exceptionally with ");
-            matcher.describeMismatch(cause, mismatchDescription);
+            MismatchTree.wrapping(
+                    "a future completed exceptionally with ", MismatchTree.of(matcher, cause))
+                .appendTo(mismatchDescription);
             return false;
           }
         } catch (InterruptedException e) {
           throw new AssertionError("This should never happen because the future is completed.");
         }
 
-        mismatchDescription
-            .appendText("a future that completed to a value that was ")
-            .appendValue(value);
+        MismatchTree.leaf("a future that completed to a value that was ", value)
+            .appendTo(mismatchDescription);
         return false;
       }
     } else {
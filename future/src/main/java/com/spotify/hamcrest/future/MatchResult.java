@@ -0,0 +1,104 @@
+/*-
+ * -\-\-
+ * hamcrest-future
+ * --
+ * Copyright (C) 2016 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.hamcrest.future;
+
+import static java.util.Objects.requireNonNull;
+
+import com.spotify.hamcrest.util.MismatchTree;
+import java.util.Optional;
+import org.hamcrest.Matcher;
+import org.hamcrest.SelfDescribing;
+import org.hamcrest.StringDescription;
+
+/**
+ * The outcome of matching a value against a {@link Matcher}, as produced by {@link AsyncMatching}.
+ *
+ * <p>Descriptions are only rendered when asked for, so keeping many results around is cheap.
+ */
+public final class MatchResult {
+
+  private final SelfDescribing expected;
+  private final MismatchTree mismatch;
+
+  private MatchResult(final SelfDescribing expected, final MismatchTree mismatch) {
+    this.expected = expected;
+    this.mismatch = mismatch;
+  }
+
+  /**
+   * Matches a value against a matcher.
+   *
+   * @param matcher the matcher.
+   * @param actual the value to match.
+   * @return the match result.
+   */
+  public static <T> MatchResult of(final Matcher<? super T> matcher, final T actual) {
+    return matcher.matches(actual)
+        ? new MatchResult(matcher, null)
+        : new MatchResult(matcher, MismatchTree.of(matcher, actual));
+  }
+
+  static MatchResult matched(final SelfDescribing expected) {
+    return new MatchResult(requireNonNull(expected), null);
+  }
+
+  static MatchResult mismatched(final SelfDescribing expected, final MismatchTree mismatch) {
+    return new MatchResult(requireNonNull(expected), requireNonNull(mismatch));
+  }
+
+  /** Whether the value matched. */
+  public boolean matched() {
+    return mismatch == null;
+  }
+
+  /** The description of what was expected. */
+  public String expected() {
+    return StringDescription.toString(expected);
+  }
+
+  /** The mismatch, if the value did not match. */
+  public Optional<MismatchTree> mismatch() {
+    return Optional.ofNullable(mismatch);
+  }
+
+  /**
+   * Throws an {@link AssertionError} with the same message as {@link
+   * org.hamcrest.MatcherAssert#assertThat(Object, Matcher)} if the value did not match.
+   */
+  public void assertMatched() {
+    if (!matched()) {
+      throw new AssertionError(toString());
+    }
+  }
+
+  @Override
+  public String toString() {
+    if (matched()) {
+      return "Matched: " + expected();
+    }
+    return new StringDescription()
+        .appendText("\nExpected: ")
+        .appendDescriptionOf(expected)
+        .appendText("\n     but: ")
+        .appendDescriptionOf(mismatch)
+        .toString();
+  }
+}
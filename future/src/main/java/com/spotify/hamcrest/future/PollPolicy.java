@@ -0,0 +1,150 @@
+/*-
+ * -\-\-
+ * hamcrest-future
+ * --
+ * Copyright (C) 2016 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.hamcrest.future;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * How {@link Eventually} polls: the overall deadline and the exponential backoff between attempts.
+ *
+ * <p>After the n-th failed attempt the next one is scheduled after {@code initialDelay *
+ * multiplier^(n-1)}, capped at {@code maxDelay}, and varied randomly by up to {@code jitter} of
+ * that delay in either direction so that many pollers don't hit a shared resource in lockstep. The
+ * last attempt is made at the deadline.
+ *
+ * <pre>{@code
+ * PollPolicy.timeout(Duration.ofSeconds(5)).withInitialDelay(Duration.ofMillis(50)).withJitter(0)
+ * }</pre>
+ */
+public final class PollPolicy {
+
+  private static final Duration DEFAULT_INITIAL_DELAY = Duration.ofMillis(10);
+  private static final Duration DEFAULT_MAX_DELAY = Duration.ofSeconds(1);
+  private static final double DEFAULT_MULTIPLIER = 2;
+  private static final double DEFAULT_JITTER = 0.2;
+
+  private final Duration timeout;
+  private final Duration initialDelay;
+  private final Duration maxDelay;
+  private final double multiplier;
+  private final double jitter;
+
+  private PollPolicy(
+      final Duration timeout,
+      final Duration initialDelay,
+      final Duration maxDelay,
+      final double multiplier,
+      final double jitter) {
+    if (timeout.isNegative()) {
+      throw new IllegalArgumentException("timeout must not be negative: " + timeout);
+    }
+    if (initialDelay.isNegative()) {
+      throw new IllegalArgumentException("initialDelay must not be negative: " + initialDelay);
+    }
+    if (maxDelay.isNegative()) {
+      throw new IllegalArgumentException("maxDelay must not be negative: " + maxDelay);
+    }
+    if (!(multiplier >= 1)) {
+      throw new IllegalArgumentException("multiplier must be at least 1: " + multiplier);
+    }
+    if (!(jitter >= 0 && jitter <= 1)) {
+      throw new IllegalArgumentException("jitter must be between 0 and 1: " + jitter);
+    }
+    this.timeout = timeout;
+    this.initialDelay = initialDelay;
+    this.maxDelay = maxDelay;
+    this.multiplier = multiplier;
+    this.jitter = jitter;
+  }
+
+  /**
+   * Creates a policy that polls for at most {@code timeout}, starting with a delay of 10 ms that
+   * doubles after every attempt up to 1 s, with 20% jitter.
+   */
+  public static PollPolicy timeout(final Duration timeout) {
+    return new PollPolicy(
+        requireNonNull(timeout),
+        DEFAULT_INITIAL_DELAY,
+        DEFAULT_MAX_DELAY,
+        DEFAULT_MULTIPLIER,
+        DEFAULT_JITTER);
+  }
+
+  /** Returns a copy of this policy with a different delay after the first attempt. */
+  public PollPolicy withInitialDelay(final Duration initialDelay) {
+    return new PollPolicy(timeout, requireNonNull(initialDelay), maxDelay, multiplier, jitter);
+  }
+
+  /** Returns a copy of this policy with a different maximum delay between attempts. */
+  public PollPolicy withMaxDelay(final Duration maxDelay) {
+    return new PollPolicy(timeout, initialDelay, requireNonNull(maxDelay), multiplier, jitter);
+  }
+
+  /** Returns a copy of this policy with a different factor the delay grows by per attempt. */
+  public PollPolicy withMultiplier(final double multiplier) {
+    return new PollPolicy(timeout, initialDelay, maxDelay, multiplier, jitter);
+  }
+
+  /**
+   * Returns a copy of this policy with a different jitter, the fraction between 0 and 1 by which a
+   * delay is randomly varied.
+   */
+  public PollPolicy withJitter(final double jitter) {
+    return new PollPolicy(timeout, initialDelay, maxDelay, multiplier, jitter);
+  }
+
+  Duration timeout() {
+    return timeout;
+  }
+
+  /**
+   * The delay in nanoseconds before the next attempt.
+   *
+   * @param attempts the number of attempts made so far, at least 1.
+   */
+  long delayNanos(final int attempts) {
+    final double delay =
+        Math.min(
+            initialDelay.toNanos() * Math.pow(multiplier, attempts - 1),
+            (double) maxDelay.toNanos());
+    final double jittered =
+        jitter == 0 ? delay : delay * (1 + jitter * ThreadLocalRandom.current().nextDouble(-1, 1));
+    return (long) jittered;
+  }
+
+  @Override
+  public String toString() {
+    return "PollPolicy{timeout="
+        + timeout
+        + ", initialDelay="
+        + initialDelay
+        + ", maxDelay="
+        + maxDelay
+        + ", multiplier="
+        + multiplier
+        + ", jitter="
+        + jitter
+        + "}";
+  }
+}
@@ -0,0 +1,56 @@
+/*-
+ * -\-\-
+ * hamcrest-future
+ * --
+ * Copyright (C) 2016 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.hamcrest.future;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/** Executors shared by all matchers in this package, created on first use. */
+final class Schedulers {
+
+  private Schedulers() {}
+
+  /**
+   * The executor with daemon threads that runs work handed off from the {@link WheelTimer}, like
+   * the attempts of {@link Eventually}.
+   */
+  static ExecutorService worker() {
+    return WorkerHolder.WORKER;
+  }
+
+  private static final class WorkerHolder {
+
+    static final ExecutorService WORKER = createWorker();
+
+    private static ExecutorService createWorker() {
+      final AtomicInteger threads = new AtomicInteger();
+      return Executors.newFixedThreadPool(
+          Math.max(2, Runtime.getRuntime().availableProcessors()),
+          runnable -> {
+            final Thread thread =
+                new Thread(runnable, "hamcrest-worker-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+          });
+    }
+  }
+}
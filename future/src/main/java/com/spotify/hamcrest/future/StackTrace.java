@@ -0,0 +1,118 @@
+/*-
+ * -\-\-
+ * hamcrest-future
+ * --
+ * Copyright (C) 2016 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.hamcrest.future;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import org.hamcrest.Description;
+import org.hamcrest.SelfDescribing;
+
+/**
+ * The stack trace of a {@link Throwable}, rendered like {@link Throwable#printStackTrace()} but
+ * only once it is described. A mismatch that is never materialized, for example when matching
+ * through {@code not(...)}, never walks the stack.
+ *
+ * <p>Frames that a cause has in common with the exception it caused are collapsed into {@code ... n
+ * more}, as in the JDK. Additionally at most {@value #DEFAULT_MAX_FRAMES} frames per exception and
+ * {@value #DEFAULT_MAX_CAUSES} causes are rendered. The limits can be changed with the {@value
+ * #MAX_FRAMES_PROPERTY} and {@value #MAX_CAUSES_PROPERTY} system properties. Suppressed exceptions
+ * are listed without their stack traces.
+ */
+final class StackTrace implements SelfDescribing {
+
+  static final String MAX_FRAMES_PROPERTY = "com.spotify.hamcrest.future.stackTraceMaxFrames";
+  static final String MAX_CAUSES_PROPERTY = "com.spotify.hamcrest.future.stackTraceMaxCauses";
+  static final int DEFAULT_MAX_FRAMES = 50;
+  static final int DEFAULT_MAX_CAUSES = 10;
+
+  private final Throwable throwable;
+  private final int maxFrames;
+  private final int maxCauses;
+
+  StackTrace(final Throwable throwable) {
+    this(
+        throwable,
+        Integer.getInteger(MAX_FRAMES_PROPERTY, DEFAULT_MAX_FRAMES),
+        Integer.getInteger(MAX_CAUSES_PROPERTY, DEFAULT_MAX_CAUSES));
+  }
+
+  StackTrace(final Throwable throwable, final int maxFrames, final int maxCauses) {
+    this.throwable = throwable;
+    this.maxFrames = maxFrames;
+    this.maxCauses = maxCauses;
+  }
+
+  @Override
+  public void describeTo(final Description description) {
+    final StringBuilder out = new StringBuilder();
+    final Set<Throwable> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+    StackTraceElement[] enclosingTrace = new StackTraceElement[0];
+    Throwable current = throwable;
+
+    for (int depth = 0; current != null; depth++) {
+      if (depth > maxCauses) {
+        out.append("Caused by: ... ").append(remainingCauses(current, seen)).append(" more\n");
+        break;
+      }
+      if (!seen.add(current)) {
+        out.append("Caused by: [CIRCULAR REFERENCE: ").append(current).append("]\n");
+        break;
+      }
+
+      out.append(depth == 0 ? "" : "Caused by: ").append(current).append('\n');
+
+      final StackTraceElement[] trace = current.getStackTrace();
+      int unique = trace.length;
+      int enclosing = enclosingTrace.length;
+      while (unique > 0
+          && enclosing > 0
+          && trace[unique - 1].equals(enclosingTrace[enclosing - 1])) {
+        unique--;
+        enclosing--;
+      }
+
+      final int shown = Math.min(unique, maxFrames);
+      for (int i = 0; i < shown; i++) {
+        out.append("\tat ").append(trace[i]).append('\n');
+      }
+      if (shown < trace.length) {
+        out.append("\t... ").append(trace.length - shown).append(" more\n");
+      }
+      for (Throwable suppressed : current.getSuppressed()) {
+        out.append("\tSuppressed: ").append(suppressed).append('\n');
+      }
+
+      enclosingTrace = trace;
+      current = current.getCause();
+    }
+
+    description.appendText(out.toString());
+  }
+
+  private static int remainingCauses(final Throwable from, final Set<Throwable> seen) {
+    int remaining = 0;
+    for (Throwable cause = from; cause != null && seen.add(cause); cause = cause.getCause()) {
+      remaining++;
+    }
+    return remaining;
+  }
+}
@@ -0,0 +1,137 @@
+/*-
+ * -\-\-
+ * hamcrest-future
+ * --
+ * Copyright (C) 2016 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.hamcrest.future;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The outcome of a {@link CompletionStage}, observed through {@link
+ * CompletionStage#handle(java.util.function.BiFunction)} instead of {@link
+ * CompletionStage#toCompletableFuture()}, which some stages don't support or implement by creating
+ * a new future on every call. Reading the outcome never throws the failure of the stage.
+ *
+ * <p>Every matcher keeps the outcomes of the stages it observed in {@link StageOutcomes}, so its
+ * latency and time budget are measured from when that matcher first saw the stage.
+ */
+final class StageOutcome {
+
+  private final CountDownLatch completed = new CountDownLatch(1);
+  private final long observedAt = System.nanoTime();
+  private final boolean completedWhenObserved;
+  // written before the latch is released, which publishes them
+  private Object value;
+  private Throwable failure;
+  private long completedAt;
+
+  private StageOutcome(final boolean completedWhenObserved) {
+    this.completedWhenObserved = completedWhenObserved;
+  }
+
+  /**
+   * Subscribes to a stage. The latency is measured from now on, unless the stage is known to have
+   * completed already.
+   */
+  static StageOutcome observe(final CompletionStage<?> stage, final boolean completedWhenObserved) {
+    final StageOutcome outcome = new StageOutcome(completedWhenObserved);
+    // unlike whenComplete, handle completes the stage it returns normally, so a failed stage
+    // doesn't cost a CompletionException with a stack trace for a stage that is never read
+    stage.handle(
+        (value, failure) -> {
+          outcome.complete(value, failure);
+          return null;
+        });
+    return outcome;
+  }
+
+  private void complete(final Object value, final Throwable failure) {
+    this.completedAt = completedWhenObserved ? observedAt : System.nanoTime();
+    this.value = value;
+    if (failure instanceof CompletionException && failure.getCause() != null) {
+      this.failure = failure.getCause();
+    } else {
+      this.failure = failure;
+    }
+    completed.countDown();
+  }
+
+  /**
+   * Waits for the stage to complete.
+   *
+   * @throws InterruptedException if the current thread was interrupted while waiting.
+   */
+  void await() throws InterruptedException {
+    if (!isDone()) {
+      completed.await();
+    }
+  }
+
+  /**
+   * Waits for the stage to complete until the given time has passed since it was observed, so that
+   * matching and then describing the same stage waits at most once.
+   *
+   * @return whether the stage completed.
+   * @throws InterruptedException if the current thread was interrupted while waiting.
+   */
+  boolean awaitWithin(final long budgetNanos) throws InterruptedException {
+    if (isDone()) {
+      return true;
+    }
+    final long remainingNanos = Math.max(0, budgetNanos - (System.nanoTime() - observedAt));
+    return completed.await(remainingNanos, TimeUnit.NANOSECONDS);
+  }
+
+  boolean isDone() {
+    return completed.getCount() == 0;
+  }
+
+  boolean isCancelled() {
+    return failure instanceof CancellationException;
+  }
+
+  boolean isCompletedExceptionally() {
+    return failure != null;
+  }
+
+  /**
+   * The time from when the stage was observed until it completed, in nanoseconds. A stage that was
+   * already completed when it was observed has a latency of zero.
+   */
+  long latencyNanos() {
+    return Math.max(0, completedAt - observedAt);
+  }
+
+  /** The value of a stage that completed normally. */
+  Object value() {
+    return value;
+  }
+
+  /**
+   * The cause a stage completed exceptionally with, like {@link CompletableFuture#getNow} throws.
+   */
+  Throwable failure() {
+    return failure;
+  }
+}
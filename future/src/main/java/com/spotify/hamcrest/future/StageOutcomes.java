@@ -0,0 +1,92 @@
+/*-
+ * -\-\-
+ * hamcrest-future
+ * --
+ * Copyright (C) 2016 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+package com.spotify.hamcrest.future;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * The outcomes of the stages one matcher has observed, so that repeated matches of the same stage,
+ * like Hamcrest's second pass to describe a mismatch, reuse its subscription and its latency.
+ *
+ * <p>Stages are looked up by identity, since stages may implement {@code equals} by value, and are
+ * only weakly referenced.
+ */
+final class StageOutcomes {
+
+  private final Map<Integer, List<Observed>> observed = new HashMap<>();
+  private final ReferenceQueue<CompletionStage<?>> collected = new ReferenceQueue<>();
+
+  /** The outcome of a stage, observing it if this is the first time it is seen. */
+  synchronized StageOutcome of(final CompletionStage<?> stage) {
+    expunge();
+    final int hash = System.identityHashCode(stage);
+    final List<Observed> bucket = observed.get(hash);
+    if (bucket != null) {
+      for (Observed entry : bucket) {
+        if (entry.get() == stage) {
+          return entry.outcome;
+        }
+      }
+    }
+
+    if (stage instanceof CompletableFuture && ((CompletableFuture<?>) stage).isDone()) {
+      // the callback runs right away, nothing to share between matches
+      return StageOutcome.observe(stage, true);
+    }
+    final StageOutcome outcome = StageOutcome.observe(stage, false);
+    observed
+        .computeIfAbsent(hash, h -> new ArrayList<>(1))
+        .add(new Observed(stage, hash, outcome, collected));
+    return outcome;
+  }
+
+  private void expunge() {
+    for (Object ref; (ref = collected.poll()) != null; ) {
+      final Observed entry = (Observed) ref;
+      final List<Observed> bucket = observed.get(entry.hash);
+      if (bucket != null && bucket.remove(entry) && bucket.isEmpty()) {
+        observed.remove(entry.hash);
+      }
+    }
+  }
+
+  private static final class Observed extends WeakReference<CompletionStage<?>> {
+
+    private final int hash;
+    private final StageOutcome outcome;
+
+    Observed(
+        final CompletionStage<?> stage,
+        final int hash,
+        final StageOutcome outcome,
+        final ReferenceQueue<CompletionStage<?>> collected) {
+      super(stage, collected);
+      this.hash = hash;
+      this.outcome = outcome;
+    }
+  }
+}
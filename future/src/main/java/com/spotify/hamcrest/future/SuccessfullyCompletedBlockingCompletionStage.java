@@ -20,9 +20,9 @@
 
 package com.spotify.hamcrest.future;
 
+import com.spotify.hamcrest.util.MismatchTree;
 import java.util.Objects;
 import java.util.concurrent.CompletionStage;
-import java.util.concurrent.ExecutionException;
 import org.hamcrest.Description;
 import org.hamcrest.Matcher;
 import org.hamcrest.TypeSafeDiagnosingMatcher;
@@ -35,6 +35,7 @@ class SuccessfullyCompletedBlockingCompletionStage<T>
     extends TypeSafeDiagnosingMatcher<CompletionStage<? extends T>> {
 
   private final Matcher<T> matcher;
+  private final StageOutcomes outcomes = new StageOutcomes();
 
   SuccessfullyCompletedBlockingCompletionStage(final Matcher<T> matcher) {
     this.matcher = Objects.requireNonNull(matcher);
@@ -42,23 +43,32 @@ class SuccessfullyCompletedBlockingCompletionStage<T>
 
   @Override
   protected boolean matchesSafely(
-      final CompletionStage<? extends T> future, final Description mismatchDescription) {
+      final CompletionStage<? extends T> stage, final Description mismatchDescription) {
+    final StageOutcome outcome = outcomes.of(stage);
     try {
-      final T item = future.toCompletableFuture().get();
-      if (matcher.matches(item)) {
-        return true;
-      } else {
-        mismatchDescription.appendText("a stage that completed with a value that ");
-        matcher.describeMismatch(item, mismatchDescription);
-        return false;
-      }
+      outcome.await();
     } catch (InterruptedException e) {
       mismatchDescription.appendText("a stage that was interrupted");
       return false;
-    } catch (ExecutionException e) {
+    }
+
+    if (outcome.isCancelled()) {
+      mismatchDescription.appendText("a stage that was cancelled");
+      return false;
+    } else if (outcome.isCompletedExceptionally()) {
       mismatchDescription
           .appendText("a stage that completed exceptionally with ")
-          .appendText(Utils.getStackTraceAsString(e.getCause()));
+          .appendDescriptionOf(new StackTrace(outcome.failure()));
+      return false;
+    }
+
+    final Object item = outcome.value();
+    if (matcher.matches(item)) {
+      return true;
+    } else {
+      MismatchTree.wrapping(
+              "a stage that completed with a value that ", MismatchTree.of(matcher, item))
+          .appendTo(mismatchDescription);
       return false;
     }
   }
@@ -20,6 +20,7 @@
 
 package com.spotify.hamcrest.future;
 
+import com.spotify.hamcrest.util.MismatchTree;
 import java.util.Objects;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
@@ -48,8 +49,9 @@ class SuccessfullyCompletedBlockingFuture<T>
       if (matcher.matches(item)) {
         return true;
       } else {
-        mismatchDescription.appendText("a future that completed with a value that ");
-        matcher.describeMismatch(item, mismatchDescription);
+        MismatchTree.wrapping(
+                "a future that completed with a value that ", MismatchTree.of(matcher, item))
+            .appendTo(mismatchDescription);
         return false;
       }
     } catch (InterruptedException e) {
@@ -58,7 +60,7 @@ class SuccessfullyCompletedBlockingFuture<T>
     } catch (ExecutionException e) {
       mismatchDescription
           .appendText("a future that completed exceptionally with ")
-          .appendText(Utils.getStackTraceAsString(e.getCause()));
+          .appendDescriptionOf(new StackTrace(e.getCause()));
       return false;
     }
   }
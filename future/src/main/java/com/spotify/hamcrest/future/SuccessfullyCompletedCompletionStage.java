@@ -20,11 +20,8 @@
 
 package com.spotify.hamcrest.future;
 
-import static com.spotify.hamcrest.future.Utils.getStackTraceAsString;
-
+import com.spotify.hamcrest.util.MismatchTree;
 import java.util.Objects;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
 import org.hamcrest.Description;
 import org.hamcrest.Matcher;
@@ -38,6 +35,7 @@ class SuccessfullyCompletedCompletionStage<T>
     extends TypeSafeDiagnosingMatcher<CompletionStage<? extends T>> {
 
   private final Matcher<T> matcher;
+  private final StageOutcomes outcomes = new StageOutcomes();
 
   SuccessfullyCompletedCompletionStage(final Matcher<T> matcher) {
     this.matcher = Objects.requireNonNull(matcher);
@@ -46,29 +44,24 @@ class SuccessfullyCompletedCompletionStage<T>
   @Override
   protected boolean matchesSafely(
       final CompletionStage<? extends T> stage, final Description mismatchDescription) {
-    final CompletableFuture<? extends T> future = stage.toCompletableFuture();
-    if (future.isDone()) {
-      if (future.isCancelled()) {
+    final StageOutcome outcome = outcomes.of(stage);
+    if (outcome.isDone()) {
+      if (outcome.isCancelled()) {
         mismatchDescription.appendText("a stage that was cancelled");
         return false;
-      } else if (future.isCompletedExceptionally()) {
-        try {
-          future.getNow(null);
-          throw new AssertionError(
-              "This should never happen because the future has completed exceptionally.");
-        } catch (CompletionException e) {
-          mismatchDescription
-              .appendText("a stage that completed exceptionally with ")
-              .appendText(getStackTraceAsString(e.getCause()));
-        }
+      } else if (outcome.isCompletedExceptionally()) {
+        mismatchDescription
+            .appendText("a stage that completed exceptionally with ")
+            .appendDescriptionOf(new StackTrace(outcome.failure()));
         return false;
       } else {
-        final T item = future.getNow(null);
+        final Object item = outcome.value();
         if (matcher.matches(item)) {
           return true;
         } else {
-          mismatchDescription.appendText("a stage that completed to a value that ");
-          matcher.describeMismatch(item, mismatchDescription);
+          MismatchTree.wrapping(
+                  "a stage that completed to a value that ", MismatchTree.of(matcher, item))
+              .appendTo(mismatchDescription);
           return false;
         }
       }
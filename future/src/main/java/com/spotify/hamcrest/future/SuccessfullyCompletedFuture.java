@@ -20,6 +20,7 @@
 
 package com.spotify.hamcrest.future;
 
+import com.spotify.hamcrest.util.MismatchTree;
 import java.util.Objects;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
@@ -52,8 +53,9 @@ class SuccessfullyCompletedFuture<T> extends TypeSafeDiagnosingMatcher<Future<?
           if (matcher.matches(item)) {
             return true;
           } else {
-            mismatchDescription.appendText("a future that completed to a value that ");
-            matcher.describeMismatch(item, mismatchDescription);
+            MismatchTree.wrapping(
+                    "a future that completed to a value that ", MismatchTree.of(matcher, item))
+                .appendTo(mismatchDescription);
             return false;
           }
         } catch (InterruptedException e) {
@@ -61,7 +63,7 @@ class SuccessfullyCompletedFuture<T> extends TypeSafeDiagnosingMatcher<Future<?
         } catch (ExecutionException e) {
           mismatchDescription
               .appendText("a future that completed exceptionally with ")
-              .appendText(Utils.getStackTraceAsString(e.getCause()));
+              .appendDescriptionOf(new StackTrace(e.getCause()));
           return false;
         }
       }
@@ -0,0 +1,118 @@
+/*-
+ * -\-\-
+ * hamcrest-future
+ * --
+ * Copyright (C) 2016 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.hamcrest.future;
+
+import com.spotify.hamcrest.util.MismatchTree;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.concurrent.CompletionStage;
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.hamcrest.TypeSafeDiagnosingMatcher;
+
+/**
+ * Creates a Matcher that matches a CompletionStage that completes within a time budget with a value
+ * that matches the given Matcher. The latency is measured with {@link System#nanoTime()} from when
+ * this matcher first sees the stage until a completion callback runs, so a stage that has already
+ * completed takes no time. If the CompletionStage has not yet completed, this matcher waits for it
+ * until the budget has passed since this matcher first saw it.
+ */
+class SuccessfullyCompletedWithinCompletionStage<T>
+    extends TypeSafeDiagnosingMatcher<CompletionStage<? extends T>> {
+
+  private final Matcher<T> matcher;
+  private final StageOutcomes outcomes = new StageOutcomes();
+  private final long budgetNanos;
+
+  SuccessfullyCompletedWithinCompletionStage(final Matcher<T> matcher, final Duration budget) {
+    this.matcher = Objects.requireNonNull(matcher);
+    this.budgetNanos = budget.toNanos();
+    if (budgetNanos < 0) {
+      throw new IllegalArgumentException("budget must not be negative: " + budget);
+    }
+  }
+
+  @Override
+  protected boolean matchesSafely(
+      final CompletionStage<? extends T> stage, final Description mismatchDescription) {
+    final StageOutcome outcome = outcomes.of(stage);
+    try {
+      if (!outcome.awaitWithin(budgetNanos)) {
+        mismatchDescription
+            .appendText("a stage that did not complete within ")
+            .appendText(formatNanos(budgetNanos));
+        return false;
+      }
+    } catch (InterruptedException e) {
+      mismatchDescription.appendText("a stage that was interrupted");
+      return false;
+    }
+
+    final String latency = formatNanos(outcome.latencyNanos());
+    if (outcome.isCancelled()) {
+      mismatchDescription.appendText("a stage that was cancelled after ").appendText(latency);
+      return false;
+    } else if (outcome.isCompletedExceptionally()) {
+      mismatchDescription
+          .appendText("a stage that completed exceptionally after ")
+          .appendText(latency)
+          .appendText(" with ")
+          .appendDescriptionOf(new StackTrace(outcome.failure()));
+      return false;
+    } else if (outcome.latencyNanos() > budgetNanos) {
+      mismatchDescription
+          .appendText("a stage that completed after ")
+          .appendText(latency)
+          .appendText(", more than ")
+          .appendText(formatNanos(budgetNanos));
+      return false;
+    }
+
+    final Object item = outcome.value();
+    if (matcher.matches(item)) {
+      return true;
+    } else {
+      MismatchTree.wrapping(
+              "a stage that completed after " + latency + " with a value that ",
+              MismatchTree.of(matcher, item))
+          .appendTo(mismatchDescription);
+      return false;
+    }
+  }
+
+  @Override
+  public void describeTo(final Description description) {
+    description
+        .appendText("a stage that completes within ")
+        .appendText(formatNanos(budgetNanos))
+        .appendText(" with a value that ")
+        .appendDescriptionOf(matcher);
+  }
+
+  /** Formats a duration in milliseconds, with microsecond precision if needed. */
+  static String formatNanos(final long nanos) {
+    if (nanos % 1_000_000 == 0) {
+      return nanos / 1_000_000 + " ms";
+    }
+    return String.format(Locale.ROOT, "%.3f ms", nanos / 1e6);
+  }
+}
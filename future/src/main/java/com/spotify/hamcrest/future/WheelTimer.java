@@ -0,0 +1,197 @@
+/*-
+ * -\-\-
+ * hamcrest-future
+ * --
+ * Copyright (C) 2016 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.hamcrest.future;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * A hashed-wheel timer for the deadlines of the matchers in this package.
+ *
+ * <p>Scheduling and cancelling a task is constant time and doesn't create a thread or a {@link
+ * java.util.concurrent.ScheduledFuture}, so tens of thousands of pending deadlines are cheap. The
+ * price is resolution: tasks run on the first tick after their deadline. The tick defaults to
+ * {@value #DEFAULT_TICK_MILLIS} ms and can be changed with the {@value #TICK_PROPERTY} system
+ * property.
+ *
+ * <p>All tasks run on the timer's single daemon thread, which is started when the first task is
+ * scheduled. Tasks must be short and hand any real work off to an executor.
+ */
+final class WheelTimer {
+
+  static final String TICK_PROPERTY = "com.spotify.hamcrest.future.timerTickMillis";
+  static final int DEFAULT_TICK_MILLIS = 10;
+  private static final int DEFAULT_WHEEL_SIZE = 512;
+
+  private static final Logger LOG = Logger.getLogger(WheelTimer.class.getName());
+  private static final AtomicInteger TIMERS = new AtomicInteger();
+
+  private final long tickNanos;
+  private final Queue<Timeout>[] wheel;
+  private final Queue<Timeout> scheduled = new ConcurrentLinkedQueue<>();
+  private final AtomicBoolean started = new AtomicBoolean();
+  private final long startTime = System.nanoTime();
+
+  @SuppressWarnings("unchecked")
+  WheelTimer(final long tick, final TimeUnit unit, final int wheelSize) {
+    if (tick <= 0) {
+      throw new IllegalArgumentException("tick must be positive: " + tick);
+    }
+    if (Integer.bitCount(wheelSize) != 1) {
+      throw new IllegalArgumentException("wheelSize must be a power of two: " + wheelSize);
+    }
+    this.tickNanos = unit.toNanos(tick);
+    this.wheel = (Queue<Timeout>[]) new Queue<?>[wheelSize];
+    for (int i = 0; i < wheelSize; i++) {
+      wheel[i] = new ArrayDeque<>();
+    }
+  }
+
+  /** The timer shared by all matchers in this package. */
+  static WheelTimer shared() {
+    return SharedHolder.SHARED;
+  }
+
+  /**
+   * Runs a task on the timer thread once the delay has passed.
+   *
+   * @param task the task, which must be short.
+   * @param delay the delay, rounded up to the next tick.
+   * @param unit the unit of the delay.
+   * @return a handle to cancel the task.
+   */
+  Timeout schedule(final Runnable task, final long delay, final TimeUnit unit) {
+    start();
+    final long now = System.nanoTime() - startTime;
+    final long delayNanos = Math.max(0, unit.toNanos(delay));
+    final Timeout timeout =
+        new Timeout(task, delayNanos > Long.MAX_VALUE - now ? Long.MAX_VALUE : now + delayNanos);
+    scheduled.add(timeout);
+    return timeout;
+  }
+
+  private void start() {
+    if (started.compareAndSet(false, true)) {
+      final Thread thread = new Thread(this::run, "hamcrest-timer-" + TIMERS.incrementAndGet());
+      thread.setDaemon(true);
+      thread.start();
+    }
+  }
+
+  private void run() {
+    final int mask = wheel.length - 1;
+    for (long tick = 0; ; tick++) {
+      final long deadline = (tick + 1) * tickNanos;
+      waitUntil(deadline);
+
+      for (Timeout timeout = scheduled.poll(); timeout != null; timeout = scheduled.poll()) {
+        if (!timeout.isCancelled()) {
+          // a timeout that is already due goes into the current bucket
+          final long dueTick = Math.max(timeout.deadline / tickNanos, tick);
+          timeout.remainingRounds = (dueTick - tick) / wheel.length;
+          wheel[(int) (dueTick & mask)].add(timeout);
+        }
+      }
+
+      final Iterator<Timeout> bucket = wheel[(int) (tick & mask)].iterator();
+      while (bucket.hasNext()) {
+        final Timeout timeout = bucket.next();
+        if (timeout.isCancelled()) {
+          bucket.remove();
+        } else if (timeout.remainingRounds <= 0) {
+          bucket.remove();
+          timeout.expire();
+        } else {
+          timeout.remainingRounds--;
+        }
+      }
+    }
+  }
+
+  private void waitUntil(final long deadline) {
+    long remaining;
+    while ((remaining = startTime + deadline - System.nanoTime()) > 0) {
+      try {
+        TimeUnit.NANOSECONDS.sleep(remaining);
+      } catch (InterruptedException e) {
+        // the timer runs for the lifetime of the JVM
+      }
+    }
+  }
+
+  /** A task scheduled on a {@link WheelTimer}. */
+  static final class Timeout {
+
+    private static final int PENDING = 0;
+    private static final int CANCELLED = 1;
+    private static final int EXPIRED = 2;
+
+    private final Runnable task;
+    private final long deadline;
+    private final AtomicInteger state = new AtomicInteger(PENDING);
+    // only accessed by the timer thread
+    private long remainingRounds;
+
+    private Timeout(final Runnable task, final long deadline) {
+      this.task = task;
+      this.deadline = deadline;
+    }
+
+    /**
+     * Cancels the task if it has not run yet.
+     *
+     * @return whether the task was cancelled.
+     */
+    boolean cancel() {
+      return state.compareAndSet(PENDING, CANCELLED);
+    }
+
+    boolean isCancelled() {
+      return state.get() == CANCELLED;
+    }
+
+    private void expire() {
+      if (state.compareAndSet(PENDING, EXPIRED)) {
+        try {
+          task.run();
+        } catch (Throwable t) {
+          LOG.log(Level.WARNING, "Timer task failed", t);
+        }
+      }
+    }
+  }
+
+  private static final class SharedHolder {
+
+    static final WheelTimer SHARED =
+        new WheelTimer(
+            Integer.getInteger(TICK_PROPERTY, DEFAULT_TICK_MILLIS),
+            TimeUnit.MILLISECONDS,
+            DEFAULT_WHEEL_SIZE);
+  }
+}
@@ -0,0 +1,148 @@
+/*-
+ * -\-\-
+ * hamcrest-future
+ * --
+ * Copyright (C) 2016 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.hamcrest.future;
+
+import static com.spotify.hamcrest.future.AsyncMatching.stageWillCompleteWithException;
+import static com.spotify.hamcrest.future.AsyncMatching.stageWillCompleteWithExceptionThat;
+import static com.spotify.hamcrest.future.AsyncMatching.stageWillCompleteWithValue;
+import static com.spotify.hamcrest.future.AsyncMatching.stageWillCompleteWithValueThat;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.isA;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class AsyncMatchingTest {
+
+  @Rule public final ExpectedException expectedException = ExpectedException.none();
+
+  @Test
+  public void testCompletesWhenStageCompletes() throws Exception {
+    final CompletableFuture<Integer> future = new CompletableFuture<>();
+    final CompletableFuture<MatchResult> result =
+        stageWillCompleteWithValueThat(future, is(1)).toCompletableFuture();
+
+    assertFalse(result.isDone());
+    future.complete(1);
+    assertTrue(result.isDone());
+    assertTrue(result.getNow(null).matched());
+  }
+
+  @Test
+  public void testMatchesCompletedStage() throws Exception {
+    final MatchResult result =
+        stageWillCompleteWithValue(completedFuture(1)).toCompletableFuture().getNow(null);
+
+    assertTrue(result.matched());
+    result.assertMatched();
+  }
+
+  @Test
+  public void testMismatch() throws Exception {
+    final MatchResult result =
+        stageWillCompleteWithValueThat(completedFuture(2), is(1))
+            .toCompletableFuture()
+            .getNow(null);
+
+    assertFalse(result.matched());
+    assertThat(result.expected(), is("a stage that completed to a value that is <1>"));
+    assertThat(
+        result.mismatch().get().toString(), is("a stage that completed to a value that was <2>"));
+    assertThat(
+        result.toString(),
+        is(
+            "\nExpected: a stage that completed to a value that is <1>\n"
+                + "     but: a stage that completed to a value that was <2>"));
+  }
+
+  @Test
+  public void testAssertMatchedThrows() throws Exception {
+    final MatchResult result =
+        stageWillCompleteWithValueThat(completedFuture(2), is(1))
+            .toCompletableFuture()
+            .getNow(null);
+
+    expectedException.expect(AssertionError.class);
+    expectedException.expectMessage("     but: a stage that completed to a value that was <2>");
+    result.assertMatched();
+  }
+
+  @Test
+  public void testException() throws Exception {
+    final CompletableFuture<Void> future = new CompletableFuture<>();
+    final CompletableFuture<MatchResult> any =
+        stageWillCompleteWithException(future).toCompletableFuture();
+    final CompletableFuture<MatchResult> ioException =
+        stageWillCompleteWithExceptionThat(future, isA(IOException.class)).toCompletableFuture();
+    final CompletableFuture<MatchResult> value =
+        stageWillCompleteWithValue(future).toCompletableFuture();
+
+    future.completeExceptionally(new IllegalStateException("failed"));
+
+    assertTrue(any.getNow(null).matched());
+    assertFalse(ioException.getNow(null).matched());
+    assertFalse(value.getNow(null).matched());
+  }
+
+  @Test
+  public void testCancelled() throws Exception {
+    final CompletableFuture<Void> future = new CompletableFuture<>();
+    final CompletableFuture<MatchResult> result =
+        stageWillCompleteWithValue(future).toCompletableFuture();
+
+    future.cancel(true);
+
+    assertThat(result.getNow(null).mismatch().get().toString(), is("a stage that was cancelled"));
+  }
+
+  @Test
+  public void testTimeout() throws Exception {
+    final CompletableFuture<Integer> future = new CompletableFuture<>();
+
+    final MatchResult result =
+        stageWillCompleteWithValueThat(future, is(1), Duration.ofMillis(20))
+            .toCompletableFuture()
+            .get();
+
+    assertFalse(result.matched());
+    assertThat(result.mismatch().get().toString(), is("after 20 ms a stage that was not done"));
+  }
+
+  @Test
+  public void testCompletesBeforeTimeout() throws Exception {
+    final CompletableFuture<Void> future = new CompletableFuture<>();
+    final CompletableFuture<MatchResult> result =
+        stageWillCompleteWithExceptionThat(future, isA(IOException.class), Duration.ofSeconds(10))
+            .toCompletableFuture();
+
+    future.completeExceptionally(new IOException("failed"));
+
+    assertTrue(result.getNow(null).matched());
+  }
+}
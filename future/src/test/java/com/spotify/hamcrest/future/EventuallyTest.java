@@ -0,0 +1,123 @@
+/*-
+ * -\-\-
+ * hamcrest-future
+ * --
+ * Copyright (C) 2016 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.hamcrest.future;
+
+import static com.spotify.hamcrest.future.Eventually.assertEventually;
+import static com.spotify.hamcrest.future.Eventually.eventually;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.matchesPattern;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class EventuallyTest {
+
+  private static final PollPolicy POLICY =
+      PollPolicy.timeout(Duration.ofSeconds(5)).withInitialDelay(Duration.ofMillis(1));
+
+  @Rule public final ExpectedException expectedException = ExpectedException.none();
+
+  @Test
+  public void testMatchesEventually() throws Exception {
+    final AtomicInteger counter = new AtomicInteger();
+
+    final MatchResult result =
+        eventually(counter::incrementAndGet, greaterThanOrEqualTo(3), POLICY)
+            .toCompletableFuture()
+            .get();
+
+    assertTrue(result.matched());
+    assertThat(counter.get(), is(3));
+  }
+
+  @Test
+  public void testRetriesWhenSupplierThrows() throws Exception {
+    final AtomicInteger counter = new AtomicInteger();
+
+    assertEventually(
+        () -> {
+          if (counter.incrementAndGet() < 3) {
+            throw new IllegalStateException("not yet");
+          }
+          return counter.get();
+        },
+        is(3),
+        POLICY);
+  }
+
+  @Test
+  public void testTimeout() throws Exception {
+    final AtomicInteger counter = new AtomicInteger();
+
+    final MatchResult result =
+        eventually(
+                counter::incrementAndGet,
+                is(0),
+                PollPolicy.timeout(Duration.ofMillis(50)).withInitialDelay(Duration.ofMillis(5)))
+            .toCompletableFuture()
+            .get();
+
+    assertFalse(result.matched());
+    assertThat(result.expected(), is("eventually is <0>"));
+    assertThat(
+        result.mismatch().get().toString(),
+        matchesPattern(
+            "after "
+                + counter.get()
+                + " attempts in \\d+ ms the last attempt was <"
+                + counter.get()
+                + ">"));
+  }
+
+  @Test
+  public void testTimeoutReportsSupplierException() throws Exception {
+    final MatchResult result =
+        eventually(
+                () -> {
+                  throw new IllegalStateException("boom");
+                },
+                is(0),
+                PollPolicy.timeout(Duration.ZERO))
+            .toCompletableFuture()
+            .get();
+
+    assertThat(
+        result.mismatch().get().toString(),
+        matchesPattern(
+            "after 1 attempts in \\d+ ms the last attempt "
+                + "threw java.lang.IllegalStateException: boom"));
+  }
+
+  @Test
+  public void testAssertEventuallyFails() throws Exception {
+    expectedException.expect(AssertionError.class);
+    expectedException.expectMessage("Expected: eventually is <0>");
+
+    assertEventually(() -> 1, is(0), PollPolicy.timeout(Duration.ofMillis(10)));
+  }
+}
@@ -39,6 +39,26 @@ public class ExceptionallyCompletedCompletionStageTest {
   private static final Matcher<CompletionStage<?>> SUT =
       stageCompletedWithExceptionThat(isA(RuntimeException.class));
 
+  @Test
+  public void testMatchesFailedStage() throws Exception {
+    final CompletableFuture<Void> future = new CompletableFuture<>();
+    future.completeExceptionally(new IllegalStateException("failed"));
+
+    assertThat(future, stageCompletedWithExceptionThat(isA(IllegalStateException.class)));
+  }
+
+  @Test
+  public void testMatchesCauseOfFailedDependentStage() throws Exception {
+    final CompletionStage<Object> stage =
+        completedFuture(1)
+            .thenApply(
+                value -> {
+                  throw new IllegalStateException("failed");
+                });
+
+    assertThat(stage, stageCompletedWithExceptionThat(isA(IllegalStateException.class)));
+  }
+
   @Test
   public void testDescriptionFormatting() throws Exception {
     final StringDescription description = new StringDescription();
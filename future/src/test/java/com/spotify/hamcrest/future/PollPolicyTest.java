@@ -0,0 +1,81 @@
+/*-
+ * -\-\-
+ * hamcrest-future
+ * --
+ * Copyright (C) 2016 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.hamcrest.future;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.Assert.assertThat;
+
+import java.time.Duration;
+import org.junit.Test;
+
+public class PollPolicyTest {
+
+  private static final PollPolicy POLICY =
+      PollPolicy.timeout(Duration.ofSeconds(10))
+          .withInitialDelay(Duration.ofMillis(10))
+          .withMaxDelay(Duration.ofMillis(50))
+          .withJitter(0);
+
+  @Test
+  public void testExponentialBackoff() throws Exception {
+    assertThat(POLICY.delayNanos(1), is(Duration.ofMillis(10).toNanos()));
+    assertThat(POLICY.delayNanos(2), is(Duration.ofMillis(20).toNanos()));
+    assertThat(POLICY.delayNanos(3), is(Duration.ofMillis(40).toNanos()));
+  }
+
+  @Test
+  public void testMaxDelay() throws Exception {
+    assertThat(POLICY.delayNanos(4), is(Duration.ofMillis(50).toNanos()));
+    assertThat(POLICY.delayNanos(100), is(Duration.ofMillis(50).toNanos()));
+  }
+
+  @Test
+  public void testMultiplier() throws Exception {
+    assertThat(POLICY.withMultiplier(3).delayNanos(2), is(Duration.ofMillis(30).toNanos()));
+  }
+
+  @Test
+  public void testJitter() throws Exception {
+    final PollPolicy policy = POLICY.withJitter(0.5);
+
+    for (int i = 0; i < 100; i++) {
+      assertThat(
+          policy.delayNanos(1),
+          is(
+              allOf(
+                  greaterThanOrEqualTo(Duration.ofMillis(5).toNanos()),
+                  lessThanOrEqualTo(Duration.ofMillis(15).toNanos()))));
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testInvalidJitter() throws Exception {
+    POLICY.withJitter(2);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testInvalidMultiplier() throws Exception {
+    POLICY.withMultiplier(0.5);
+  }
+}
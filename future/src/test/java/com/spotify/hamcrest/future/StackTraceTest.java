@@ -0,0 +1,109 @@
+/*-
+ * -\-\-
+ * hamcrest-future
+ * --
+ * Copyright (C) 2016 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.hamcrest.future;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import org.hamcrest.Description;
+import org.hamcrest.StringDescription;
+import org.junit.Test;
+
+public class StackTraceTest {
+
+  @Test
+  public void testRendersLikePrintStackTrace() throws Exception {
+    final Exception cause = exception("cause", "c", "b", "a");
+    final Exception exception = exception("top", "d", "b", "a");
+    exception.initCause(cause);
+
+    assertThat(
+        StringDescription.toString(new StackTrace(exception)),
+        is(
+            "java.lang.Exception: top\n"
+                + "\tat Test.d(Test.java)\n"
+                + "\tat Test.b(Test.java)\n"
+                + "\tat Test.a(Test.java)\n"
+                + "Caused by: java.lang.Exception: cause\n"
+                + "\tat Test.c(Test.java)\n"
+                + "\t... 2 more\n"));
+  }
+
+  @Test
+  public void testLimitsFrames() throws Exception {
+    final Exception exception = exception("top", "d", "c", "b", "a");
+
+    assertThat(
+        StringDescription.toString(new StackTrace(exception, 2, 10)),
+        is(
+            "java.lang.Exception: top\n"
+                + "\tat Test.d(Test.java)\n"
+                + "\tat Test.c(Test.java)\n"
+                + "\t... 2 more\n"));
+  }
+
+  @Test
+  public void testLimitsCauses() throws Exception {
+    final Exception exception = exception("top");
+    exception.initCause(
+        exception("first").initCause(exception("second").initCause(exception("third"))));
+
+    assertThat(
+        StringDescription.toString(new StackTrace(exception, 10, 1)),
+        is(
+            "java.lang.Exception: top\n"
+                + "Caused by: java.lang.Exception: first\n"
+                + "Caused by: ... 2 more\n"));
+  }
+
+  @Test
+  public void testListsSuppressed() throws Exception {
+    final Exception exception = exception("top");
+    exception.addSuppressed(exception("suppressed", "a"));
+
+    assertThat(
+        StringDescription.toString(new StackTrace(exception)),
+        is("java.lang.Exception: top\n" + "\tSuppressed: java.lang.Exception: suppressed\n"));
+  }
+
+  @Test
+  public void testIsNotRenderedIntoNullDescription() throws Exception {
+    final Exception exception =
+        new Exception("top") {
+          @Override
+          public StackTraceElement[] getStackTrace() {
+            throw new AssertionError("The stack trace should not be rendered");
+          }
+        };
+
+    new Description.NullDescription().appendDescriptionOf(new StackTrace(exception));
+  }
+
+  private static Exception exception(final String message, final String... methods) {
+    final Exception exception = new Exception(message);
+    final StackTraceElement[] trace = new StackTraceElement[methods.length];
+    for (int i = 0; i < methods.length; i++) {
+      trace[i] = new StackTraceElement("Test", methods[i], "Test.java", -1);
+    }
+    exception.setStackTrace(trace);
+    return exception;
+  }
+}
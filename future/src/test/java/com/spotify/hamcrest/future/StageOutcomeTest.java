@@ -0,0 +1,83 @@
+/*-
+ * -\-\-
+ * hamcrest-future
+ * --
+ * Copyright (C) 2016 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+package com.spotify.hamcrest.future;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import org.junit.Test;
+
+public class StageOutcomeTest {
+
+  /** Keeps the stages created for callbacks, which are otherwise thrown away. */
+  private static final class RecordingFuture<T> extends CompletableFuture<T> {
+
+    private final List<CompletableFuture<?>> dependents = new ArrayList<>();
+
+    @Override
+    public <U> CompletableFuture<U> handle(final BiFunction<? super T, Throwable, ? extends U> fn) {
+      final CompletableFuture<U> dependent = super.handle(fn);
+      dependents.add(dependent);
+      return dependent;
+    }
+
+    @Override
+    public CompletableFuture<T> whenComplete(
+        final BiConsumer<? super T, ? super Throwable> action) {
+      final CompletableFuture<T> dependent = super.whenComplete(action);
+      dependents.add(dependent);
+      return dependent;
+    }
+  }
+
+  @Test
+  public void testFailedStageIsReadWithoutCreatingAnException() throws Exception {
+    final IllegalStateException failure = new IllegalStateException("expected");
+    final RecordingFuture<Integer> stage = new RecordingFuture<>();
+    stage.completeExceptionally(failure);
+
+    final StageOutcome outcome = new StageOutcomes().of(stage);
+
+    assertThat(outcome.failure(), is(sameInstance(failure)));
+    assertThat(stage.dependents.size(), is(1));
+    // a dependent stage that failed would hold a new CompletionException with a stack trace
+    assertThat(stage.dependents.get(0).isCompletedExceptionally(), is(false));
+  }
+
+  @Test
+  public void testCompletionExceptionIsUnwrapped() throws Exception {
+    final IllegalStateException failure = new IllegalStateException("expected");
+    final CompletableFuture<Integer> stage =
+        CompletableFuture.<Integer>supplyAsync(
+            () -> {
+              throw failure;
+            });
+    final StageOutcome outcome = new StageOutcomes().of(stage);
+    outcome.await();
+
+    assertThat(outcome.failure(), is(sameInstance(failure)));
+  }
+}
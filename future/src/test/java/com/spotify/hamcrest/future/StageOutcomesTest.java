@@ -0,0 +1,68 @@
+/*-
+ * -\-\-
+ * hamcrest-future
+ * --
+ * Copyright (C) 2016 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+package com.spotify.hamcrest.future;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+import java.util.concurrent.CompletableFuture;
+import org.junit.Test;
+
+public class StageOutcomesTest {
+
+  /** A pending stage that is equal to every other one. */
+  private static final class EqualFuture extends CompletableFuture<Integer> {
+
+    @Override
+    public boolean equals(final Object other) {
+      return other instanceof EqualFuture;
+    }
+
+    @Override
+    public int hashCode() {
+      return 0;
+    }
+  }
+
+  @Test
+  public void testSameStageIsObservedOnce() throws Exception {
+    final StageOutcomes sut = new StageOutcomes();
+    final CompletableFuture<Integer> stage = new CompletableFuture<>();
+
+    assertThat(sut.of(stage), is(sameInstance(sut.of(stage))));
+    assertThat(stage.getNumberOfDependents(), is(1));
+  }
+
+  @Test
+  public void testStagesAreKeyedByIdentity() throws Exception {
+    final StageOutcomes sut = new StageOutcomes();
+
+    assertThat(sut.of(new EqualFuture()), is(not(sameInstance(sut.of(new EqualFuture())))));
+  }
+
+  @Test
+  public void testOutcomesAreKeptPerInstance() throws Exception {
+    final CompletableFuture<Integer> stage = new CompletableFuture<>();
+
+    assertThat(new StageOutcomes().of(stage), is(not(sameInstance(new StageOutcomes().of(stage)))));
+  }
+}
@@ -22,6 +22,7 @@ package com.spotify.hamcrest.future;
 
 import static com.spotify.hamcrest.future.CompletableFutureMatchers.stageWillCompleteWithValueThat;
 import static com.spotify.hamcrest.future.TestUtils.waitUntilInterrupted;
+import static com.spotify.hamcrest.future.TestUtils.withoutToCompletableFuture;
 import static java.util.concurrent.CompletableFuture.completedFuture;
 import static java.util.concurrent.CompletableFuture.runAsync;
 import static org.hamcrest.CoreMatchers.is;
@@ -31,6 +32,7 @@ import static org.junit.Assert.assertThat;
 import java.io.IOException;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.hamcrest.Matcher;
 import org.hamcrest.StringDescription;
 import org.junit.Test;
@@ -40,6 +42,31 @@ public class SuccessfullyCompletedBlockingCompletionStageTest {
   private static final Matcher<CompletionStage<? extends Integer>> SUT =
       stageWillCompleteWithValueThat(is(1));
 
+  @Test
+  public void testStageWithoutToCompletableFuture() throws Exception {
+    final AtomicInteger subscriptions = new AtomicInteger();
+    final CompletableFuture<Integer> future = new CompletableFuture<>();
+    final CompletionStage<Integer> stage = withoutToCompletableFuture(future, subscriptions);
+    new Thread(() -> future.complete(2)).start();
+
+    final StringDescription description = new StringDescription();
+    SUT.describeMismatch(stage, description);
+
+    assertThat(description.toString(), is("a stage that completed with a value that was <2>"));
+    assertThat(subscriptions.get(), is(1));
+  }
+
+  @Test
+  public void testCancelledMismatchFormatting() throws Exception {
+    final CompletableFuture<Integer> future = new CompletableFuture<>();
+    future.cancel(true);
+
+    final StringDescription description = new StringDescription();
+    SUT.describeMismatch(future, description);
+
+    assertThat(description.toString(), is("a stage that was cancelled"));
+  }
+
   @Test
   public void testDescriptionFormatting() throws Exception {
     final StringDescription description = new StringDescription();
@@ -22,15 +22,18 @@ package com.spotify.hamcrest.future;
 
 import static com.spotify.hamcrest.future.CompletableFutureMatchers.stageCompletedWithValueThat;
 import static com.spotify.hamcrest.future.TestUtils.waitUntilInterrupted;
+import static com.spotify.hamcrest.future.TestUtils.withoutToCompletableFuture;
 import static java.util.concurrent.CompletableFuture.completedFuture;
 import static java.util.concurrent.CompletableFuture.runAsync;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.CoreMatchers.startsWith;
 import static org.junit.Assert.assertThat;
 
 import java.io.IOException;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.hamcrest.Matcher;
 import org.hamcrest.StringDescription;
 import org.junit.Test;
@@ -40,6 +43,19 @@ public class SuccessfullyCompletedCompletionStageTest {
   private static final Matcher<CompletionStage<? extends Integer>> SUT =
       stageCompletedWithValueThat(is(1));
 
+  @Test
+  public void testStageWithoutToCompletableFuture() throws Exception {
+    final AtomicInteger subscriptions = new AtomicInteger();
+    final CompletableFuture<Integer> future = new CompletableFuture<>();
+    final CompletionStage<Integer> stage = withoutToCompletableFuture(future, subscriptions);
+
+    assertThat(stage, not(SUT));
+    future.complete(1);
+    assertThat(stage, SUT);
+
+    assertThat(subscriptions.get(), is(1));
+  }
+
   @Test
   public void testDescriptionFormatting() throws Exception {
     final StringDescription description = new StringDescription();
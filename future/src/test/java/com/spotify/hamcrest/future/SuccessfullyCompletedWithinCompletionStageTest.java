@@ -0,0 +1,168 @@
+/*-
+ * -\-\-
+ * hamcrest-future
+ * --
+ * Copyright (C) 2016 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.hamcrest.future;
+
+import static com.spotify.hamcrest.future.CompletableFutureMatchers.stageWillCompleteWithValue;
+import static com.spotify.hamcrest.future.CompletableFutureMatchers.stageWillCompleteWithValueThat;
+import static com.spotify.hamcrest.future.SuccessfullyCompletedWithinCompletionStage.formatNanos;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.hamcrest.CoreMatchers.both;
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.startsWith;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.matchesPattern;
+import static org.junit.Assert.assertThat;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import org.hamcrest.Matcher;
+import org.hamcrest.StringDescription;
+import org.junit.Test;
+
+public class SuccessfullyCompletedWithinCompletionStageTest {
+
+  private static final Matcher<CompletionStage<? extends Integer>> SUT =
+      stageWillCompleteWithValueThat(is(1), Duration.ofMillis(50));
+
+  @Test
+  public void testMatchesCompletedStage() throws Exception {
+    assertThat(completedFuture(1), SUT);
+  }
+
+  @Test
+  public void testMatchesStageCompletingWithinBudget() throws Exception {
+    final CompletableFuture<Integer> future = new CompletableFuture<>();
+    completeLater(future, 1, 10);
+
+    assertThat(future, stageWillCompleteWithValueThat(is(1), Duration.ofSeconds(10)));
+  }
+
+  @Test
+  public void testDescriptionFormatting() throws Exception {
+    assertThat(
+        StringDescription.toString(SUT),
+        is("a stage that completes within 50 ms with a value that is <1>"));
+  }
+
+  @Test
+  public void testValueMismatchFormatting() throws Exception {
+    final StringDescription description = new StringDescription();
+    SUT.describeMismatch(completedFuture(2), description);
+
+    assertThat(
+        description.toString(), is("a stage that completed after 0 ms with a value that was <2>"));
+  }
+
+  @Test
+  public void testValueMismatchReportsLatency() throws Exception {
+    final CompletableFuture<Integer> future = new CompletableFuture<>();
+    completeLater(future, 2, 10);
+    final Matcher<CompletionStage<? extends Integer>> sut =
+        stageWillCompleteWithValueThat(is(1), Duration.ofSeconds(10));
+
+    assertThat(future, not(sut));
+
+    final StringDescription description = new StringDescription();
+    sut.describeMismatch(future, description);
+    assertThat(
+        description.toString(),
+        matchesPattern("a stage that completed after \\d+\\.\\d{3} ms with a value that was <2>"));
+  }
+
+  @Test
+  public void testTooSlowMismatchFormatting() throws Exception {
+    final StringDescription description = new StringDescription();
+    SUT.describeMismatch(new CompletableFuture<Integer>(), description);
+
+    assertThat(description.toString(), is("a stage that did not complete within 50 ms"));
+  }
+
+  @Test
+  public void testIncompleteStageWaitsForBudgetOnce() throws Exception {
+    final long budgetMillis = 300;
+    final Matcher<CompletionStage<? extends Integer>> sut =
+        stageWillCompleteWithValueThat(is(1), Duration.ofMillis(budgetMillis));
+
+    final long start = System.nanoTime();
+    try {
+      assertThat(new CompletableFuture<Integer>(), sut);
+      throw new IllegalStateException("expected the assertion to fail");
+    } catch (AssertionError e) {
+      assertThat(e.getMessage(), containsString("a stage that did not complete within 300 ms"));
+    }
+    final long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+    assertThat(
+        elapsedMillis,
+        is(both(greaterThanOrEqualTo(budgetMillis)).and(lessThan(2 * budgetMillis))));
+  }
+
+  @Test
+  public void testBudgetStartsPerMatcher() throws Exception {
+    final CompletableFuture<Integer> future = new CompletableFuture<>();
+
+    assertThat(future, not(stageWillCompleteWithValueThat(is(1), Duration.ofMillis(100))));
+
+    // the 100 ms the first matcher waited don't count against the budget of the second one
+    completeLater(future, 1, 30);
+    assertThat(future, stageWillCompleteWithValueThat(is(1), Duration.ofMillis(80)));
+  }
+
+  @Test
+  public void testFailedMismatchFormatting() throws Exception {
+    final CompletableFuture<Integer> future = new CompletableFuture<>();
+    future.completeExceptionally(new IOException("error"));
+
+    final StringDescription description = new StringDescription();
+    stageWillCompleteWithValue(Duration.ofMillis(5)).describeMismatch(future, description);
+
+    assertThat(
+        description.toString(),
+        startsWith(
+            "a stage that completed exceptionally after 0 ms with java.io.IOException: error"));
+  }
+
+  @Test
+  public void testFormatNanos() throws Exception {
+    assertThat(formatNanos(5_000_000), is("5 ms"));
+    assertThat(formatNanos(1_234_567), is("1.235 ms"));
+  }
+
+  private static void completeLater(
+      final CompletableFuture<Integer> future, final int value, final long delayMillis) {
+    new Thread(
+            () -> {
+              try {
+                Thread.sleep(delayMillis);
+              } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+              }
+              future.complete(value);
+            })
+        .start();
+  }
+}
@@ -20,6 +20,12 @@
 
 package com.spotify.hamcrest.future;
 
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicInteger;
+
 class TestUtils {
 
   /**
@@ -44,4 +50,38 @@ class TestUtils {
       }
     };
   }
+
+  /**
+   * Wraps a future in a {@link CompletionStage} that doesn't support {@link
+   * CompletionStage#toCompletableFuture()} and counts how often it is subscribed to with {@link
+   * CompletionStage#handle}.
+   */
+  @SuppressWarnings("unchecked")
+  static <T> CompletionStage<T> withoutToCompletableFuture(
+      final CompletableFuture<T> future, final AtomicInteger subscriptions) {
+    return (CompletionStage<T>)
+        Proxy.newProxyInstance(
+            CompletionStage.class.getClassLoader(),
+            new Class<?>[] {CompletionStage.class},
+            (proxy, method, args) -> {
+              switch (method.getName()) {
+                case "toCompletableFuture":
+                  throw new UnsupportedOperationException();
+                case "handle":
+                  subscriptions.incrementAndGet();
+                  break;
+                case "hashCode":
+                  return System.identityHashCode(proxy);
+                case "equals":
+                  return proxy == args[0];
+                default:
+                  break;
+              }
+              try {
+                return method.invoke(future, args);
+              } catch (InvocationTargetException e) {
+                throw e.getCause();
+              }
+            });
+  }
 }
@@ -0,0 +1,103 @@
+/*-
+ * -\-\-
+ * hamcrest-future
+ * --
+ * Copyright (C) 2016 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.hamcrest.future;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.Test;
+
+public class WheelTimerTest {
+
+  private final WheelTimer timer = new WheelTimer(1, MILLISECONDS, 8);
+
+  @Test
+  public void testRunsAfterDelay() throws Exception {
+    final CountDownLatch ran = new CountDownLatch(1);
+    final long start = System.nanoTime();
+
+    timer.schedule(ran::countDown, 20, MILLISECONDS);
+
+    assertTrue(ran.await(5, SECONDS));
+    assertThat(NANOSECONDS.toMillis(System.nanoTime() - start), is(greaterThanOrEqualTo(20L)));
+  }
+
+  @Test
+  public void testCancel() throws Exception {
+    final AtomicBoolean ran = new AtomicBoolean();
+    final WheelTimer.Timeout timeout = timer.schedule(() -> ran.set(true), 10, MILLISECONDS);
+
+    assertTrue(timeout.cancel());
+    Thread.sleep(50);
+
+    assertFalse(ran.get());
+  }
+
+  @Test
+  public void testCancelAfterRun() throws Exception {
+    final CountDownLatch ran = new CountDownLatch(1);
+    final WheelTimer.Timeout timeout = timer.schedule(ran::countDown, 0, MILLISECONDS);
+
+    assertTrue(ran.await(5, SECONDS));
+    assertFalse(timeout.cancel());
+  }
+
+  @Test
+  public void testManyTimeouts() throws Exception {
+    final int count = 10000;
+    final CountDownLatch ran = new CountDownLatch(count);
+
+    for (int i = 0; i < count; i++) {
+      timer.schedule(ran::countDown, ThreadLocalRandom.current().nextInt(50), MILLISECONDS);
+    }
+
+    assertTrue(ran.await(5, SECONDS));
+  }
+
+  @Test
+  public void testFailingTaskDoesNotStopTimer() throws Exception {
+    final CountDownLatch ran = new CountDownLatch(1);
+
+    timer.schedule(
+        () -> {
+          throw new IllegalStateException("boom");
+        },
+        0,
+        MILLISECONDS);
+    timer.schedule(ran::countDown, 5, MILLISECONDS);
+
+    assertTrue(ran.await(5, SECONDS));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testWheelSizeMustBePowerOfTwo() throws Exception {
+    new WheelTimer(1, MILLISECONDS, 6);
+  }
+}
@@ -24,35 +24,56 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.JsonNodeType;
 import com.spotify.hamcrest.util.LanguageUtils;
 import java.util.Objects;
+import org.hamcrest.BaseMatcher;
 import org.hamcrest.Description;
-import org.hamcrest.TypeSafeDiagnosingMatcher;
 
-public abstract class AbstractJsonNodeMatcher<A extends JsonNode>
-    extends TypeSafeDiagnosingMatcher<JsonNode> {
+/**
+ * Base class of the JSON node matchers.
+ *
+ * <p>Works like {@link org.hamcrest.TypeSafeDiagnosingMatcher}, except that {@link
+ * #matches(Object)} doesn't allocate a description to discard, so that a passing match of a JSON
+ * tree doesn't allocate at all.
+ */
+public abstract class AbstractJsonNodeMatcher<A extends JsonNode> extends BaseMatcher<JsonNode> {
 
   private final JsonNodeType type;
 
   AbstractJsonNodeMatcher(final JsonNodeType type) {
-    super(JsonNode.class);
     this.type = Objects.requireNonNull(type);
   }
 
   @Override
-  protected boolean matchesSafely(JsonNode item, Description mismatchDescription) {
-    if (item.getNodeType() == type) {
-      @SuppressWarnings("unchecked")
-      final A node = (A) item;
+  public final boolean matches(Object item) {
+    return item instanceof JsonNode && matchesSafely((JsonNode) item, Description.NONE);
+  }
 
-      return matchesNode(node, mismatchDescription);
+  @Override
+  public final void describeMismatch(Object item, Description mismatchDescription) {
+    if (item instanceof JsonNode) {
+      matchesSafely((JsonNode) item, mismatchDescription);
     } else {
-      mismatchDescription
-          .appendText("was not ")
-          .appendText(LanguageUtils.addArticle(type.name().toLowerCase()))
-          .appendText(" node, but ")
-          .appendText(LanguageUtils.addArticle(item.getNodeType().name().toLowerCase()))
-          .appendText(" node");
+      super.describeMismatch(item, mismatchDescription);
+    }
+  }
+
+  protected boolean matchesSafely(JsonNode item, Description mismatchDescription) {
+    if (item.getNodeType() != type) {
+      describeTypeMismatch(item, mismatchDescription);
       return false;
     }
+
+    @SuppressWarnings("unchecked")
+    final A node = (A) item;
+    return matchesNode(node, mismatchDescription);
+  }
+
+  private void describeTypeMismatch(JsonNode item, Description mismatchDescription) {
+    mismatchDescription
+        .appendText("was not ")
+        .appendText(LanguageUtils.addArticle(type.name().toLowerCase()))
+        .appendText(" node, but ")
+        .appendText(LanguageUtils.addArticle(item.getNodeType().name().toLowerCase()))
+        .appendText(" node");
   }
 
   protected abstract boolean matchesNode(A node, Description mismatchDescription);
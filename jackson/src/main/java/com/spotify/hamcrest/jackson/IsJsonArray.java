@@ -27,6 +27,7 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.JsonNodeType;
 import com.google.common.collect.ImmutableList;
+import com.spotify.hamcrest.util.MismatchTree;
 import java.util.Collection;
 import java.util.Objects;
 import org.hamcrest.Description;
@@ -60,8 +61,9 @@ public class IsJsonArray extends AbstractJsonNodeMatcher<ArrayNode> {
     if (elementsMatcher.matches(elements)) {
       return true;
     } else {
-      mismatchDescription.appendText("was an array node whose elements ");
-      elementsMatcher.describeMismatch(elements, mismatchDescription);
+      MismatchTree.wrapping(
+              "was an array node whose elements ", MismatchTree.of(elementsMatcher, elements))
+          .appendTo(mismatchDescription);
       return false;
     }
   }
@@ -0,0 +1,81 @@
+/*-
+ * -\-\-
+ * hamcrest-jackson
+ * --
+ * Copyright (C) 2016 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.hamcrest.jackson;
+
+import static com.spotify.hamcrest.array.ByteBufferMatchers.byteBufferEqualTo;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsAnything.anything;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.BinaryNode;
+import com.fasterxml.jackson.databind.node.JsonNodeType;
+import java.nio.ByteBuffer;
+import java.util.Objects;
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+
+/**
+ * Matches binary nodes by their bytes. The bytes are wrapped in a {@link ByteBuffer} without
+ * copying them or encoding them in Base64; a mismatch against expected bytes is a hexdump of the
+ * rows around the first difference.
+ */
+public class IsJsonBinary extends AbstractJsonNodeMatcher<BinaryNode> {
+
+  private final Matcher<? super ByteBuffer> bytesMatcher;
+
+  private IsJsonBinary(final Matcher<? super ByteBuffer> bytesMatcher) {
+    super(JsonNodeType.BINARY);
+    this.bytesMatcher = Objects.requireNonNull(bytesMatcher);
+  }
+
+  public static Matcher<JsonNode> jsonBinary() {
+    return new IsJsonBinary(is(anything()));
+  }
+
+  public static Matcher<JsonNode> jsonBinary(final byte[] bytes) {
+    return new IsJsonBinary(is(byteBufferEqualTo(bytes)));
+  }
+
+  public static Matcher<JsonNode> jsonBinary(final Matcher<? super ByteBuffer> bytesMatcher) {
+    return new IsJsonBinary(bytesMatcher);
+  }
+
+  public static Matcher<JsonNode> jsonBinary(final BinaryNode value) {
+    return jsonBinary(value.binaryValue());
+  }
+
+  @Override
+  protected boolean matchesNode(BinaryNode node, Description mismatchDescription) {
+    final ByteBuffer value = ByteBuffer.wrap(node.binaryValue());
+    if (bytesMatcher.matches(value)) {
+      return true;
+    } else {
+      mismatchDescription.appendText("was a binary node with value that ");
+      bytesMatcher.describeMismatch(value, mismatchDescription);
+      return false;
+    }
+  }
+
+  @Override
+  public void describeTo(Description description) {
+    description.appendText("a binary node with value that ").appendDescriptionOf(bytesMatcher);
+  }
+}
@@ -22,6 +22,7 @@ package com.spotify.hamcrest.jackson;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.BinaryNode;
 import com.fasterxml.jackson.databind.node.BooleanNode;
 import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 import com.fasterxml.jackson.databind.node.JsonNodeType;
@@ -29,13 +30,17 @@ import com.fasterxml.jackson.databind.node.MissingNode;
 import com.fasterxml.jackson.databind.node.NullNode;
 import com.fasterxml.jackson.databind.node.NumericNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.node.POJONode;
 import com.fasterxml.jackson.databind.node.TextNode;
+import com.google.common.collect.ImmutableList;
 import com.spotify.hamcrest.util.DescriptionUtils;
+import com.spotify.hamcrest.util.MismatchTree;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Objects;
-import java.util.function.Consumer;
+import java.util.SortedMap;
+import java.util.TreeMap;
 import org.hamcrest.Description;
 import org.hamcrest.Matcher;
 import org.hamcrest.StringDescription;
@@ -49,10 +54,14 @@ import org.hamcrest.StringDescription;
 public class IsJsonObject extends AbstractJsonNodeMatcher<ObjectNode> {
 
   private final LinkedHashMap<String, Matcher<? super JsonNode>> entryMatchers;
+  private final ImmutableList<String> keys;
+  private final ImmutableList<Matcher<? super JsonNode>> valueMatchers;
 
   private IsJsonObject(final LinkedHashMap<String, Matcher<? super JsonNode>> entryMatchers) {
     super(JsonNodeType.OBJECT);
     this.entryMatchers = Objects.requireNonNull(entryMatchers);
+    this.keys = ImmutableList.copyOf(entryMatchers.keySet());
+    this.valueMatchers = ImmutableList.copyOf(entryMatchers.values());
   }
 
   /**
@@ -88,8 +97,7 @@ public class IsJsonObject extends AbstractJsonNodeMatcher<ObjectNode> {
       case ARRAY:
         return IsJsonArray.jsonArray((ArrayNode) value);
       case BINARY:
-        throw new UnsupportedOperationException(
-            "Expected value contains a binary node, which is not implemented.");
+        return IsJsonBinary.jsonBinary((BinaryNode) value);
       case BOOLEAN:
         return IsJsonBoolean.jsonBoolean((BooleanNode) value);
       case MISSING:
@@ -101,8 +109,7 @@ public class IsJsonObject extends AbstractJsonNodeMatcher<ObjectNode> {
       case OBJECT:
         return IsJsonObject.jsonObject((ObjectNode) value);
       case POJO:
-        throw new UnsupportedOperationException(
-            "Expected value contains a POJO node, which is not implemented.");
+        return IsJsonPojo.jsonPojo((POJONode) value);
       case STRING:
         return IsJsonText.jsonText((TextNode) value);
       default:
@@ -126,21 +133,24 @@ public class IsJsonObject extends AbstractJsonNodeMatcher<ObjectNode> {
 
   @Override
   protected boolean matchesNode(ObjectNode node, Description mismatchDescription) {
-    LinkedHashMap<String, Consumer<Description>> mismatchedKeys = new LinkedHashMap<>();
-    for (Map.Entry<String, Matcher<? super JsonNode>> entryMatcher : entryMatchers.entrySet()) {
-      final String key = entryMatcher.getKey();
-      final Matcher<? super JsonNode> valueMatcher = entryMatcher.getValue();
+    // indexed loop and lazily created mismatches, so that a passing match doesn't allocate
+    SortedMap<Integer, MismatchTree> mismatches = null;
+    for (int position = 0; position < keys.size(); position++) {
+      final Matcher<? super JsonNode> valueMatcher = valueMatchers.get(position);
 
-      final JsonNode value = node.path(key);
+      final JsonNode value = node.path(keys.get(position));
 
       if (!valueMatcher.matches(value)) {
-        mismatchedKeys.put(key, d -> valueMatcher.describeMismatch(value, d));
+        if (mismatches == null) {
+          mismatches = new TreeMap<>();
+        }
+        mismatches.put(position, MismatchTree.of(valueMatcher, value));
       }
     }
 
-    if (!mismatchedKeys.isEmpty()) {
-      DescriptionUtils.describeNestedMismatches(
-          entryMatchers.keySet(), mismatchDescription, mismatchedKeys, IsJsonObject::describeKey);
+    if (mismatches != null) {
+      MismatchTree.nested("", keys, mismatches, IsJsonObject::describeKey)
+          .appendTo(mismatchDescription);
       return false;
     }
     return true;
@@ -0,0 +1,79 @@
+/*-
+ * -\-\-
+ * hamcrest-jackson
+ * --
+ * Copyright (C) 2016 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.hamcrest.jackson;
+
+import static org.hamcrest.core.IsAnything.anything;
+import static org.hamcrest.core.IsEqual.equalTo;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeType;
+import com.fasterxml.jackson.databind.node.POJONode;
+import java.util.Objects;
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+
+/**
+ * Matches POJO nodes, which hold an arbitrary Java object, by that object. The object is passed to
+ * the matcher as-is, without serializing it.
+ */
+public class IsJsonPojo extends AbstractJsonNodeMatcher<POJONode> {
+
+  private final Matcher<?> pojoMatcher;
+
+  private IsJsonPojo(final Matcher<?> pojoMatcher) {
+    super(JsonNodeType.POJO);
+    this.pojoMatcher = Objects.requireNonNull(pojoMatcher);
+  }
+
+  public static Matcher<JsonNode> jsonPojo() {
+    return new IsJsonPojo(anything());
+  }
+
+  /** Matches a POJO node whose object is equal to {@code pojo}, with arrays compared deeply. */
+  public static Matcher<JsonNode> jsonPojo(final Object pojo) {
+    return new IsJsonPojo(equalTo(pojo));
+  }
+
+  public static Matcher<JsonNode> jsonPojo(final Matcher<?> pojoMatcher) {
+    return new IsJsonPojo(pojoMatcher);
+  }
+
+  public static Matcher<JsonNode> jsonPojo(final POJONode value) {
+    return jsonPojo(value.getPojo());
+  }
+
+  @Override
+  protected boolean matchesNode(POJONode node, Description mismatchDescription) {
+    final Object value = node.getPojo();
+    if (pojoMatcher.matches(value)) {
+      return true;
+    } else {
+      mismatchDescription.appendText("was a pojo node with value that ");
+      pojoMatcher.describeMismatch(value, mismatchDescription);
+      return false;
+    }
+  }
+
+  @Override
+  public void describeTo(Description description) {
+    description.appendText("a pojo node with value that ").appendDescriptionOf(pojoMatcher);
+  }
+}
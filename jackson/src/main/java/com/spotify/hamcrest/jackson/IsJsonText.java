@@ -20,12 +20,14 @@
 
 package com.spotify.hamcrest.jackson;
 
+import static com.spotify.hamcrest.text.TextMatchers.textEqualTo;
 import static org.hamcrest.core.Is.is;
 import static org.hamcrest.core.IsAnything.anything;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.JsonNodeType;
 import com.fasterxml.jackson.databind.node.TextNode;
+import com.spotify.hamcrest.text.TextMatchers;
 import java.util.Objects;
 import org.hamcrest.Description;
 import org.hamcrest.Matcher;
@@ -43,8 +45,12 @@ public class IsJsonText extends AbstractJsonNodeMatcher<TextNode> {
     return new IsJsonText(is(anything()));
   }
 
+  /**
+   * Matches a text node with the given text. When a large text differs, only the differing lines
+   * are described, see {@link TextMatchers#textEqualTo(String)}.
+   */
   public static Matcher<JsonNode> jsonText(String text) {
-    return new IsJsonText(is(text));
+    return new IsJsonText(is(textEqualTo(text)));
   }
 
   public static Matcher<JsonNode> jsonText(Matcher<? super String> textMatcher) {
@@ -22,14 +22,17 @@ package com.spotify.hamcrest.jackson;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.BinaryNode;
 import com.fasterxml.jackson.databind.node.BooleanNode;
 import com.fasterxml.jackson.databind.node.MissingNode;
 import com.fasterxml.jackson.databind.node.NullNode;
 import com.fasterxml.jackson.databind.node.NumericNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.node.POJONode;
 import com.fasterxml.jackson.databind.node.TextNode;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
 import java.util.Collection;
 import org.hamcrest.Matcher;
 
@@ -55,6 +58,22 @@ public final class JsonMatchers {
     return IsJsonArray.jsonArray(value);
   }
 
+  public static Matcher<JsonNode> jsonBinary() {
+    return IsJsonBinary.jsonBinary();
+  }
+
+  public static Matcher<JsonNode> jsonBinary(byte[] bytes) {
+    return IsJsonBinary.jsonBinary(bytes);
+  }
+
+  public static Matcher<JsonNode> jsonBinary(Matcher<? super ByteBuffer> bytesMatcher) {
+    return IsJsonBinary.jsonBinary(bytesMatcher);
+  }
+
+  public static Matcher<JsonNode> jsonBinary(BinaryNode value) {
+    return IsJsonBinary.jsonBinary(value);
+  }
+
   public static Matcher<JsonNode> jsonBoolean() {
     return IsJsonBoolean.jsonBoolean();
   }
@@ -151,6 +170,22 @@ public final class JsonMatchers {
     return IsJsonObject.jsonObject(objectNode);
   }
 
+  public static Matcher<JsonNode> jsonPojo() {
+    return IsJsonPojo.jsonPojo();
+  }
+
+  public static Matcher<JsonNode> jsonPojo(Object pojo) {
+    return IsJsonPojo.jsonPojo(pojo);
+  }
+
+  public static Matcher<JsonNode> jsonPojo(Matcher<?> pojoMatcher) {
+    return IsJsonPojo.jsonPojo(pojoMatcher);
+  }
+
+  public static Matcher<JsonNode> jsonPojo(POJONode value) {
+    return IsJsonPojo.jsonPojo(value);
+  }
+
   public static Matcher<String> isJsonStringMatching(final Matcher<JsonNode> matcher) {
     return IsJsonStringMatching.isJsonStringMatching(matcher);
   }
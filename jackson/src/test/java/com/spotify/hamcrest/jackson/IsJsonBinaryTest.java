@@ -0,0 +1,99 @@
+/*-
+ * -\-\-
+ * hamcrest-jackson
+ * --
+ * Copyright (C) 2016 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.hamcrest.jackson;
+
+import static com.spotify.hamcrest.jackson.IsJsonBinary.jsonBinary;
+import static com.spotify.hamcrest.jackson.IsJsonObject.jsonObject;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.nio.ByteBuffer;
+import org.hamcrest.Matcher;
+import org.hamcrest.StringDescription;
+import org.junit.Test;
+
+public class IsJsonBinaryTest {
+
+  private static final JsonNodeFactory NF = JsonNodeFactory.instance;
+
+  @Test
+  public void testType() throws Exception {
+    final Matcher<JsonNode> sut = jsonBinary();
+
+    assertThat(NF.binaryNode(new byte[] {1, 2}), is(sut));
+    assertThat(NF.textNode("AQI="), not(sut));
+  }
+
+  @Test
+  public void testLiteral() throws Exception {
+    final Matcher<JsonNode> sut = jsonBinary(NF.binaryNode(new byte[] {1, 2}));
+
+    assertThat(NF.binaryNode(new byte[] {1, 2}), is(sut));
+    assertThat(NF.binaryNode(new byte[] {1, 3}), not(sut));
+    assertThat(NF.binaryNode(new byte[] {1}), not(sut));
+  }
+
+  @Test
+  public void testBufferMatcher() throws Exception {
+    final Matcher<JsonNode> sut = jsonBinary(is(ByteBuffer.wrap(new byte[] {1, 2})));
+
+    assertThat(NF.binaryNode(new byte[] {1, 2}), is(sut));
+    assertThat(NF.binaryNode(new byte[] {2, 1}), not(sut));
+  }
+
+  @Test
+  public void testObjectWithBinaryValue() throws Exception {
+    final ObjectNode expected = NF.objectNode();
+    expected.put("payload", new byte[] {(byte) 0xca, (byte) 0xfe});
+    final ObjectNode actual = NF.objectNode();
+    actual.put("payload", new byte[] {(byte) 0xca, (byte) 0xfe});
+
+    assertThat(actual, is(jsonObject(expected)));
+  }
+
+  @Test
+  public void testMismatchElements() throws Exception {
+    final Matcher<JsonNode> sut = jsonBinary(new byte[] {'a', 'b', 'c'});
+
+    final StringDescription description = new StringDescription();
+    sut.describeMismatch(NF.binaryNode(new byte[] {'a', 'b', 'd'}), description);
+
+    assertThat(
+        description.toString(),
+        is(
+            "was a binary node with value that differed first at offset 2 (0x00000002):\n"
+                + "  - 00000000  61 62 63                                          |abc|\n"
+                + "  + 00000000  61 62 64                                          |abd|"));
+  }
+
+  @Test
+  public void testDescription() throws Exception {
+    final Matcher<JsonNode> sut = jsonBinary(new byte[] {'a', 'b', 'c'});
+
+    assertThat(
+        StringDescription.toString(sut),
+        is("a binary node with value that is a ByteBuffer with 3 remaining bytes 61 62 63"));
+  }
+}
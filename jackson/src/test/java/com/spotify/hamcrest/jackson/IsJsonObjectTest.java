@@ -24,12 +24,14 @@ import static com.spotify.hamcrest.jackson.IsJsonBoolean.jsonBoolean;
 import static com.spotify.hamcrest.jackson.IsJsonNull.jsonNull;
 import static com.spotify.hamcrest.jackson.IsJsonNumber.jsonInt;
 import static com.spotify.hamcrest.jackson.IsJsonObject.jsonObject;
+import static com.spotify.hamcrest.perf.PerfMatchers.allocatesAtMost;
 import static org.hamcrest.core.Is.is;
 import static org.junit.Assert.assertThat;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.spotify.hamcrest.util.MismatchTree;
 import org.hamcrest.Matcher;
 import org.hamcrest.StringDescription;
 import org.junit.Test;
@@ -288,4 +290,39 @@ public class IsJsonObjectTest {
                 + "  }\n"
                 + "}"));
   }
+
+  @Test
+  public void testMismatchTree() throws Exception {
+    final Matcher<JsonNode> sut =
+        is(
+            jsonObject()
+                .where("foo", is(jsonInt(1)))
+                .where("baz", is(jsonObject().where("foo", is(jsonNull())))));
+
+    final MismatchTree tree =
+        MismatchTree.of(
+            sut,
+            NF.objectNode()
+                .put("foo", 2)
+                .set("baz", NF.objectNode().set("foo", NF.booleanNode(false))));
+
+    assertThat(
+        tree.toJson(),
+        is(
+            "{\"children\":["
+                + "{\"path\":\"foo\",\"reason\":\"was a number node with value that was <2>\","
+                + "\"expected\":\"is a number node with value that is <1>\",\"actual\":\"<2>\"},"
+                + "{\"path\":\"baz\",\"children\":["
+                + "{\"path\":\"foo\",\"reason\":\"was not a null node, but a boolean node\","
+                + "\"expected\":\"is a null node\",\"actual\":\"<false>\"}]}]}"));
+  }
+
+  @Test
+  public void testPassingMatchDoesNotAllocate() throws Exception {
+    final ObjectNode node = NF.objectNode().put("foo", 1).put("bar", "baz").put("qux", false);
+    node.set("quux", NF.objectNode().putNull("foo"));
+    final Matcher<JsonNode> sut = jsonObject(node);
+
+    assertThat(() -> sut.matches(node), allocatesAtMost(0));
+  }
 }
@@ -0,0 +1,106 @@
+/*-
+ * -\-\-
+ * hamcrest-jackson
+ * --
+ * Copyright (C) 2016 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.hamcrest.jackson;
+
+import static com.spotify.hamcrest.jackson.IsJsonObject.jsonObject;
+import static com.spotify.hamcrest.jackson.IsJsonPojo.jsonPojo;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.startsWith;
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.node.POJONode;
+import java.time.LocalDate;
+import org.hamcrest.Matcher;
+import org.hamcrest.StringDescription;
+import org.junit.Test;
+
+public class IsJsonPojoTest {
+
+  private static final JsonNodeFactory NF = JsonNodeFactory.instance;
+
+  @Test
+  public void testType() throws Exception {
+    final Matcher<JsonNode> sut = jsonPojo();
+
+    assertThat(NF.pojoNode(LocalDate.of(2017, 1, 1)), is(sut));
+    assertThat(NF.textNode("2017-01-01"), not(sut));
+  }
+
+  @Test
+  public void testLiteral() throws Exception {
+    final Matcher<JsonNode> sut = jsonPojo((POJONode) NF.pojoNode(LocalDate.of(2017, 1, 1)));
+
+    assertThat(NF.pojoNode(LocalDate.of(2017, 1, 1)), is(sut));
+    assertThat(NF.pojoNode(LocalDate.of(2017, 1, 2)), not(sut));
+    assertThat(NF.pojoNode("2017-01-01"), not(sut));
+  }
+
+  @Test
+  public void testArraysAreComparedDeeply() throws Exception {
+    final Matcher<JsonNode> sut = jsonPojo(new int[] {1, 2});
+
+    assertThat(NF.pojoNode(new int[] {1, 2}), is(sut));
+    assertThat(NF.pojoNode(new int[] {2, 1}), not(sut));
+  }
+
+  @Test
+  public void testMatcher() throws Exception {
+    final Matcher<JsonNode> sut = jsonPojo(startsWith("foo"));
+
+    assertThat(NF.pojoNode("foobar"), is(sut));
+    assertThat(NF.pojoNode("barfoo"), not(sut));
+  }
+
+  @Test
+  public void testObjectWithPojoValue() throws Exception {
+    final ObjectNode expected = NF.objectNode();
+    expected.putPOJO("date", LocalDate.of(2017, 1, 1));
+    expected.put("payload", new byte[] {1, 2, 3});
+    final ObjectNode actual = expected.deepCopy();
+
+    assertThat(actual, is(jsonObject(expected)));
+    assertThat(actual, is(jsonObject(expected).where("date", jsonPojo(LocalDate.of(2017, 1, 1)))));
+
+    actual.putPOJO("date", LocalDate.of(2018, 1, 1));
+    assertThat(actual, not(jsonObject(expected)));
+  }
+
+  @Test
+  public void testMismatchElements() throws Exception {
+    final Matcher<JsonNode> sut = jsonPojo(LocalDate.of(2017, 1, 1));
+
+    final StringDescription description = new StringDescription();
+    sut.describeMismatch(NF.pojoNode(LocalDate.of(2018, 1, 1)), description);
+
+    assertThat(description.toString(), is("was a pojo node with value that was <2018-01-01>"));
+  }
+
+  @Test
+  public void testDescription() throws Exception {
+    final Matcher<JsonNode> sut = jsonPojo(LocalDate.of(2017, 1, 1));
+
+    assertThat(StringDescription.toString(sut), is("a pojo node with value that <2017-01-01>"));
+  }
+}
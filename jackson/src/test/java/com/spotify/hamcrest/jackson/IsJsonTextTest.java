@@ -82,6 +82,31 @@ public class IsJsonTextTest {
     assertThat(description.toString(), is("was a text node with value that was \"foo\""));
   }
 
+  @Test
+  public void testMismatchLargeText() throws Exception {
+    final StringBuilder text = new StringBuilder();
+    for (int i = 0; i < 10_000; i++) {
+      text.append("line ").append(i).append('\n');
+    }
+    final Matcher<JsonNode> sut = jsonText(text.toString());
+
+    final StringDescription description = new StringDescription();
+    sut.describeMismatch(NF.textNode(text.toString().replace("line 5000\n", "")), description);
+
+    assertThat(
+        description.toString(),
+        is(
+            "was a text node with value that differed first at line 5001, column 9:\n"
+                + "  @@ -4998,7 +4998,6 @@\n"
+                + "    line 4997\n"
+                + "    line 4998\n"
+                + "    line 4999\n"
+                + "  - line 5000\n"
+                + "    line 5001\n"
+                + "    line 5002\n"
+                + "    line 5003"));
+  }
+
   @Test
   public void testMismatchType() throws Exception {
     final Matcher<JsonNode> sut = jsonText(is("a"));
@@ -0,0 +1,272 @@
+/*-
+ * -\-\-
+ * hamcrest-map
+ * --
+ * Copyright (C) 2016 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.hamcrest.map;
+
+import static java.util.Objects.requireNonNull;
+
+import com.spotify.hamcrest.util.DescriptionUtils;
+import com.spotify.hamcrest.util.MismatchTree;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import org.hamcrest.BaseMatcher;
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.hamcrest.StringDescription;
+import org.hamcrest.core.IsEqual;
+
+/**
+ * Matches a {@link Map} by the values of its keys, the {@code Map} equivalent of {@code
+ * IsJsonObject}.
+ *
+ * <p>Every expected key is looked up once and, in strict mode, the actual keys are only scanned for
+ * unexpected ones if the sizes show there are any, so a match is a single linear pass however large
+ * the map is, and a passing match allocates nothing: {@link #matches(Object)} checks without
+ * building a description, which {@link org.hamcrest.TypeSafeDiagnosingMatcher} would allocate on
+ * every call. Missing, changed and unexpected keys are described together through {@link
+ * DescriptionUtils#describeNestedMismatches(List, Description, SortedMap,
+ * java.util.function.BiConsumer)}, at most {@value #MAX_DESCRIBED_MISMATCHES} of them:
+ *
+ * <pre>
+ * {
+ *   ...
+ *   "timeout": was &lt;30&gt;
+ *   ...
+ *   "retries": was missing
+ *   ...
+ *   "debug": was unexpected with value &lt;true&gt;
+ * }
+ * </pre>
+ *
+ * @see #map()
+ * @see #mapEqualTo(Map)
+ * @see #mapContaining(Map)
+ */
+public class IsMap<K, V> extends BaseMatcher<Map<? extends K, ? extends V>> {
+
+  static final int MAX_DESCRIBED_ENTRIES = 20;
+  static final int MAX_DESCRIBED_MISMATCHES = 20;
+
+  private final boolean strict;
+  private final LinkedHashMap<K, Matcher<? super V>> entryMatchers;
+  private final List<K> keys;
+  private final List<Matcher<? super V>> valueMatchers;
+
+  private IsMap(final boolean strict, final LinkedHashMap<K, Matcher<? super V>> entryMatchers) {
+    this.strict = strict;
+    this.entryMatchers = requireNonNull(entryMatchers);
+    this.keys = Collections.unmodifiableList(new ArrayList<>(entryMatchers.keySet()));
+    this.valueMatchers = Collections.unmodifiableList(new ArrayList<>(entryMatchers.values()));
+  }
+
+  /**
+   * Creates a matcher of a map that has the keys added with {@link #where(Object, Matcher)}, and
+   * any others.
+   *
+   * @return instance of {@link IsMap}.
+   */
+  public static <K, V> IsMap<K, V> map() {
+    return new IsMap<>(false, new LinkedHashMap<>());
+  }
+
+  /**
+   * Creates a matcher of a map that has exactly the keys of {@code expected}, with equal values.
+   * Values that are maps are matched with {@code mapEqualTo} as well, so that their mismatches are
+   * described per key.
+   *
+   * @param expected the expected map.
+   * @return instance of {@link IsMap}.
+   */
+  public static <K, V> IsMap<K, V> mapEqualTo(final Map<? extends K, ? extends V> expected) {
+    return new IsMap<>(true, entryMatchers(expected, true));
+  }
+
+  /**
+   * Creates a matcher of a map that has at least the keys of {@code expected}, with equal values.
+   * Values that are maps are matched with {@code mapContaining} as well.
+   *
+   * @param expected the expected entries.
+   * @return instance of {@link IsMap}.
+   */
+  public static <K, V> IsMap<K, V> mapContaining(final Map<? extends K, ? extends V> expected) {
+    return new IsMap<>(false, entryMatchers(expected, false));
+  }
+
+  private static <K, V> LinkedHashMap<K, Matcher<? super V>> entryMatchers(
+      final Map<? extends K, ? extends V> expected, final boolean strict) {
+    final LinkedHashMap<K, Matcher<? super V>> entryMatchers = new LinkedHashMap<>();
+    for (Map.Entry<? extends K, ? extends V> entry : expected.entrySet()) {
+      entryMatchers.put(entry.getKey(), valueMatcher(entry.getValue(), strict));
+    }
+    return entryMatchers;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <V> Matcher<? super V> valueMatcher(final V value, final boolean strict) {
+    if (value instanceof Map) {
+      final Map<Object, Object> map = (Map<Object, Object>) value;
+      return (Matcher<? super V>) (strict ? mapEqualTo(map) : mapContaining(map));
+    }
+    return IsEqual.equalTo(value);
+  }
+
+  /**
+   * Expect that the value of a given key matches a value.
+   *
+   * @param key the key we want to match.
+   * @param valueMatcher the matcher of the value.
+   * @return a new instance of {@link IsMap}.
+   */
+  public IsMap<K, V> where(final K key, final Matcher<? super V> valueMatcher) {
+    final LinkedHashMap<K, Matcher<? super V>> newMap = new LinkedHashMap<>(entryMatchers);
+    newMap.put(key, requireNonNull(valueMatcher));
+    return new IsMap<>(strict, newMap);
+  }
+
+  /**
+   * Expect that the map has no other keys than the ones expected.
+   *
+   * @return a new instance of {@link IsMap}.
+   */
+  public IsMap<K, V> strict() {
+    return new IsMap<>(true, entryMatchers);
+  }
+
+  @Override
+  public final boolean matches(final Object item) {
+    return item instanceof Map && matchesSafely(cast(item), Description.NONE);
+  }
+
+  @Override
+  public final void describeMismatch(final Object item, final Description mismatchDescription) {
+    if (item instanceof Map) {
+      matchesSafely(cast(item), mismatchDescription);
+    } else {
+      super.describeMismatch(item, mismatchDescription);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private Map<? extends K, ? extends V> cast(final Object item) {
+    return (Map<? extends K, ? extends V>) item;
+  }
+
+  protected boolean matchesSafely(
+      final Map<? extends K, ? extends V> item, final Description mismatchDescription) {
+    final boolean describe = !(mismatchDescription instanceof Description.NullDescription);
+
+    SortedMap<Integer, MismatchTree> mismatches = null;
+    int missing = 0;
+    int changed = 0;
+    for (int position = 0; position < keys.size(); position++) {
+      final K key = keys.get(position);
+      final V value = item.get(key);
+      final MismatchTree mismatch;
+      if (value == null && !item.containsKey(key)) {
+        missing++;
+        mismatch = MismatchTree.leaf("was missing");
+      } else if (!valueMatchers.get(position).matches(value)) {
+        changed++;
+        mismatch = MismatchTree.of(valueMatchers.get(position), value);
+      } else {
+        continue;
+      }
+      if (!describe) {
+        return false;
+      }
+      if (mismatches == null) {
+        mismatches = new TreeMap<>();
+      }
+      if (mismatches.size() < MAX_DESCRIBED_MISMATCHES) {
+        mismatches.put(position, mismatch);
+      }
+    }
+
+    List<K> unexpectedKeys = Collections.emptyList();
+    final int unexpected = strict ? item.size() - (keys.size() - missing) : 0;
+    if (unexpected > 0) {
+      if (!describe) {
+        return false;
+      }
+      if (mismatches == null) {
+        mismatches = new TreeMap<>();
+      }
+      unexpectedKeys = new ArrayList<>();
+      for (Map.Entry<? extends K, ? extends V> entry : item.entrySet()) {
+        if (mismatches.size() >= MAX_DESCRIBED_MISMATCHES) {
+          break;
+        }
+        if (!entryMatchers.containsKey(entry.getKey())) {
+          mismatches.put(
+              keys.size() + unexpectedKeys.size(),
+              MismatchTree.leaf("was unexpected with value ", entry.getValue()));
+          unexpectedKeys.add(entry.getKey());
+        }
+      }
+    }
+
+    if (mismatches == null) {
+      return true;
+    }
+
+    final List<String> describedKeys = new ArrayList<>(keys.size() + unexpectedKeys.size());
+    for (K key : keys) {
+      describedKeys.add(describeKey(key));
+    }
+    for (K key : unexpectedKeys) {
+      describedKeys.add(describeKey(key));
+    }
+    final int total = missing + changed + unexpected;
+    final String reason =
+        total > mismatches.size()
+            ? String.format(
+                "had %d missing, %d changed and %d unexpected keys, showing the first %d ",
+                missing, changed, unexpected, mismatches.size())
+            : "";
+    MismatchTree.nested(reason, describedKeys, mismatches, (key, d) -> d.appendText(key))
+        .appendTo(mismatchDescription);
+    return false;
+  }
+
+  @Override
+  public void describeTo(final Description description) {
+    description.appendText(strict ? "a map with exactly {\n" : "a map containing {\n");
+    for (int position = 0; position < Math.min(keys.size(), MAX_DESCRIBED_ENTRIES); position++) {
+      description.appendText("  " + describeKey(keys.get(position)) + ": ");
+
+      final Description innerDescription = new StringDescription();
+      valueMatchers.get(position).describeTo(innerDescription);
+      DescriptionUtils.indentDescription(description, innerDescription);
+    }
+    if (keys.size() > MAX_DESCRIBED_ENTRIES) {
+      description.appendText("  ... and " + (keys.size() - MAX_DESCRIBED_ENTRIES) + " more\n");
+    }
+    description.appendText("}");
+  }
+
+  private static String describeKey(final Object key) {
+    return new StringDescription().appendValue(key).toString();
+  }
+}
@@ -0,0 +1,161 @@
+/*-
+ * -\-\-
+ * hamcrest-map
+ * --
+ * Copyright (C) 2016 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.hamcrest.map;
+
+import static com.spotify.hamcrest.map.IsMap.map;
+import static com.spotify.hamcrest.map.IsMap.mapContaining;
+import static com.spotify.hamcrest.map.IsMap.mapEqualTo;
+import static com.spotify.hamcrest.perf.PerfMatchers.allocatesAtMost;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
+
+import com.google.common.collect.ImmutableMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.hamcrest.Matcher;
+import org.hamcrest.StringDescription;
+import org.junit.Test;
+
+public class IsMapTest {
+
+  private static final Map<String, Object> CONFIG =
+      ImmutableMap.of(
+          "timeout", 10,
+          "retries", 3,
+          "server", ImmutableMap.of("host", "localhost", "port", 8080));
+
+  @Test
+  public void testWhere() throws Exception {
+    final Matcher<Map<? extends String, ?>> sut =
+        IsMap.<String, Object>map().where("timeout", is(10));
+
+    assertThat(CONFIG, sut);
+    assertThat(ImmutableMap.of("timeout", 20), not(sut));
+    assertThat(ImmutableMap.of(), not(sut));
+  }
+
+  @Test
+  public void testMapEqualTo() throws Exception {
+    assertThat(new HashMap<>(CONFIG), mapEqualTo(CONFIG));
+    assertThat(ImmutableMap.of("timeout", 10, "retries", 3), not(mapEqualTo(CONFIG)));
+    assertThat(
+        ImmutableMap.builder().putAll(CONFIG).put("debug", true).build(), not(mapEqualTo(CONFIG)));
+  }
+
+  @Test
+  public void testMapContaining() throws Exception {
+    final Map<String, Object> actual = new HashMap<>(CONFIG);
+    actual.put("debug", true);
+    actual.put("server", ImmutableMap.of("host", "localhost", "port", 8080, "tls", false));
+
+    assertThat(actual, mapContaining(CONFIG));
+    assertThat(actual, not(mapContaining(CONFIG).strict()));
+    assertThat(ImmutableMap.of("timeout", 10), not(mapContaining(CONFIG)));
+  }
+
+  @Test
+  public void testNullValues() throws Exception {
+    final Map<String, Object> expected = new HashMap<>();
+    expected.put("a", null);
+
+    assertThat(new HashMap<>(expected), mapEqualTo(expected));
+    assertThat(new HashMap<String, Object>(), not(mapEqualTo(expected)));
+  }
+
+  @Test
+  public void testOverrideExpectedValue() throws Exception {
+    final Map<String, Integer> actual = ImmutableMap.of("timeout", 15, "retries", 3);
+    final Map<String, Integer> expected = ImmutableMap.of("timeout", 10, "retries", 3);
+
+    assertThat(actual, mapEqualTo(expected).where("timeout", greaterThan(10)));
+  }
+
+  @Test
+  public void testLargeMap() throws Exception {
+    final Map<String, Integer> expected = largeMap(100_000);
+
+    assertThat(largeMap(100_000), mapEqualTo(expected));
+  }
+
+  @Test
+  public void testPassingMatchDoesNotAllocate() throws Exception {
+    final Map<String, Integer> actual = largeMap(1_000);
+    final Matcher<Map<? extends String, ? extends Integer>> sut = mapEqualTo(largeMap(1_000));
+
+    assertThat(() -> sut.matches(actual), allocatesAtMost(0));
+  }
+
+  @Test
+  public void testMismatchFormatting() throws Exception {
+    final Map<String, Object> actual = new LinkedHashMap<>();
+    actual.put("timeout", 30);
+    actual.put("server", ImmutableMap.of("host", "localhost", "port", 8443));
+    actual.put("debug", true);
+
+    final StringDescription description = new StringDescription();
+    mapEqualTo(CONFIG).describeMismatch(actual, description);
+
+    assertThat(
+        description.toString(),
+        is(
+            "{\n"
+                + "  \"timeout\": was <30>\n"
+                + "  \"retries\": was missing\n"
+                + "  \"server\": {\n"
+                + "    ...\n"
+                + "    \"port\": was <8443>\n"
+                + "  }\n"
+                + "  \"debug\": was unexpected with value <true>\n"
+                + "}"));
+  }
+
+  @Test
+  public void testMismatchesAreBounded() throws Exception {
+    final StringDescription description = new StringDescription();
+    mapEqualTo(largeMap(1_000)).describeMismatch(largeMap(500), description);
+
+    final String[] lines = description.toString().split("\n");
+    assertThat(
+        lines[0], is("had 500 missing, 0 changed and 0 unexpected keys, showing the first 20 {"));
+    assertThat(lines.length, is(IsMap.MAX_DESCRIBED_MISMATCHES + 4));
+  }
+
+  @Test
+  public void testDescription() throws Exception {
+    assertThat(
+        StringDescription.toString(mapEqualTo(ImmutableMap.of("a", 1))),
+        is("a map with exactly {\n  \"a\": <1>\n}"));
+    assertThat(
+        StringDescription.toString(mapContaining(largeMap(100))).split("\n").length,
+        is(IsMap.MAX_DESCRIBED_ENTRIES + 3));
+  }
+
+  private static Map<String, Integer> largeMap(final int size) {
+    final Map<String, Integer> map = new LinkedHashMap<>();
+    for (int i = 0; i < size; i++) {
+      map.put("key-" + i, i);
+    }
+    return map;
+  }
+}
@@ -20,6 +20,7 @@
 
 package com.spotify.hamcrest.optional;
 
+import com.spotify.hamcrest.util.MismatchTree;
 import java.util.Optional;
 import org.hamcrest.Description;
 import org.hamcrest.TypeSafeDiagnosingMatcher;
@@ -30,7 +31,7 @@ class EmptyOptional<T> extends TypeSafeDiagnosingMatcher<Optional<T>> {
   @Override
   protected boolean matchesSafely(final Optional<T> item, final Description mismatchDescription) {
     if (item.isPresent()) {
-      mismatchDescription.appendText("was present with ").appendValue(item.get());
+      MismatchTree.leaf("was present with ", item.get()).appendTo(mismatchDescription);
       return false;
     }
     return true;
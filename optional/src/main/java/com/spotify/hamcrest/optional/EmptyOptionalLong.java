@@ -0,0 +1,50 @@
+/*-
+ * -\-\-
+ * hamcrest-optional
+ * --
+ * Copyright (C) 2016 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.hamcrest.optional;
+
+import com.spotify.hamcrest.util.MismatchTree;
+import java.util.OptionalLong;
+import org.hamcrest.Description;
+import org.hamcrest.TypeSafeMatcher;
+
+/** Matches an empty OptionalLong. */
+class EmptyOptionalLong extends TypeSafeMatcher<OptionalLong> {
+
+  EmptyOptionalLong() {
+    super(OptionalLong.class);
+  }
+
+  @Override
+  protected boolean matchesSafely(final OptionalLong item) {
+    return !item.isPresent();
+  }
+
+  @Override
+  protected void describeMismatchSafely(
+      final OptionalLong item, final Description mismatchDescription) {
+    MismatchTree.leaf("was present with ", item.getAsLong()).appendTo(mismatchDescription);
+  }
+
+  @Override
+  public void describeTo(final Description description) {
+    description.appendText("an OptionalLong that's empty");
+  }
+}
@@ -20,14 +20,32 @@
 
 package com.spotify.hamcrest.optional;
 
+import static java.util.Objects.requireNonNull;
 import static org.hamcrest.CoreMatchers.anything;
 import static org.hamcrest.CoreMatchers.equalTo;
 
 import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+import java.util.function.DoublePredicate;
+import java.util.function.IntPredicate;
+import java.util.function.LongPredicate;
 import org.hamcrest.Matcher;
+import org.hamcrest.SelfDescribing;
 
+/**
+ * Matchers for {@link Optional} and its primitive specializations.
+ *
+ * <p>The matchers for {@link OptionalInt}, {@link OptionalLong} and {@link OptionalDouble} test the
+ * value with a primitive predicate, so matching doesn't box it; the value is only boxed to describe
+ * a mismatch.
+ */
 public final class OptionalMatchers {
 
+  private static final SelfDescribing ANYTHING =
+      description -> description.appendText("is anything");
+
   private OptionalMatchers() {}
 
   /** Creates a Matcher that matches empty Optionals. */
@@ -52,4 +70,92 @@ public final class OptionalMatchers {
   public static <T> Matcher<Optional<? extends T>> optionalWithValue(final Matcher<T> matcher) {
     return new PresentOptional<>(matcher);
   }
+
+  /** Creates a Matcher that matches empty OptionalInts. */
+  public static Matcher<OptionalInt> emptyOptionalInt() {
+    return new EmptyOptionalInt();
+  }
+
+  /** Creates a Matcher that matches any OptionalInt with a value. */
+  public static Matcher<OptionalInt> optionalIntWithValue() {
+    return new PresentOptionalInt(v -> true, ANYTHING);
+  }
+
+  /** Creates a Matcher that matches an OptionalInt with the given value. */
+  public static Matcher<OptionalInt> optionalIntWithValue(final int value) {
+    return new PresentOptionalInt(
+        v -> v == value, description -> description.appendText("is ").appendValue(value));
+  }
+
+  /**
+   * Creates a Matcher that matches an OptionalInt with a value that passes the given predicate.
+   *
+   * @param description what the predicate tests, for example {@code "is positive"}.
+   * @param predicate the predicate the value must pass.
+   */
+  public static Matcher<OptionalInt> optionalIntWithValue(
+      final String description, final IntPredicate predicate) {
+    requireNonNull(description);
+    return new PresentOptionalInt(predicate, d -> d.appendText(description));
+  }
+
+  /** Creates a Matcher that matches empty OptionalLongs. */
+  public static Matcher<OptionalLong> emptyOptionalLong() {
+    return new EmptyOptionalLong();
+  }
+
+  /** Creates a Matcher that matches any OptionalLong with a value. */
+  public static Matcher<OptionalLong> optionalLongWithValue() {
+    return new PresentOptionalLong(v -> true, ANYTHING);
+  }
+
+  /** Creates a Matcher that matches an OptionalLong with the given value. */
+  public static Matcher<OptionalLong> optionalLongWithValue(final long value) {
+    return new PresentOptionalLong(
+        v -> v == value, description -> description.appendText("is ").appendValue(value));
+  }
+
+  /**
+   * Creates a Matcher that matches an OptionalLong with a value that passes the given predicate.
+   *
+   * @param description what the predicate tests, for example {@code "is positive"}.
+   * @param predicate the predicate the value must pass.
+   */
+  public static Matcher<OptionalLong> optionalLongWithValue(
+      final String description, final LongPredicate predicate) {
+    requireNonNull(description);
+    return new PresentOptionalLong(predicate, d -> d.appendText(description));
+  }
+
+  /** Creates a Matcher that matches empty OptionalDoubles. */
+  public static Matcher<OptionalDouble> emptyOptionalDouble() {
+    return new EmptyOptionalDouble();
+  }
+
+  /** Creates a Matcher that matches any OptionalDouble with a value. */
+  public static Matcher<OptionalDouble> optionalDoubleWithValue() {
+    return new PresentOptionalDouble(v -> true, ANYTHING);
+  }
+
+  /**
+   * Creates a Matcher that matches an OptionalDouble with the given value. Values are compared like
+   * {@link Double#equals(Object)}, so {@code NaN} equals itself.
+   */
+  public static Matcher<OptionalDouble> optionalDoubleWithValue(final double value) {
+    return new PresentOptionalDouble(
+        v -> Double.compare(v, value) == 0,
+        description -> description.appendText("is ").appendValue(value));
+  }
+
+  /**
+   * Creates a Matcher that matches an OptionalDouble with a value that passes the given predicate.
+   *
+   * @param description what the predicate tests, for example {@code "is positive"}.
+   * @param predicate the predicate the value must pass.
+   */
+  public static Matcher<OptionalDouble> optionalDoubleWithValue(
+      final String description, final DoublePredicate predicate) {
+    requireNonNull(description);
+    return new PresentOptionalDouble(predicate, d -> d.appendText(description));
+  }
 }
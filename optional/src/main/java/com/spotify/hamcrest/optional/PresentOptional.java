@@ -20,6 +20,7 @@
 
 package com.spotify.hamcrest.optional;
 
+import com.spotify.hamcrest.util.MismatchTree;
 import java.util.Optional;
 import org.hamcrest.Description;
 import org.hamcrest.Matcher;
@@ -40,8 +41,8 @@ class PresentOptional<T> extends TypeSafeDiagnosingMatcher<Optional<? extends T>
       if (matcher.matches(item.get())) {
         return true;
       } else {
-        mismatchDescription.appendText("was an Optional whose value ");
-        matcher.describeMismatch(item.get(), mismatchDescription);
+        MismatchTree.wrapping("was an Optional whose value ", MismatchTree.of(matcher, item.get()))
+            .appendTo(mismatchDescription);
         return false;
       }
     } else {
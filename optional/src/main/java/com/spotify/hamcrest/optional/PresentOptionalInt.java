@@ -0,0 +1,67 @@
+/*-
+ * -\-\-
+ * hamcrest-optional
+ * --
+ * Copyright (C) 2016 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.hamcrest.optional;
+
+import static java.util.Objects.requireNonNull;
+
+import com.spotify.hamcrest.util.MismatchTree;
+import java.util.OptionalInt;
+import java.util.function.IntPredicate;
+import org.hamcrest.Description;
+import org.hamcrest.SelfDescribing;
+import org.hamcrest.TypeSafeMatcher;
+
+/**
+ * Matches an OptionalInt with a value that passes a predicate. The value is only boxed to describe
+ * a mismatch.
+ */
+class PresentOptionalInt extends TypeSafeMatcher<OptionalInt> {
+
+  private final IntPredicate predicate;
+  private final SelfDescribing expected;
+
+  PresentOptionalInt(final IntPredicate predicate, final SelfDescribing expected) {
+    super(OptionalInt.class);
+    this.predicate = requireNonNull(predicate);
+    this.expected = requireNonNull(expected);
+  }
+
+  @Override
+  protected boolean matchesSafely(final OptionalInt item) {
+    return item.isPresent() && predicate.test(item.getAsInt());
+  }
+
+  @Override
+  protected void describeMismatchSafely(
+      final OptionalInt item, final Description mismatchDescription) {
+    if (item.isPresent()) {
+      MismatchTree.leaf("was an OptionalInt whose value was ", item.getAsInt())
+          .appendTo(mismatchDescription);
+    } else {
+      mismatchDescription.appendText("was not present");
+    }
+  }
+
+  @Override
+  public void describeTo(final Description description) {
+    description.appendText("an OptionalInt with a value that ").appendDescriptionOf(expected);
+  }
+}
@@ -0,0 +1,67 @@
+/*-
+ * -\-\-
+ * hamcrest-optional
+ * --
+ * Copyright (C) 2016 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.hamcrest.optional;
+
+import static java.util.Objects.requireNonNull;
+
+import com.spotify.hamcrest.util.MismatchTree;
+import java.util.OptionalLong;
+import java.util.function.LongPredicate;
+import org.hamcrest.Description;
+import org.hamcrest.SelfDescribing;
+import org.hamcrest.TypeSafeMatcher;
+
+/**
+ * Matches an OptionalLong with a value that passes a predicate. The value is only boxed to describe
+ * a mismatch.
+ */
+class PresentOptionalLong extends TypeSafeMatcher<OptionalLong> {
+
+  private final LongPredicate predicate;
+  private final SelfDescribing expected;
+
+  PresentOptionalLong(final LongPredicate predicate, final SelfDescribing expected) {
+    super(OptionalLong.class);
+    this.predicate = requireNonNull(predicate);
+    this.expected = requireNonNull(expected);
+  }
+
+  @Override
+  protected boolean matchesSafely(final OptionalLong item) {
+    return item.isPresent() && predicate.test(item.getAsLong());
+  }
+
+  @Override
+  protected void describeMismatchSafely(
+      final OptionalLong item, final Description mismatchDescription) {
+    if (item.isPresent()) {
+      MismatchTree.leaf("was an OptionalLong whose value was ", item.getAsLong())
+          .appendTo(mismatchDescription);
+    } else {
+      mismatchDescription.appendText("was not present");
+    }
+  }
+
+  @Override
+  public void describeTo(final Description description) {
+    description.appendText("an OptionalLong with a value that ").appendDescriptionOf(expected);
+  }
+}
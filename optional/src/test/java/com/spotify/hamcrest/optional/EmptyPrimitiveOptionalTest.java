@@ -0,0 +1,59 @@
+/*-
+ * -\-\-
+ * hamcrest-optional
+ * --
+ * Copyright (C) 2016 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.hamcrest.optional;
+
+import static com.spotify.hamcrest.optional.OptionalMatchers.emptyOptionalDouble;
+import static com.spotify.hamcrest.optional.OptionalMatchers.emptyOptionalInt;
+import static com.spotify.hamcrest.optional.OptionalMatchers.emptyOptionalLong;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.junit.Assert.assertThat;
+
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+import org.hamcrest.StringDescription;
+import org.junit.Test;
+
+public class EmptyPrimitiveOptionalTest {
+
+  @Test
+  public void testMatches() throws Exception {
+    assertThat(OptionalInt.empty(), emptyOptionalInt());
+    assertThat(OptionalLong.empty(), emptyOptionalLong());
+    assertThat(OptionalDouble.empty(), emptyOptionalDouble());
+    assertThat(OptionalInt.of(1), not(emptyOptionalInt()));
+  }
+
+  @Test
+  public void testMismatchFormatting() throws Exception {
+    final StringDescription description = new StringDescription();
+    emptyOptionalLong().describeMismatch(OptionalLong.of(3), description);
+
+    assertThat(description.toString(), is("was present with <3L>"));
+  }
+
+  @Test
+  public void testDescriptionFormatting() throws Exception {
+    assertThat(
+        StringDescription.toString(emptyOptionalDouble()), is("an OptionalDouble that's empty"));
+  }
+}
@@ -21,7 +21,9 @@
 package com.spotify.hamcrest.optional;
 
 import static com.spotify.hamcrest.optional.OptionalMatchers.emptyOptional;
+import static com.spotify.hamcrest.optional.OptionalMatchers.optionalIntWithValue;
 import static com.spotify.hamcrest.optional.OptionalMatchers.optionalWithValue;
+import static com.spotify.hamcrest.perf.PerfMatchers.allocatesAtMost;
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.not;
@@ -31,6 +33,8 @@ import static org.junit.Assert.assertThat;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.OptionalInt;
+import org.hamcrest.Matcher;
 import org.junit.Test;
 
 public class OptionalMatchersTest {
@@ -56,4 +60,12 @@ public class OptionalMatchersTest {
     final Optional<List<Integer>> opt = Optional.of(Arrays.asList(1, 2, 3, 4));
     assertThat(opt, OptionalMatchers.optionalWithValue(hasSize(4)));
   }
+
+  @Test
+  public void testPrimitiveMatchDoesNotBox() {
+    final Matcher<OptionalInt> matcher = optionalIntWithValue(1000);
+    final OptionalInt value = OptionalInt.of(1000);
+
+    assertThat(() -> matcher.matches(value), allocatesAtMost(0));
+  }
 }
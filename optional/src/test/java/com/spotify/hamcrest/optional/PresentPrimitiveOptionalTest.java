@@ -0,0 +1,90 @@
+/*-
+ * -\-\-
+ * hamcrest-optional
+ * --
+ * Copyright (C) 2016 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.hamcrest.optional;
+
+import static com.spotify.hamcrest.optional.OptionalMatchers.optionalDoubleWithValue;
+import static com.spotify.hamcrest.optional.OptionalMatchers.optionalIntWithValue;
+import static com.spotify.hamcrest.optional.OptionalMatchers.optionalLongWithValue;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.junit.Assert.assertThat;
+
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+import org.hamcrest.Matcher;
+import org.hamcrest.StringDescription;
+import org.junit.Test;
+
+public class PresentPrimitiveOptionalTest {
+
+  private static final Matcher<OptionalInt> SUT = optionalIntWithValue(1);
+
+  @Test
+  public void testMatches() throws Exception {
+    assertThat(OptionalInt.of(1), SUT);
+    assertThat(OptionalInt.of(2), not(SUT));
+    assertThat(OptionalInt.empty(), not(SUT));
+
+    assertThat(OptionalLong.of(1L << 40), optionalLongWithValue(1L << 40));
+    assertThat(OptionalDouble.of(1.5), optionalDoubleWithValue(1.5));
+    assertThat(OptionalDouble.of(Double.NaN), optionalDoubleWithValue(Double.NaN));
+  }
+
+  @Test
+  public void testAnyValue() throws Exception {
+    assertThat(OptionalInt.of(7), optionalIntWithValue());
+    assertThat(OptionalLong.of(7), optionalLongWithValue());
+    assertThat(OptionalDouble.of(7), optionalDoubleWithValue());
+    assertThat(OptionalInt.empty(), not(optionalIntWithValue()));
+  }
+
+  @Test
+  public void testPredicate() throws Exception {
+    assertThat(OptionalInt.of(3), optionalIntWithValue("is odd", v -> v % 2 == 1));
+    assertThat(OptionalLong.of(4), not(optionalLongWithValue("is odd", v -> v % 2 == 1)));
+    assertThat(OptionalDouble.of(0.5), optionalDoubleWithValue("is a fraction", v -> v < 1));
+  }
+
+  @Test
+  public void testMismatchFormatting() throws Exception {
+    final StringDescription description = new StringDescription();
+    SUT.describeMismatch(OptionalInt.empty(), description);
+
+    assertThat(description.toString(), is("was not present"));
+  }
+
+  @Test
+  public void testValueMismatchFormatting() throws Exception {
+    final StringDescription description = new StringDescription();
+    optionalDoubleWithValue(1.5).describeMismatch(OptionalDouble.of(2.5), description);
+
+    assertThat(description.toString(), is("was an OptionalDouble whose value was <2.5>"));
+  }
+
+  @Test
+  public void testDescriptionFormatting() throws Exception {
+    assertThat(StringDescription.toString(SUT), is("an OptionalInt with a value that is <1>"));
+    assertThat(
+        StringDescription.toString(optionalLongWithValue("is odd", v -> v % 2 == 1)),
+        is("an OptionalLong with a value that is odd"));
+  }
+}
@@ -0,0 +1,155 @@
+/*-
+ * -\-\-
+ * hamcrest-perf
+ * --
+ * Copyright (C) 2016 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.hamcrest.perf;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.concurrent.TimeUnit;
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+
+/**
+ * Matches a task whose bytes allocated per invocation match a matcher.
+ *
+ * <p>The task is run for a number of warm-up invocations first so that it is compiled, and then
+ * measured in rounds of at least 10 ms. Since the JIT compiler may still be optimizing the task in
+ * the background, rounds continue until a few of them neither had compilation activity nor lowered
+ * the fewest bytes allocated per invocation. Using the fewest bytes filters out one-off allocations
+ * by the JVM, and the cost of reading the counter is subtracted. Allocations made by other threads
+ * on behalf of the task are not counted.
+ */
+class AllocationMatcher extends MeasuringMatcher<AllocationMatcher.Measurement> {
+
+  static final int DEFAULT_WARMUP_ITERATIONS = 10_000;
+  static final int DEFAULT_ITERATIONS = 1_000;
+  private static final int STABLE_ROUNDS = 5;
+  private static final int MAX_ROUNDS = 100;
+  private static final long MIN_ROUND_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+  private final Matcher<? super Long> bytesMatcher;
+  private final int warmupIterations;
+  private final int iterations;
+
+  AllocationMatcher(
+      final Matcher<? super Long> bytesMatcher, final int warmupIterations, final int iterations) {
+    if (warmupIterations < 0) {
+      throw new IllegalArgumentException(
+          "warmupIterations must not be negative: " + warmupIterations);
+    }
+    if (iterations <= 0) {
+      throw new IllegalArgumentException("iterations must be positive: " + iterations);
+    }
+    this.bytesMatcher = requireNonNull(bytesMatcher);
+    this.warmupIterations = warmupIterations;
+    this.iterations = iterations;
+  }
+
+  @Override
+  String unsupported() {
+    return JvmMetrics.allocationSupported()
+        ? null
+        : "this JVM does not support thread allocation accounting";
+  }
+
+  @Override
+  boolean matchesMeasurement(final Measurement measurement) {
+    return bytesMatcher.matches(measurement.bytesPerInvocation);
+  }
+
+  @Override
+  void describeMeasurement(final Measurement measurement, final Description mismatchDescription) {
+    mismatchDescription
+        .appendText("allocated ")
+        .appendText(String.valueOf(measurement.bytesPerInvocation))
+        .appendText(" bytes per invocation, the least in ")
+        .appendText(String.valueOf(measurement.rounds))
+        .appendText(" rounds of at least ")
+        .appendText(String.valueOf(iterations))
+        .appendText(" invocations after ")
+        .appendText(String.valueOf(warmupIterations))
+        .appendText(" warm-up invocations, ")
+        .appendText(String.valueOf(measurement.invocations))
+        .appendText(" invocations in total");
+  }
+
+  @Override
+  Measurement measure(final Runnable task) {
+    long total = 0;
+    for (int warmedUp = 0; warmedUp < warmupIterations; warmedUp += iterations) {
+      final int batch = Math.min(iterations, warmupIterations - warmedUp);
+      run(task, batch);
+      total += batch;
+    }
+
+    long least = Long.MAX_VALUE;
+    int rounds = 0;
+    for (int stable = 0; stable < STABLE_ROUNDS && rounds < MAX_ROUNDS; rounds++) {
+      final long compilation = JvmMetrics.compilationMillis();
+      final long start = JvmMetrics.allocatedBytes();
+      final long before = JvmMetrics.allocatedBytes();
+      final long overhead = before - start;
+      final long started = System.nanoTime();
+      long invocations = 0;
+      do {
+        run(task, iterations);
+        invocations += iterations;
+      } while (System.nanoTime() - started < MIN_ROUND_NANOS);
+      total += invocations;
+      final long allocated = Math.max(JvmMetrics.allocatedBytes() - before - overhead, 0);
+      final long perInvocation = (allocated + invocations - 1) / invocations;
+      if (perInvocation < least || JvmMetrics.compilationMillis() != compilation) {
+        least = Math.min(least, perInvocation);
+        stable = 0;
+      } else {
+        stable++;
+      }
+    }
+    return new Measurement(least, rounds, total);
+  }
+
+  // a separate method, so that every round runs the latest compiled version of the loop instead of
+  // an on-stack replacement compiled while the task was still being warmed up
+  private static void run(final Runnable task, final int iterations) {
+    for (int i = 0; i < iterations; i++) {
+      task.run();
+    }
+  }
+
+  @Override
+  public void describeTo(final Description description) {
+    description
+        .appendText("a task allocating per invocation a number of bytes that ")
+        .appendDescriptionOf(bytesMatcher);
+  }
+
+  static final class Measurement {
+
+    private final long bytesPerInvocation;
+    private final int rounds;
+    private final long invocations;
+
+    Measurement(final long bytesPerInvocation, final int rounds, final long invocations) {
+      this.bytesPerInvocation = bytesPerInvocation;
+      this.rounds = rounds;
+      this.invocations = invocations;
+    }
+  }
+}
@@ -0,0 +1,98 @@
+/*-
+ * -\-\-
+ * hamcrest-perf
+ * --
+ * Copyright (C) 2016 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.hamcrest.perf;
+
+import java.lang.management.CompilationMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * Reads the resource usage of the current thread from the platform {@link ThreadMXBean}, and the
+ * activity of the JIT compiler.
+ */
+final class JvmMetrics {
+
+  private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+  private static final com.sun.management.ThreadMXBean ALLOCATIONS = allocations();
+  private static final boolean CPU_TIME_SUPPORTED = cpuTime();
+  private static final CompilationMXBean COMPILATION = ManagementFactory.getCompilationMXBean();
+
+  private JvmMetrics() {}
+
+  private static com.sun.management.ThreadMXBean allocations() {
+    try {
+      if (THREADS instanceof com.sun.management.ThreadMXBean) {
+        final com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) THREADS;
+        if (threads.isThreadAllocatedMemorySupported()) {
+          if (!threads.isThreadAllocatedMemoryEnabled()) {
+            threads.setThreadAllocatedMemoryEnabled(true);
+          }
+          return threads;
+        }
+      }
+    } catch (LinkageError | UnsupportedOperationException | SecurityException e) {
+      // not a HotSpot compatible JVM, or not allowed to enable the accounting
+    }
+    return null;
+  }
+
+  private static boolean cpuTime() {
+    try {
+      if (THREADS.isCurrentThreadCpuTimeSupported()) {
+        if (!THREADS.isThreadCpuTimeEnabled()) {
+          THREADS.setThreadCpuTimeEnabled(true);
+        }
+        return true;
+      }
+    } catch (UnsupportedOperationException | SecurityException e) {
+      // not allowed to enable the measurement
+    }
+    return false;
+  }
+
+  static boolean allocationSupported() {
+    return ALLOCATIONS != null;
+  }
+
+  /** The bytes allocated by the current thread so far, including the ones already collected. */
+  static long allocatedBytes() {
+    return ALLOCATIONS.getThreadAllocatedBytes(Thread.currentThread().getId());
+  }
+
+  static boolean cpuTimeSupported() {
+    return CPU_TIME_SUPPORTED;
+  }
+
+  /** The CPU time used by the current thread so far in nanoseconds. */
+  static long cpuTimeNanos() {
+    return THREADS.getCurrentThreadCpuTime();
+  }
+
+  /**
+   * The total time the JIT compiler spent compiling so far in milliseconds, or 0 if it is not
+   * known.
+   */
+  static long compilationMillis() {
+    return COMPILATION != null && COMPILATION.isCompilationTimeMonitoringSupported()
+        ? COMPILATION.getTotalCompilationTime()
+        : 0;
+  }
+}
@@ -0,0 +1,176 @@
+/*-
+ * -\-\-
+ * hamcrest-perf
+ * --
+ * Copyright (C) 2016 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.hamcrest.perf;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
+
+/**
+ * A histogram of latencies in nanoseconds with fixed memory.
+ *
+ * <p>Values below 128 ns are counted exactly. Above that every power of two is split into 64 linear
+ * buckets, so a percentile is reported at most 1/64th (about 1.6%) above the recorded value it
+ * stands for. The whole range up to {@link Long#MAX_VALUE} fits into one array of counters
+ * allocated up front, and recording a value doesn't allocate.
+ *
+ * <p>Instances are not thread safe.
+ */
+public final class LatencyHistogram {
+
+  private static final int EXACT_BITS = 7;
+  private static final int EXACT_COUNT = 1 << EXACT_BITS;
+  private static final int SUB_BUCKET_BITS = EXACT_BITS - 1;
+  private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+  private static final int BUCKET_COUNT =
+      EXACT_COUNT + (Long.SIZE - 1 - EXACT_BITS) * SUB_BUCKET_COUNT;
+
+  private final long[] counts = new long[BUCKET_COUNT];
+  private long count;
+  private long min = Long.MAX_VALUE;
+  private long max;
+  private long sum;
+
+  /** Creates an empty histogram. */
+  public LatencyHistogram() {}
+
+  /**
+   * Runs a task a number of times and records the latency of every invocation.
+   *
+   * @param iterations the number of times to run the task.
+   * @param task the task to measure.
+   * @return the recorded latencies.
+   */
+  public static LatencyHistogram measure(final int iterations, final Runnable task) {
+    requireNonNull(task);
+    if (iterations <= 0) {
+      throw new IllegalArgumentException("iterations must be positive: " + iterations);
+    }
+    final LatencyHistogram histogram = new LatencyHistogram();
+    for (int i = 0; i < iterations; i++) {
+      final long start = System.nanoTime();
+      task.run();
+      histogram.record(System.nanoTime() - start);
+    }
+    return histogram;
+  }
+
+  /**
+   * Records a latency.
+   *
+   * @param nanos the latency in nanoseconds, negative values are recorded as 0.
+   */
+  public void record(final long nanos) {
+    final long value = Math.max(nanos, 0);
+    counts[bucket(value)]++;
+    count++;
+    min = Math.min(min, value);
+    max = Math.max(max, value);
+    sum += value;
+  }
+
+  /**
+   * Records a latency.
+   *
+   * @param latency the latency.
+   */
+  public void record(final Duration latency) {
+    record(toNanos(latency));
+  }
+
+  /** The number of recorded latencies. */
+  public long count() {
+    return count;
+  }
+
+  /** The smallest recorded latency, or {@link Duration#ZERO} if nothing was recorded. */
+  public Duration min() {
+    return Duration.ofNanos(count == 0 ? 0 : min);
+  }
+
+  /** The largest recorded latency, or {@link Duration#ZERO} if nothing was recorded. */
+  public Duration max() {
+    return Duration.ofNanos(max);
+  }
+
+  /** The arithmetic mean of the recorded latencies, or {@link Duration#ZERO} if none were. */
+  public Duration mean() {
+    return Duration.ofNanos(count == 0 ? 0 : sum / count);
+  }
+
+  /**
+   * The latency at a percentile: the smallest latency that at least the given percentage of the
+   * recorded latencies are less than or equal to, within the precision of the histogram.
+   *
+   * @param percentile the percentile, between 0 and 100.
+   * @return the latency, or {@link Duration#ZERO} if nothing was recorded.
+   */
+  public Duration percentile(final double percentile) {
+    if (!(percentile >= 0 && percentile <= 100)) {
+      throw new IllegalArgumentException("percentile must be between 0 and 100: " + percentile);
+    }
+    return Duration.ofNanos(percentileNanos(percentile));
+  }
+
+  long percentileNanos(final double percentile) {
+    if (count == 0) {
+      return 0;
+    }
+    final long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+    long seen = 0;
+    for (int bucket = 0; bucket < counts.length; bucket++) {
+      seen += counts[bucket];
+      if (seen >= rank) {
+        return Math.max(min, Math.min(max, highestValue(bucket)));
+      }
+    }
+    return max;
+  }
+
+  static int bucket(final long value) {
+    if (value < EXACT_COUNT) {
+      return (int) value;
+    }
+    final int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+    final int shift = exponent - SUB_BUCKET_BITS;
+    final int subBucket = (int) (value >>> shift) - SUB_BUCKET_COUNT;
+    return EXACT_COUNT + (exponent - EXACT_BITS) * SUB_BUCKET_COUNT + subBucket;
+  }
+
+  static long highestValue(final int bucket) {
+    if (bucket < EXACT_COUNT) {
+      return bucket;
+    }
+    final int exponent = EXACT_BITS + (bucket - EXACT_COUNT) / SUB_BUCKET_COUNT;
+    final int subBucket = (bucket - EXACT_COUNT) % SUB_BUCKET_COUNT;
+    final int shift = exponent - SUB_BUCKET_BITS;
+    final long lowest = (long) (SUB_BUCKET_COUNT + subBucket) << shift;
+    return lowest + ((1L << shift) - 1);
+  }
+
+  private static long toNanos(final Duration duration) {
+    try {
+      return duration.toNanos();
+    } catch (ArithmeticException e) {
+      return duration.isNegative() ? 0 : Long.MAX_VALUE;
+    }
+  }
+}
@@ -0,0 +1,113 @@
+/*-
+ * -\-\-
+ * hamcrest-perf
+ * --
+ * Copyright (C) 2016 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.hamcrest.perf;
+
+import java.lang.ref.WeakReference;
+import java.util.concurrent.atomic.AtomicReference;
+import org.hamcrest.Description;
+import org.hamcrest.TypeSafeDiagnosingMatcher;
+
+/**
+ * Base class of the matchers that measure a task and match the measurement.
+ *
+ * <p>Matching and describing the mismatch both call {@link #matchesSafely(Runnable, Description)},
+ * so the measurement of the last task that didn't match is kept in between, and the task is only
+ * measured once. It is kept for the same task instance only, since tasks may override {@code
+ * equals}, and only weakly.
+ *
+ * @param <M> the type of the measurement.
+ */
+abstract class MeasuringMatcher<M> extends TypeSafeDiagnosingMatcher<Runnable> {
+
+  private final AtomicReference<Failure<M>> lastFailure = new AtomicReference<>();
+
+  MeasuringMatcher() {
+    super(Runnable.class);
+  }
+
+  @Override
+  protected final boolean matchesSafely(
+      final Runnable task, final Description mismatchDescription) {
+    final String unsupported = unsupported();
+    if (unsupported != null) {
+      mismatchDescription.appendText("could not be measured, ").appendText(unsupported);
+      return false;
+    }
+
+    final boolean describe = !(mismatchDescription instanceof Description.NullDescription);
+    final Failure<M> failure = describe ? lastFailure.getAndSet(null) : null;
+    final Outcome<M> outcome =
+        failure != null && failure.get() == task ? failure.outcome : measureOutcome(task);
+
+    if (outcome.thrown == null && matchesMeasurement(outcome.measurement)) {
+      return true;
+    }
+    if (!describe) {
+      lastFailure.set(new Failure<>(task, outcome));
+      return false;
+    }
+
+    if (outcome.thrown != null) {
+      mismatchDescription.appendText("threw ").appendValue(outcome.thrown);
+    } else {
+      describeMeasurement(outcome.measurement, mismatchDescription);
+    }
+    return false;
+  }
+
+  private Outcome<M> measureOutcome(final Runnable task) {
+    try {
+      return new Outcome<>(measure(task), null);
+    } catch (RuntimeException e) {
+      return new Outcome<>(null, e);
+    }
+  }
+
+  /** Returns why tasks can't be measured on this JVM, or {@code null} if they can. */
+  abstract String unsupported();
+
+  abstract M measure(Runnable task);
+
+  abstract boolean matchesMeasurement(M measurement);
+
+  abstract void describeMeasurement(M measurement, Description mismatchDescription);
+
+  private static final class Outcome<M> {
+
+    private final M measurement;
+    private final RuntimeException thrown;
+
+    Outcome(final M measurement, final RuntimeException thrown) {
+      this.measurement = measurement;
+      this.thrown = thrown;
+    }
+  }
+
+  private static final class Failure<M> extends WeakReference<Runnable> {
+
+    private final Outcome<M> outcome;
+
+    Failure(final Runnable task, final Outcome<M> outcome) {
+      super(task);
+      this.outcome = outcome;
+    }
+  }
+}
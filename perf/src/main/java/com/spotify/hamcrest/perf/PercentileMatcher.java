@@ -0,0 +1,105 @@
+/*-
+ * -\-\-
+ * hamcrest-perf
+ * --
+ * Copyright (C) 2016 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.hamcrest.perf;
+
+import static java.util.Objects.requireNonNull;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Locale;
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.hamcrest.TypeSafeDiagnosingMatcher;
+
+/**
+ * Matches a {@link LatencyHistogram} whose latency at a percentile matches a matcher. The mismatch
+ * contains the full percentile table of the histogram.
+ */
+class PercentileMatcher extends TypeSafeDiagnosingMatcher<LatencyHistogram> {
+
+  private static final double[] TABLE = {50, 90, 99, 99.9};
+
+  private final String name;
+  private final double percentile;
+  private final Matcher<? super Duration> matcher;
+
+  PercentileMatcher(final double percentile, final Matcher<? super Duration> matcher) {
+    this(null, percentile, matcher);
+  }
+
+  PercentileMatcher(
+      final String name, final double percentile, final Matcher<? super Duration> matcher) {
+    super(LatencyHistogram.class);
+    if (!(percentile >= 0 && percentile <= 100)) {
+      throw new IllegalArgumentException("percentile must be between 0 and 100: " + percentile);
+    }
+    this.name = name == null ? percentileName(percentile) : name;
+    this.percentile = percentile;
+    this.matcher = requireNonNull(matcher);
+  }
+
+  private static String percentileName(final double percentile) {
+    return "p" + BigDecimal.valueOf(percentile).stripTrailingZeros().toPlainString();
+  }
+
+  @Override
+  protected boolean matchesSafely(
+      final LatencyHistogram histogram, final Description mismatchDescription) {
+    if (histogram.count() == 0) {
+      mismatchDescription.appendText("had no recorded latencies");
+      return false;
+    }
+
+    final Duration latency = histogram.percentile(percentile);
+    if (matcher.matches(latency)) {
+      return true;
+    }
+
+    mismatchDescription.appendText(name).appendText(" ");
+    matcher.describeMismatch(latency, mismatchDescription);
+    mismatchDescription
+        .appendText(" in ")
+        .appendText(String.valueOf(histogram.count()))
+        .appendText(" latencies:");
+    appendRow(mismatchDescription, "min", histogram.min().toNanos());
+    for (double row : TABLE) {
+      appendRow(mismatchDescription, percentileName(row), histogram.percentileNanos(row));
+    }
+    appendRow(mismatchDescription, "max", histogram.max().toNanos());
+    appendRow(mismatchDescription, "mean", histogram.mean().toNanos());
+    return false;
+  }
+
+  @Override
+  public void describeTo(final Description description) {
+    description
+        .appendText("a latency distribution with ")
+        .appendText(name)
+        .appendText(" ")
+        .appendDescriptionOf(matcher);
+  }
+
+  private static void appendRow(
+      final Description description, final String label, final long nanos) {
+    description.appendText(
+        String.format(Locale.ROOT, "\n        %-6s %12.3f ms", label, nanos / 1e6));
+  }
+}
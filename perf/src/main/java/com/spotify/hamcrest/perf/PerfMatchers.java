@@ -0,0 +1,196 @@
+/*-
+ * -\-\-
+ * hamcrest-perf
+ * --
+ * Copyright (C) 2016 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.hamcrest.perf;
+
+import static java.util.Objects.requireNonNull;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import org.hamcrest.Matcher;
+
+/**
+ * Matchers for the latency distribution recorded in a {@link LatencyHistogram} and for the
+ * resources used by a task.
+ *
+ * <pre>{@code
+ * assertThat(LatencyHistogram.measure(10_000, () -> cache.get(key)),
+ *     p99(lessThan(Duration.ofMillis(20))));
+ *
+ * assertThat(() -> serializer.serialize(response), allocatesAtMost(64 * 1024));
+ *
+ * assertThat(invoking(() -> parser.parse(input)), cpuTime(lessThan(Duration.ofMillis(2))));
+ * }</pre>
+ */
+public final class PerfMatchers {
+
+  private static volatile Object sink;
+
+  private PerfMatchers() {}
+
+  /**
+   * Creates a {@link Matcher} that matches a {@link LatencyHistogram} whose median latency matches
+   * the given Matcher. An empty histogram is not matched.
+   */
+  public static Matcher<LatencyHistogram> p50(final Matcher<? super Duration> matcher) {
+    return percentile(50, matcher);
+  }
+
+  /**
+   * Creates a {@link Matcher} that matches a {@link LatencyHistogram} whose 90th percentile latency
+   * matches the given Matcher. An empty histogram is not matched.
+   */
+  public static Matcher<LatencyHistogram> p90(final Matcher<? super Duration> matcher) {
+    return percentile(90, matcher);
+  }
+
+  /**
+   * Creates a {@link Matcher} that matches a {@link LatencyHistogram} whose 99th percentile latency
+   * matches the given Matcher. An empty histogram is not matched.
+   */
+  public static Matcher<LatencyHistogram> p99(final Matcher<? super Duration> matcher) {
+    return percentile(99, matcher);
+  }
+
+  /**
+   * Creates a {@link Matcher} that matches a {@link LatencyHistogram} whose 99.9th percentile
+   * latency matches the given Matcher. An empty histogram is not matched.
+   */
+  public static Matcher<LatencyHistogram> p999(final Matcher<? super Duration> matcher) {
+    return percentile(99.9, matcher);
+  }
+
+  /**
+   * Creates a {@link Matcher} that matches a {@link LatencyHistogram} whose largest latency matches
+   * the given Matcher. An empty histogram is not matched.
+   */
+  public static Matcher<LatencyHistogram> max(final Matcher<? super Duration> matcher) {
+    return new PercentileMatcher("max", 100, matcher);
+  }
+
+  /**
+   * Creates a {@link Matcher} that matches a {@link LatencyHistogram} whose latency at the given
+   * percentile, between 0 and 100, matches the given Matcher. An empty histogram is not matched.
+   */
+  public static Matcher<LatencyHistogram> percentile(
+      final double percentile, final Matcher<? super Duration> matcher) {
+    return new PercentileMatcher(percentile, matcher);
+  }
+
+  /**
+   * Creates a {@link Matcher} that matches a task that allocates at most the given number of bytes
+   * per invocation on the calling thread, after warming it up. See {@link #allocations(Matcher,
+   * int, int)}.
+   */
+  public static Matcher<Runnable> allocatesAtMost(final long bytes) {
+    return allocations(lessThanOrEqualTo(bytes));
+  }
+
+  /**
+   * Creates a {@link Matcher} that matches a task whose bytes allocated per invocation on the
+   * calling thread match the given Matcher. The task is warmed up with 10000 invocations and then
+   * measured in rounds of 1000 invocations. See {@link #allocations(Matcher, int, int)}.
+   */
+  public static Matcher<Runnable> allocations(final Matcher<? super Long> bytesMatcher) {
+    return allocations(
+        bytesMatcher,
+        AllocationMatcher.DEFAULT_WARMUP_ITERATIONS,
+        AllocationMatcher.DEFAULT_ITERATIONS);
+  }
+
+  /**
+   * Creates a {@link Matcher} that matches a task whose bytes allocated per invocation on the
+   * calling thread match the given Matcher.
+   *
+   * <p>The task is run {@code warmupIterations} times first, so that it is compiled and allocations
+   * the JIT compiler can eliminate are not counted, and then measured in several rounds of {@code
+   * iterations} invocations. The round that allocated the least is used, rounded up to whole bytes
+   * per invocation. Allocations are read from {@code
+   * com.sun.management.ThreadMXBean#getThreadAllocatedBytes}; on a JVM that doesn't support it the
+   * matcher never matches.
+   */
+  public static Matcher<Runnable> allocations(
+      final Matcher<? super Long> bytesMatcher, final int warmupIterations, final int iterations) {
+    return new AllocationMatcher(bytesMatcher, warmupIterations, iterations);
+  }
+
+  /**
+   * Creates a {@link Matcher} that matches a task whose mean CPU time per invocation on the calling
+   * thread matches the given Matcher, once the measurement has stabilized. See {@link
+   * #cpuTime(Matcher, double)}.
+   */
+  public static Matcher<Runnable> cpuTime(final Matcher<? super Duration> matcher) {
+    return cpuTime(matcher, TimeMatcher.DEFAULT_MAX_RELATIVE_STDDEV);
+  }
+
+  /**
+   * Creates a {@link Matcher} that matches a task whose mean CPU time per invocation on the calling
+   * thread matches the given Matcher.
+   *
+   * <p>The task is run in batches that take at least 1 ms and each batch is one sample. Sampling
+   * continues until the standard deviation of the last 10 samples is at most {@code
+   * maxRelativeStddev} times their mean, so that JIT compilation of the first invocations doesn't
+   * distort the result, or until 10 seconds have passed. The mean of the last samples is matched,
+   * and a mismatch reports it together with the standard deviation and the number of invocations.
+   * The CPU time is read from {@link java.lang.management.ThreadMXBean#getCurrentThreadCpuTime()};
+   * on a JVM that doesn't support it the matcher never matches.
+   */
+  public static Matcher<Runnable> cpuTime(
+      final Matcher<? super Duration> matcher, final double maxRelativeStddev) {
+    return new TimeMatcher(TimeMatcher.Clock.CPU, matcher, maxRelativeStddev);
+  }
+
+  /**
+   * Creates a {@link Matcher} that matches a task whose mean wall time per invocation matches the
+   * given Matcher, once the measurement has stabilized. See {@link #cpuTime(Matcher, double)}.
+   */
+  public static Matcher<Runnable> wallTime(final Matcher<? super Duration> matcher) {
+    return wallTime(matcher, TimeMatcher.DEFAULT_MAX_RELATIVE_STDDEV);
+  }
+
+  /**
+   * Creates a {@link Matcher} that matches a task whose mean wall time per invocation matches the
+   * given Matcher, once the standard deviation of the samples is at most {@code maxRelativeStddev}
+   * times their mean. See {@link #cpuTime(Matcher, double)}.
+   */
+  public static Matcher<Runnable> wallTime(
+      final Matcher<? super Duration> matcher, final double maxRelativeStddev) {
+    return new TimeMatcher(TimeMatcher.Clock.WALL, matcher, maxRelativeStddev);
+  }
+
+  /**
+   * Adapts a {@link Callable} to a task for the matchers of this class. Its results are kept
+   * reachable so the JIT compiler can't remove the computation, and checked exceptions are rethrown
+   * wrapped in an {@link IllegalStateException}.
+   */
+  public static Runnable invoking(final Callable<?> callable) {
+    requireNonNull(callable);
+    return () -> {
+      try {
+        sink = callable.call();
+      } catch (RuntimeException e) {
+        throw e;
+      } catch (Exception e) {
+        throw new IllegalStateException(e);
+      }
+    };
+  }
+}
@@ -0,0 +1,209 @@
+/*-
+ * -\-\-
+ * hamcrest-perf
+ * --
+ * Copyright (C) 2016 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.hamcrest.perf;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+
+/**
+ * Matches a task whose mean CPU or wall time per invocation matches a matcher.
+ *
+ * <p>The task is run in batches that take at least 1 ms, doubling the batch size until they do, and
+ * every batch gives one sample of the time per invocation. Sampling continues until the relative
+ * standard deviation of the last 10 samples is below a threshold, which skips the noisy first
+ * invocations while the JIT compiler is still at work, or until 10 seconds have passed. The mean of
+ * those last samples is matched.
+ */
+class TimeMatcher extends MeasuringMatcher<TimeMatcher.Measurement> {
+
+  static final double DEFAULT_MAX_RELATIVE_STDDEV = 0.05;
+
+  private static final int WINDOW = 10;
+  private static final long MIN_BATCH_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+  private static final long MAX_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+  enum Clock {
+    CPU("CPU time") {
+      @Override
+      long nanos() {
+        return JvmMetrics.cpuTimeNanos();
+      }
+    },
+    WALL("wall time") {
+      @Override
+      long nanos() {
+        return System.nanoTime();
+      }
+    };
+
+    private final String name;
+
+    Clock(final String name) {
+      this.name = name;
+    }
+
+    abstract long nanos();
+  }
+
+  private final Clock clock;
+  private final Matcher<? super Duration> matcher;
+  private final double maxRelativeStddev;
+
+  TimeMatcher(
+      final Clock clock, final Matcher<? super Duration> matcher, final double maxRelativeStddev) {
+    if (!(maxRelativeStddev > 0)) {
+      throw new IllegalArgumentException(
+          "maxRelativeStddev must be positive: " + maxRelativeStddev);
+    }
+    this.clock = requireNonNull(clock);
+    this.matcher = requireNonNull(matcher);
+    this.maxRelativeStddev = maxRelativeStddev;
+  }
+
+  @Override
+  String unsupported() {
+    return clock == Clock.CPU && !JvmMetrics.cpuTimeSupported()
+        ? "this JVM does not support thread CPU time"
+        : null;
+  }
+
+  @Override
+  boolean matchesMeasurement(final Measurement measurement) {
+    return matcher.matches(Duration.ofNanos(Math.round(measurement.mean)));
+  }
+
+  @Override
+  void describeMeasurement(final Measurement measurement, final Description mismatchDescription) {
+    mismatchDescription
+        .appendText("took a mean ")
+        .appendText(clock.name)
+        .appendText(" of ")
+        .appendText(format(measurement.mean))
+        .appendText(" per invocation with a standard deviation of ")
+        .appendText(format(measurement.stddev))
+        .appendText(", over the last ")
+        .appendText(String.valueOf(measurement.samples))
+        .appendText(" batches of ")
+        .appendText(String.valueOf(measurement.batchSize))
+        .appendText(" invocations, ")
+        .appendText(String.valueOf(measurement.invocations))
+        .appendText(" invocations in total");
+    if (!measurement.stable) {
+      mismatchDescription
+          .appendText(", without the relative standard deviation getting below ")
+          .appendText(String.format(Locale.ROOT, "%.1f%%", maxRelativeStddev * 100));
+    }
+  }
+
+  @Override
+  Measurement measure(final Runnable task) {
+    final long deadline = System.nanoTime() + MAX_NANOS;
+    final double[] samples = new double[WINDOW];
+    int sampleCount = 0;
+    long batchSize = 1;
+    long invocations = 0;
+    while (true) {
+      final long wallStart = System.nanoTime();
+      final long start = clock.nanos();
+      run(task, batchSize);
+      final long elapsed = clock.nanos() - start;
+      final long wallElapsed = System.nanoTime() - wallStart;
+      invocations += batchSize;
+
+      final boolean timedOut = System.nanoTime() - deadline >= 0;
+      if (wallElapsed < MIN_BATCH_NANOS && !timedOut) {
+        // samples of different batch sizes are not comparable
+        batchSize *= 2;
+        sampleCount = 0;
+        continue;
+      }
+
+      samples[sampleCount++ % WINDOW] = (double) elapsed / batchSize;
+      if (sampleCount >= WINDOW || timedOut) {
+        final int count = Math.min(sampleCount, WINDOW);
+        double sum = 0;
+        for (int i = 0; i < count; i++) {
+          sum += samples[i];
+        }
+        final double mean = sum / count;
+        double squares = 0;
+        for (int i = 0; i < count; i++) {
+          squares += (samples[i] - mean) * (samples[i] - mean);
+        }
+        final double stddev = Math.sqrt(squares / count);
+        final boolean stable = stddev <= maxRelativeStddev * mean;
+        if (stable || timedOut) {
+          return new Measurement(mean, stddev, count, batchSize, invocations, stable);
+        }
+      }
+    }
+  }
+
+  // a separate method, so that every batch runs the latest compiled version of the loop
+  private static void run(final Runnable task, final long iterations) {
+    for (long i = 0; i < iterations; i++) {
+      task.run();
+    }
+  }
+
+  private static String format(final double nanos) {
+    return String.format(Locale.ROOT, "%.3f ms", nanos / 1e6);
+  }
+
+  @Override
+  public void describeTo(final Description description) {
+    description
+        .appendText("a task taking a mean ")
+        .appendText(clock.name)
+        .appendText(" per invocation that ")
+        .appendDescriptionOf(matcher);
+  }
+
+  static final class Measurement {
+
+    private final double mean;
+    private final double stddev;
+    private final int samples;
+    private final long batchSize;
+    private final long invocations;
+    private final boolean stable;
+
+    Measurement(
+        final double mean,
+        final double stddev,
+        final int samples,
+        final long batchSize,
+        final long invocations,
+        final boolean stable) {
+      this.mean = mean;
+      this.stddev = stddev;
+      this.samples = samples;
+      this.batchSize = batchSize;
+      this.invocations = invocations;
+      this.stable = stable;
+    }
+  }
+}
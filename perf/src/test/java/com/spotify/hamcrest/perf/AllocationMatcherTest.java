@@ -0,0 +1,117 @@
+/*-
+ * -\-\-
+ * hamcrest-perf
+ * --
+ * Copyright (C) 2016 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.hamcrest.perf;
+
+import static com.spotify.hamcrest.perf.PerfMatchers.allocatesAtMost;
+import static com.spotify.hamcrest.perf.PerfMatchers.allocations;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assume.assumeTrue;
+
+import java.util.concurrent.atomic.AtomicLong;
+import org.hamcrest.Matcher;
+import org.hamcrest.StringDescription;
+import org.junit.Before;
+import org.junit.Test;
+
+public class AllocationMatcherTest {
+
+  private static volatile Object sink;
+
+  private static final Runnable ALLOCATING = () -> sink = new byte[1024];
+
+  @Before
+  public void setUp() throws Exception {
+    assumeTrue(JvmMetrics.allocationSupported());
+  }
+
+  @Test
+  public void testNoAllocations() throws Exception {
+    assertThat(() -> {}, allocatesAtMost(0));
+  }
+
+  @Test
+  public void testAllocations() throws Exception {
+    assertThat(ALLOCATING, allocations(greaterThanOrEqualTo(1024L), 1000, 100));
+    assertThat(ALLOCATING, not(allocatesAtMost(512)));
+  }
+
+  @Test
+  public void testDescription() throws Exception {
+    assertThat(
+        StringDescription.toString(allocations(is(0L))),
+        is("a task allocating per invocation a number of bytes that is <0L>"));
+  }
+
+  @Test
+  public void testMismatch() throws Exception {
+    final Matcher<Runnable> sut = allocations(is(0L), 1000, 100);
+    final StringDescription description = new StringDescription();
+
+    sut.describeMismatch(ALLOCATING, description);
+
+    assertThat(description.toString(), startsWith("allocated "));
+  }
+
+  @Test
+  public void testFailingAssertionMeasuresOnce() throws Exception {
+    final AtomicLong invocations = new AtomicLong();
+    final Runnable task =
+        () -> {
+          invocations.incrementAndGet();
+          sink = new byte[1024];
+        };
+
+    try {
+      assertThat(task, allocations(is(0L), 1000, 100));
+      throw new IllegalStateException("expected the assertion to fail");
+    } catch (AssertionError e) {
+      assertThat(invocations.get(), is(invocationsInTotal(e.getMessage())));
+    }
+  }
+
+  @Test
+  public void testMismatchOfThrowingTask() throws Exception {
+    final StringDescription description = new StringDescription();
+
+    allocatesAtMost(0)
+        .describeMismatch(
+            (Runnable)
+                () -> {
+                  throw new IllegalStateException("boom");
+                },
+            description);
+
+    assertThat(description.toString(), is("threw <java.lang.IllegalStateException: boom>"));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testInvalidIterations() throws Exception {
+    allocations(is(0L), 10, 0);
+  }
+
+  private static long invocationsInTotal(final String mismatch) {
+    return Long.parseLong(mismatch.replaceAll("(?s).* (\\d+) invocations in total.*", "$1"));
+  }
+}
@@ -0,0 +1,142 @@
+/*-
+ * -\-\-
+ * hamcrest-perf
+ * --
+ * Copyright (C) 2016 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.hamcrest.perf;
+
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.Assert.assertThat;
+
+import java.time.Duration;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+
+public class LatencyHistogramTest {
+
+  @Test
+  public void testSmallValuesAreExact() throws Exception {
+    final LatencyHistogram histogram = new LatencyHistogram();
+    for (int i = 1; i <= 100; i++) {
+      histogram.record(i);
+    }
+
+    assertThat(histogram.count(), is(100L));
+    assertThat(histogram.min(), is(Duration.ofNanos(1)));
+    assertThat(histogram.percentile(50), is(Duration.ofNanos(50)));
+    assertThat(histogram.percentile(99), is(Duration.ofNanos(99)));
+    assertThat(histogram.max(), is(Duration.ofNanos(100)));
+    assertThat(histogram.mean(), is(Duration.ofNanos(50)));
+  }
+
+  @Test
+  public void testPercentileIsClampedToRecordedRange() throws Exception {
+    final LatencyHistogram histogram = new LatencyHistogram();
+    histogram.record(Duration.ofMillis(3));
+
+    assertThat(histogram.percentile(0), is(Duration.ofMillis(3)));
+    assertThat(histogram.percentile(50), is(Duration.ofMillis(3)));
+    assertThat(histogram.percentile(100), is(Duration.ofMillis(3)));
+  }
+
+  @Test
+  public void testRelativeError() throws Exception {
+    final Random random = new Random(4711);
+    for (int i = 0; i < 100_000; i++) {
+      final long value = (random.nextLong() >>> 1) >>> random.nextInt(63);
+      final long highest = LatencyHistogram.highestValue(LatencyHistogram.bucket(value));
+      assertThat(highest, is(greaterThanOrEqualTo(value)));
+      assertThat(highest - value, is(lessThanOrEqualTo(value / 64)));
+    }
+  }
+
+  @Test
+  public void testBucketsAreContiguous() throws Exception {
+    final int last = LatencyHistogram.bucket(Long.MAX_VALUE);
+    for (int bucket = 0; bucket < last; bucket++) {
+      final long highest = LatencyHistogram.highestValue(bucket);
+      assertThat(LatencyHistogram.bucket(highest), is(bucket));
+      assertThat(LatencyHistogram.bucket(highest + 1), is(bucket + 1));
+    }
+    assertThat(LatencyHistogram.highestValue(last), is(Long.MAX_VALUE));
+  }
+
+  @Test
+  public void testPercentiles() throws Exception {
+    final LatencyHistogram histogram = new LatencyHistogram();
+    for (int i = 1; i <= 1000; i++) {
+      histogram.record(Duration.ofMillis(i));
+    }
+
+    assertPercentile(histogram, 50, Duration.ofMillis(500));
+    assertPercentile(histogram, 99, Duration.ofMillis(990));
+    assertPercentile(histogram, 99.9, Duration.ofMillis(999));
+    assertThat(histogram.max(), is(Duration.ofMillis(1000)));
+  }
+
+  @Test
+  public void testEmpty() throws Exception {
+    final LatencyHistogram histogram = new LatencyHistogram();
+
+    assertThat(histogram.count(), is(0L));
+    assertThat(histogram.min(), is(Duration.ZERO));
+    assertThat(histogram.percentile(99), is(Duration.ZERO));
+    assertThat(histogram.max(), is(Duration.ZERO));
+    assertThat(histogram.mean(), is(Duration.ZERO));
+  }
+
+  @Test
+  public void testNegativeAndHugeValues() throws Exception {
+    final LatencyHistogram histogram = new LatencyHistogram();
+    histogram.record(-5);
+    histogram.record(Long.MAX_VALUE);
+
+    assertThat(histogram.min(), is(Duration.ZERO));
+    assertThat(histogram.max(), is(Duration.ofNanos(Long.MAX_VALUE)));
+  }
+
+  @Test
+  public void testMeasure() throws Exception {
+    final AtomicInteger invocations = new AtomicInteger();
+
+    final LatencyHistogram histogram = LatencyHistogram.measure(100, invocations::incrementAndGet);
+
+    assertThat(invocations.get(), is(100));
+    assertThat(histogram.count(), is(100L));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testInvalidPercentile() throws Exception {
+    new LatencyHistogram().percentile(101);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testInvalidIterations() throws Exception {
+    LatencyHistogram.measure(0, () -> {});
+  }
+
+  private static void assertPercentile(
+      final LatencyHistogram histogram, final double percentile, final Duration expected) {
+    final long nanos = histogram.percentile(percentile).toNanos();
+    assertThat(nanos, is(greaterThanOrEqualTo(expected.toNanos())));
+    assertThat(nanos, is(lessThanOrEqualTo(expected.toNanos() + expected.toNanos() / 64)));
+  }
+}
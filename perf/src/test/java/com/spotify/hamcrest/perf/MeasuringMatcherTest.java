@@ -0,0 +1,125 @@
+/*-
+ * -\-\-
+ * hamcrest-perf
+ * --
+ * Copyright (C) 2016 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.hamcrest.perf;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import org.hamcrest.Description;
+import org.hamcrest.StringDescription;
+import org.junit.Test;
+
+public class MeasuringMatcherTest {
+
+  @Test
+  public void testMismatchReusesMeasurement() throws Exception {
+    final CountingMatcher sut = new CountingMatcher();
+    final Runnable task = () -> {};
+
+    assertThat(sut.matches(task), is(false));
+    assertThat(mismatch(sut, task), is("measured 1"));
+    assertThat(sut.measured.get(), is(1));
+  }
+
+  @Test
+  public void testMismatchOfEqualTaskIsMeasured() throws Exception {
+    final CountingMatcher sut = new CountingMatcher();
+
+    assertThat(sut.matches(new EqualTask()), is(false));
+    assertThat(mismatch(sut, new EqualTask()), is("measured 2"));
+  }
+
+  @Test
+  public void testMismatchIsOnlyReusedOnce() throws Exception {
+    final CountingMatcher sut = new CountingMatcher();
+    final Runnable task = () -> {};
+
+    assertThat(sut.matches(task), is(false));
+    assertThat(mismatch(sut, task), is("measured 1"));
+    assertThat(mismatch(sut, task), is("measured 2"));
+  }
+
+  @Test
+  public void testMismatchOfThrowingTask() throws Exception {
+    final CountingMatcher sut = new CountingMatcher();
+    final Runnable task =
+        () -> {
+          throw new IllegalStateException("boom");
+        };
+
+    assertThat(sut.matches(task), is(false));
+    assertThat(mismatch(sut, task), is("threw <java.lang.IllegalStateException: boom>"));
+  }
+
+  private static String mismatch(final CountingMatcher sut, final Runnable task) {
+    final StringDescription description = new StringDescription();
+    sut.describeMismatch(task, description);
+    return description.toString();
+  }
+
+  private static final class CountingMatcher extends MeasuringMatcher<Integer> {
+
+    private final AtomicInteger measured = new AtomicInteger();
+
+    @Override
+    String unsupported() {
+      return null;
+    }
+
+    @Override
+    Integer measure(final Runnable task) {
+      task.run();
+      return measured.incrementAndGet();
+    }
+
+    @Override
+    boolean matchesMeasurement(final Integer measurement) {
+      return false;
+    }
+
+    @Override
+    void describeMeasurement(final Integer measurement, final Description mismatchDescription) {
+      mismatchDescription.appendText("measured " + measurement);
+    }
+
+    @Override
+    public void describeTo(final Description description) {
+      description.appendText("never");
+    }
+  }
+
+  private static final class EqualTask implements Runnable {
+
+    @Override
+    public void run() {}
+
+    @Override
+    public boolean equals(final Object other) {
+      return other instanceof EqualTask;
+    }
+
+    @Override
+    public int hashCode() {
+      return 0;
+    }
+  }
+}
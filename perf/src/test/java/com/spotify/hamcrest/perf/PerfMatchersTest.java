@@ -0,0 +1,100 @@
+/*-
+ * -\-\-
+ * hamcrest-perf
+ * --
+ * Copyright (C) 2016 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.hamcrest.perf;
+
+import static com.spotify.hamcrest.perf.PerfMatchers.max;
+import static com.spotify.hamcrest.perf.PerfMatchers.p50;
+import static com.spotify.hamcrest.perf.PerfMatchers.p99;
+import static com.spotify.hamcrest.perf.PerfMatchers.percentile;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.not;
+import static org.junit.Assert.assertThat;
+
+import java.time.Duration;
+import org.hamcrest.Matcher;
+import org.hamcrest.StringDescription;
+import org.junit.Test;
+
+public class PerfMatchersTest {
+
+  private static LatencyHistogram histogram() {
+    final LatencyHistogram histogram = new LatencyHistogram();
+    for (int i = 0; i < 99; i++) {
+      histogram.record(Duration.ofMillis(1));
+    }
+    histogram.record(Duration.ofMillis(50));
+    return histogram;
+  }
+
+  @Test
+  public void testMatches() throws Exception {
+    assertThat(histogram(), p50(lessThan(Duration.ofMillis(2))));
+    assertThat(histogram(), p99(lessThan(Duration.ofMillis(2))));
+    assertThat(histogram(), percentile(99.5, is(Duration.ofMillis(50))));
+    assertThat(histogram(), max(is(Duration.ofMillis(50))));
+  }
+
+  @Test
+  public void testDoesNotMatch() throws Exception {
+    assertThat(histogram(), not(max(lessThan(Duration.ofMillis(20)))));
+    assertThat(new LatencyHistogram(), not(p99(lessThan(Duration.ofMillis(20)))));
+  }
+
+  @Test
+  public void testDescription() throws Exception {
+    assertThat(
+        StringDescription.toString(p99(is(Duration.ofMillis(1)))),
+        is("a latency distribution with p99 is <PT0.001S>"));
+    assertThat(
+        StringDescription.toString(percentile(99.9, is(Duration.ofMillis(1)))),
+        is("a latency distribution with p99.9 is <PT0.001S>"));
+  }
+
+  @Test
+  public void testMismatchPrintsPercentileTable() throws Exception {
+    final Matcher<LatencyHistogram> matcher = max(is(Duration.ofMillis(1)));
+    final StringDescription description = new StringDescription();
+
+    matcher.describeMismatch(histogram(), description);
+
+    assertThat(
+        description.toString(),
+        is(
+            "max was <PT0.05S> in 100 latencies:\n"
+                + "        min           1.000 ms\n"
+                + "        p50           1.008 ms\n"
+                + "        p90           1.008 ms\n"
+                + "        p99           1.008 ms\n"
+                + "        p99.9        50.000 ms\n"
+                + "        max          50.000 ms\n"
+                + "        mean          1.490 ms"));
+  }
+
+  @Test
+  public void testMismatchOfEmptyHistogram() throws Exception {
+    final StringDescription description = new StringDescription();
+
+    p50(lessThan(Duration.ofMillis(1))).describeMismatch(new LatencyHistogram(), description);
+
+    assertThat(description.toString(), is("had no recorded latencies"));
+  }
+}
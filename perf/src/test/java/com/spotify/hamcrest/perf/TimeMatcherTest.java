@@ -0,0 +1,139 @@
+/*-
+ * -\-\-
+ * hamcrest-perf
+ * --
+ * Copyright (C) 2016 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.hamcrest.perf;
+
+import static com.spotify.hamcrest.perf.PerfMatchers.cpuTime;
+import static com.spotify.hamcrest.perf.PerfMatchers.invoking;
+import static com.spotify.hamcrest.perf.PerfMatchers.wallTime;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.Assert.assertThat;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.hamcrest.Matcher;
+import org.hamcrest.StringDescription;
+import org.junit.Test;
+
+public class TimeMatcherTest {
+
+  private static volatile int sink;
+
+  private static final Runnable SLEEPING =
+      invoking(
+          () -> {
+            Thread.sleep(2);
+            return null;
+          });
+
+  private static final Runnable COMPUTING = invoking(() -> fibonacci(15));
+
+  private static int fibonacci(final int n) {
+    return n < 2 ? n : fibonacci(n - 1) + fibonacci(n - 2);
+  }
+
+  @Test
+  public void testWallTime() throws Exception {
+    assertThat(SLEEPING, wallTime(greaterThanOrEqualTo(Duration.ofMillis(2)), 0.5));
+  }
+
+  @Test
+  public void testCpuTime() throws Exception {
+    assertThat(COMPUTING, cpuTime(lessThan(Duration.ofSeconds(1)), 0.5));
+  }
+
+  @Test
+  public void testMismatch() throws Exception {
+    final Matcher<Runnable> sut = cpuTime(lessThan(Duration.ofNanos(1)), 0.5);
+    final StringDescription description = new StringDescription();
+
+    sut.describeMismatch(COMPUTING, description);
+
+    assertThat(description.toString(), startsWith("took a mean CPU time of "));
+    assertThat(
+        description.toString(), containsString(" per invocation with a standard deviation of "));
+    assertThat(description.toString(), containsString(" invocations in total"));
+  }
+
+  @Test
+  public void testFailingAssertionMeasuresOnce() throws Exception {
+    final AtomicLong invocations = new AtomicLong();
+    final Runnable task =
+        () -> {
+          invocations.incrementAndGet();
+          sink = fibonacci(10);
+        };
+
+    try {
+      assertThat(task, wallTime(lessThan(Duration.ofNanos(1)), 0.5));
+      throw new IllegalStateException("expected the assertion to fail");
+    } catch (AssertionError e) {
+      assertThat(invocations.get(), is(invocationsInTotal(e.getMessage())));
+    }
+  }
+
+  @Test
+  public void testDescription() throws Exception {
+    assertThat(
+        StringDescription.toString(wallTime(is(Duration.ofMillis(1)))),
+        is("a task taking a mean wall time per invocation that is <PT0.001S>"));
+  }
+
+  @Test
+  public void testMismatchOfThrowingTask() throws Exception {
+    final StringDescription description = new StringDescription();
+
+    wallTime(is(Duration.ZERO))
+        .describeMismatch(
+            invoking(
+                () -> {
+                  throw new IOException("boom");
+                }),
+            description);
+
+    assertThat(
+        description.toString(),
+        is("threw <java.lang.IllegalStateException: java.io.IOException: boom>"));
+  }
+
+  @Test
+  public void testInvoking() throws Exception {
+    final AtomicInteger invocations = new AtomicInteger();
+
+    invoking(invocations::incrementAndGet).run();
+
+    assertThat(invocations.get(), is(1));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testInvalidThreshold() throws Exception {
+    cpuTime(is(Duration.ZERO), 0);
+  }
+
+  private static long invocationsInTotal(final String mismatch) {
+    return Long.parseLong(mismatch.replaceAll("(?s).* (\\d+) invocations in total.*", "$1"));
+  }
+}
@@ -0,0 +1,362 @@
+/*-
+ * -\-\-
+ * hamcrest-pojo-processor
+ * --
+ * Copyright (C) 2017 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.hamcrest.pojo.processor;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.ExecutableType;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+
+/**
+ * Generates typed matchers for the classes listed in {@code @GeneratePojoMatchers}.
+ *
+ * <p>A matcher is generated for every public or package-private non-generic class, interface or
+ * record. Its properties are the non-static methods without parameters that return a value and are
+ * accessible from the class' package, except the ones declared by {@link Object}. The generated
+ * classes extend {@code GeneratedPojoMatcher} and read every property with a direct method call.
+ */
+@SupportedAnnotationTypes(PojoMatcherProcessor.ANNOTATION)
+public final class PojoMatcherProcessor extends AbstractProcessor {
+
+  static final String ANNOTATION = "com.spotify.hamcrest.pojo.GeneratePojoMatchers";
+  private static final String BASE_CLASS = "com.spotify.hamcrest.pojo.GeneratedPojoMatcher";
+  private static final String MATCHER = "org.hamcrest.Matcher";
+
+  private final Set<String> generated = new HashSet<>();
+
+  @Override
+  public SourceVersion getSupportedSourceVersion() {
+    return SourceVersion.latestSupported();
+  }
+
+  @Override
+  public boolean process(
+      final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnv) {
+    for (TypeElement annotation : annotations) {
+      for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+        for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+          if (mirror.getAnnotationType().asElement().equals(annotation)) {
+            for (TypeMirror type : classes(mirror)) {
+              if (type.getKind() == TypeKind.DECLARED) {
+                generate(element, mirror, (TypeElement) ((DeclaredType) type).asElement());
+              }
+            }
+          }
+        }
+      }
+    }
+    return true;
+  }
+
+  private static List<TypeMirror> classes(final AnnotationMirror mirror) {
+    final List<TypeMirror> classes = new ArrayList<>();
+    for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry :
+        mirror.getElementValues().entrySet()) {
+      if (entry.getKey().getSimpleName().contentEquals("value")) {
+        for (Object value : (List<?>) entry.getValue().getValue()) {
+          classes.add((TypeMirror) ((AnnotationValue) value).getValue());
+        }
+      }
+    }
+    return classes;
+  }
+
+  private void generate(
+      final Element annotated, final AnnotationMirror mirror, final TypeElement type) {
+    final ElementKind kind = type.getKind();
+    // ElementKind.RECORD only exists from Java 16
+    if (kind != ElementKind.CLASS
+        && kind != ElementKind.INTERFACE
+        && !kind.name().equals("RECORD")) {
+      error(annotated, mirror, type + " is not a class, interface or record");
+      return;
+    }
+    if (!type.getTypeParameters().isEmpty()) {
+      error(annotated, mirror, "Generic type " + type + " is not supported");
+      return;
+    }
+    for (Element e = type; e instanceof TypeElement; e = e.getEnclosingElement()) {
+      if (e.getModifiers().contains(Modifier.PRIVATE)) {
+        error(annotated, mirror, type + " is not accessible from its package");
+        return;
+      }
+    }
+
+    final String packageName =
+        processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+    final String matcherName = nestedName(type) + "Matcher";
+    final String qualifiedName =
+        packageName.isEmpty() ? matcherName : packageName + "." + matcherName;
+    if (!generated.add(qualifiedName)) {
+      return;
+    }
+
+    final List<Property> properties = properties(type, packageName);
+
+    try (PrintWriter out =
+        new PrintWriter(
+            processingEnv
+                .getFiler()
+                .createSourceFile(qualifiedName, annotated, type)
+                .openWriter())) {
+      write(out, packageName, matcherName, type, properties);
+    } catch (IOException e) {
+      error(annotated, mirror, "Could not write " + qualifiedName + ": " + e.getMessage());
+    }
+  }
+
+  private List<Property> properties(final TypeElement type, final String packageName) {
+    final Set<String> recordComponents = new HashSet<>();
+    for (Element element : type.getEnclosedElements()) {
+      if (element.getKind().name().equals("RECORD_COMPONENT")) {
+        recordComponents.add(element.getSimpleName().toString());
+      }
+    }
+
+    final DeclaredType declaredType = (DeclaredType) type.asType();
+    final List<Property> properties = new ArrayList<>();
+    final Set<String> matcherMethods = new HashSet<>();
+    for (ExecutableElement method :
+        ElementFilter.methodsIn(processingEnv.getElementUtils().getAllMembers(type))) {
+      if (!isProperty(method, packageName)) {
+        continue;
+      }
+
+      final String methodName = method.getSimpleName().toString();
+      final String matcherMethod;
+      if (recordComponents.contains(methodName)) {
+        matcherMethod = "with" + capitalize(methodName);
+      } else if (methodName.length() > 3
+          && methodName.startsWith("get")
+          && Character.isUpperCase(methodName.charAt(3))) {
+        matcherMethod = "with" + methodName.substring(3);
+      } else {
+        matcherMethod = "where" + capitalize(methodName);
+      }
+      if (!matcherMethods.add(matcherMethod)) {
+        processingEnv
+            .getMessager()
+            .printMessage(
+                Diagnostic.Kind.WARNING,
+                "Skipping " + methodName + "(), " + matcherMethod + " is already generated",
+                method);
+        continue;
+      }
+
+      final TypeMirror returnType =
+          ((ExecutableType) processingEnv.getTypeUtils().asMemberOf(declaredType, method))
+              .getReturnType();
+      properties.add(new Property(methodName, matcherMethod, boxed(returnType)));
+    }
+    return properties;
+  }
+
+  private boolean isProperty(final ExecutableElement method, final String packageName) {
+    final Set<Modifier> modifiers = method.getModifiers();
+    if (modifiers.contains(Modifier.STATIC)
+        || !method.getParameters().isEmpty()
+        || !method.getTypeParameters().isEmpty()
+        || method.getReturnType().getKind() == TypeKind.VOID) {
+      return false;
+    }
+
+    final String methodName = method.getSimpleName().toString();
+    final TypeElement declaringType = (TypeElement) method.getEnclosingElement();
+    if (declaringType.getQualifiedName().contentEquals("java.lang.Object")
+        || methodName.equals("hashCode")
+        || methodName.equals("toString")) {
+      return false;
+    }
+
+    return modifiers.contains(Modifier.PUBLIC)
+        || (!modifiers.contains(Modifier.PRIVATE)
+            && processingEnv
+                .getElementUtils()
+                .getPackageOf(declaringType)
+                .getQualifiedName()
+                .contentEquals(packageName));
+  }
+
+  private String boxed(final TypeMirror type) {
+    if (type.getKind().isPrimitive()) {
+      return processingEnv
+          .getTypeUtils()
+          .boxedClass((PrimitiveType) type)
+          .getQualifiedName()
+          .toString();
+    }
+    return type.toString();
+  }
+
+  private void write(
+      final PrintWriter out,
+      final String packageName,
+      final String matcherName,
+      final TypeElement type,
+      final List<Property> properties) {
+    final String typeName = type.getQualifiedName().toString();
+
+    if (!packageName.isEmpty()) {
+      out.println("package " + packageName + ";");
+      out.println();
+    }
+    generatedAnnotation()
+        .ifPresent(
+            annotation ->
+                out.println(
+                    "@" + annotation + "(\"" + PojoMatcherProcessor.class.getName() + "\")"));
+    out.println(
+        "public final class " + matcherName + " extends " + BASE_CLASS + "<" + typeName + "> {");
+    out.println();
+
+    final List<String> methodNames = new ArrayList<>();
+    for (Property property : properties) {
+      methodNames.add("\"" + property.methodName + "\"");
+    }
+    out.println(
+        "  private static final String[] METHOD_NAMES = {" + String.join(", ", methodNames) + "};");
+    out.println();
+
+    out.println("  private " + matcherName + "() {");
+    out.println("    super(" + typeName + ".class, METHOD_NAMES);");
+    out.println("  }");
+    out.println();
+
+    out.println(
+        "  private "
+            + matcherName
+            + "(final "
+            + matcherName
+            + " base, final int property, final "
+            + MATCHER
+            + "<?> matcher) {");
+    out.println("    super(base, property, matcher);");
+    out.println("  }");
+    out.println();
+
+    out.println("  public static " + matcherName + " " + factoryName(type) + "() {");
+    out.println("    return new " + matcherName + "();");
+    out.println("  }");
+
+    for (int i = 0; i < properties.size(); i++) {
+      final Property property = properties.get(i);
+      out.println();
+      out.println(
+          "  public "
+              + matcherName
+              + " "
+              + property.matcherMethod
+              + "(final "
+              + MATCHER
+              + "<? super "
+              + property.type
+              + "> matcher) {");
+      out.println("    return new " + matcherName + "(this, " + i + ", matcher);");
+      out.println("  }");
+    }
+    out.println();
+
+    out.println("  @Override");
+    out.println(
+        "  protected Object value(final "
+            + typeName
+            + " item, final int property) throws Exception {");
+    out.println("    switch (property) {");
+    for (int i = 0; i < properties.size(); i++) {
+      out.println("      case " + i + ":");
+      out.println("        return item." + properties.get(i).methodName + "();");
+    }
+    out.println("      default:");
+    out.println("        throw new IllegalArgumentException(\"Unknown property \" + property);");
+    out.println("    }");
+    out.println("  }");
+    out.println("}");
+  }
+
+  private Optional<String> generatedAnnotation() {
+    final String annotation =
+        processingEnv.getSourceVersion().compareTo(SourceVersion.RELEASE_8) > 0
+            ? "javax.annotation.processing.Generated"
+            : "javax.annotation.Generated";
+    return processingEnv.getElementUtils().getTypeElement(annotation) == null
+        ? Optional.empty()
+        : Optional.of(annotation);
+  }
+
+  private void error(final Element element, final AnnotationMirror mirror, final String message) {
+    processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element, mirror);
+  }
+
+  private static String nestedName(final TypeElement type) {
+    final List<String> names = new ArrayList<>();
+    for (Element e = type; e instanceof TypeElement; e = e.getEnclosingElement()) {
+      names.add(e.getSimpleName().toString());
+    }
+    Collections.reverse(names);
+    return String.join("_", names);
+  }
+
+  private static String factoryName(final TypeElement type) {
+    final String simpleName = type.getSimpleName().toString();
+    final String name = Character.toLowerCase(simpleName.charAt(0)) + simpleName.substring(1);
+    return SourceVersion.isKeyword(name) ? name + "Matcher" : name;
+  }
+
+  private static String capitalize(final String name) {
+    return Character.toUpperCase(name.charAt(0)) + name.substring(1);
+  }
+
+  private static final class Property {
+
+    private final String methodName;
+    private final String matcherMethod;
+    private final String type;
+
+    Property(final String methodName, final String matcherMethod, final String type) {
+      this.methodName = methodName;
+      this.matcherMethod = matcherMethod;
+      this.type = type;
+    }
+  }
+}
@@ -0,0 +1,151 @@
+/*-
+ * -\-\-
+ * hamcrest-pojo-processor
+ * --
+ * Copyright (C) 2017 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.hamcrest.pojo.processor;
+
+import static com.spotify.hamcrest.pojo.IsPojo.pojo;
+import static com.spotify.hamcrest.pojo.processor.PojoMatcherProcessorTest_InnerMatcher.inner;
+import static com.spotify.hamcrest.pojo.processor.SomeBeanMatcher.someBean;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsAnything.anything;
+import static org.hamcrest.core.IsNot.not;
+
+import com.spotify.hamcrest.pojo.GeneratePojoMatchers;
+import com.spotify.hamcrest.pojo.IsPojo;
+import org.hamcrest.Matcher;
+import org.hamcrest.StringDescription;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+@GeneratePojoMatchers({SomeBean.class, PojoMatcherProcessorTest.Inner.class})
+public class PojoMatcherProcessorTest {
+
+  @Rule public final ExpectedException expectedException = ExpectedException.none();
+
+  private static final SomeBean BEAN = new SomeBean(42, new SomeBean(43, null));
+
+  @Test
+  public void testProperties() throws Exception {
+    final SomeBeanMatcher sut =
+        someBean()
+            .whereFoo(is(42))
+            .withBar(is("bar"))
+            .withValue(is("value"))
+            .whereIsActive(is(true))
+            .withChild(is(someBean().whereFoo(is(43)).withChild(is(nullValue()))));
+
+    assertThat(BEAN, is(sut));
+  }
+
+  @Test
+  public void testMismatch() throws Exception {
+    assertThat(BEAN, not(someBean().withBar(is("not-bar"))));
+  }
+
+  @Test
+  public void testNestedType() throws Exception {
+    assertThat(new Inner(), is(inner().withName(is("inner"))));
+  }
+
+  @Test
+  public void testDescriptionFormattingIsLikeIsPojo() throws Exception {
+    final SomeBeanMatcher sut =
+        someBean().withChild(is(someBean().whereFoo(is(42)))).whereFoo(is(42)).withBar(is("bar"));
+    final IsPojo<SomeBean> pojo =
+        pojo(SomeBean.class)
+            .withProperty("child", is(pojo(SomeBean.class).where("foo", is(42))))
+            .where("foo", is(42))
+            .withProperty("bar", is("bar"));
+
+    assertThat(StringDescription.toString(sut), is(StringDescription.toString(pojo)));
+    assertThat(
+        StringDescription.toString(sut),
+        is(
+            "SomeBean {\n"
+                + "  getChild(): is SomeBean {\n"
+                + "    foo(): is <42>\n"
+                + "  }\n"
+                + "  foo(): is <42>\n"
+                + "  getBar(): is \"bar\"\n"
+                + "}"));
+  }
+
+  @Test
+  public void testMismatchFormattingIsLikeIsPojo() throws Exception {
+    final SomeBeanMatcher sut =
+        someBean()
+            .whereFoo(is(41))
+            .withChild(is(someBean().whereFoo(is(44))))
+            .withBar(is("bar"))
+            .withThrowsException(is(anything()));
+    final IsPojo<SomeBean> pojo =
+        pojo(SomeBean.class)
+            .where("foo", is(41))
+            .withProperty("child", is(pojo(SomeBean.class).where("foo", is(44))))
+            .withProperty("bar", is("bar"))
+            .withProperty("throwsException", is(anything()));
+
+    assertThat(describeMismatch(sut), is(describeMismatch(pojo)));
+    assertThat(
+        describeMismatch(sut),
+        is(
+            "SomeBean {\n"
+                + "  foo(): was <42>\n"
+                + "  getChild(): SomeBean {\n"
+                + "    foo(): was <43>\n"
+                + "  }\n"
+                + "  ...\n"
+                + "  getThrowsException(): threw an exception: "
+                + "java.lang.IllegalStateException: Whoops\n"
+                + "}"));
+  }
+
+  @Test
+  public void testMismatchOfWrongType() throws Exception {
+    final StringDescription description = new StringDescription();
+    ((Matcher<?>) someBean()).describeMismatch("not a bean", description);
+
+    assertThat(
+        description.toString(),
+        is("not an instance of com.spotify.hamcrest.pojo.processor.SomeBean"));
+  }
+
+  @Test
+  public void testSamePropertyTwice() throws Exception {
+    expectedException.expect(IllegalArgumentException.class);
+    someBean().withBar(is("bar")).withBar(is("bar"));
+  }
+
+  private static String describeMismatch(final Matcher<SomeBean> matcher) {
+    final StringDescription description = new StringDescription();
+    matcher.describeMismatch(BEAN, description);
+    return description.toString();
+  }
+
+  static class Inner {
+
+    public String getName() {
+      return "inner";
+    }
+  }
+}
@@ -0,0 +1,64 @@
+/*-
+ * -\-\-
+ * hamcrest-pojo-processor
+ * --
+ * Copyright (C) 2017 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.hamcrest.pojo.processor;
+
+public class SomeBean extends SomeParent<String> {
+
+  private final int foo;
+  private final SomeBean child;
+
+  public SomeBean(final int foo, final SomeBean child) {
+    super("value");
+    this.foo = foo;
+    this.child = child;
+  }
+
+  public int foo() {
+    return foo;
+  }
+
+  public String getBar() {
+    return "bar";
+  }
+
+  public SomeBean getChild() {
+    return child;
+  }
+
+  boolean isActive() {
+    return true;
+  }
+
+  public String getThrowsException() {
+    throw new IllegalStateException("Whoops");
+  }
+
+  public static String getStatic() {
+    return "static";
+  }
+
+  public void setBar(final String bar) {}
+
+  @Override
+  public String toString() {
+    return "SomeBean{foo=" + foo + "}";
+  }
+}
@@ -0,0 +1,34 @@
+/*-
+ * -\-\-
+ * hamcrest-pojo-processor
+ * --
+ * Copyright (C) 2017 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.hamcrest.pojo.processor;
+
+public class SomeParent<T> {
+
+  private final T value;
+
+  SomeParent(final T value) {
+    this.value = value;
+  }
+
+  public T getValue() {
+    return value;
+  }
+}
@@ -0,0 +1,166 @@
+/*-
+ * -\-\-
+ * hamcrest-pojo
+ * --
+ * Copyright (C) 2017 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.hamcrest.pojo;
+
+import com.google.common.collect.ImmutableMap;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Compiled accessors for record components and fields, cached per class.
+ *
+ * <p>Records are looked up reflectively through {@code Class.getRecordComponents()} so that this
+ * library keeps working on Java versions without records, where no class is a record.
+ */
+final class Accessors {
+
+  private static final MethodType ACCESSOR_TYPE = MethodType.methodType(Object.class, Object.class);
+
+  private static final Method GET_RECORD_COMPONENTS = classMethod("getRecordComponents");
+
+  private static final ClassValue<ImmutableMap<String, MethodHandle>> RECORD_COMPONENTS =
+      new ClassValue<ImmutableMap<String, MethodHandle>>() {
+        @Override
+        protected ImmutableMap<String, MethodHandle> computeValue(final Class<?> cls) {
+          return compileRecordComponents(cls);
+        }
+      };
+
+  private static final ClassValue<ImmutableMap<String, MethodHandle>> FIELDS =
+      new ClassValue<ImmutableMap<String, MethodHandle>>() {
+        @Override
+        protected ImmutableMap<String, MethodHandle> computeValue(final Class<?> cls) {
+          return compileFields(cls);
+        }
+      };
+
+  private Accessors() {}
+
+  /**
+   * Returns the compiled accessor of a record component, taking the record as {@link Object} and
+   * returning the component as {@link Object}.
+   *
+   * @param cls the class to look up the component in.
+   * @param component the name of the component.
+   * @return the accessor, or empty if {@code cls} is not a record or has no such component.
+   */
+  static Optional<MethodHandle> recordComponent(final Class<?> cls, final String component) {
+    return Optional.ofNullable(RECORD_COMPONENTS.get(cls).get(component));
+  }
+
+  /**
+   * Returns the compiled getter of an instance field declared in a class or any of its
+   * superclasses, taking the owning object as {@link Object} and returning the field value as
+   * {@link Object}. Fields of subclasses hide fields of the same name in superclasses.
+   *
+   * @param cls the class to look up the field in.
+   * @param field the name of the field.
+   * @return the getter, or empty if there is no accessible instance field with that name.
+   */
+  static Optional<MethodHandle> field(final Class<?> cls, final String field) {
+    return Optional.ofNullable(FIELDS.get(cls).get(field));
+  }
+
+  /**
+   * Creates a {@link MethodReference} invoking a compiled accessor. Exceptions thrown by the
+   * accessor are wrapped in an {@link InvocationTargetException}, like {@link Method#invoke} does.
+   */
+  static <A, T> MethodReference<A, T> reference(final MethodHandle accessor) {
+    return self -> {
+      try {
+        @SuppressWarnings("unchecked")
+        final T value = (T) (Object) accessor.invokeExact((Object) self);
+        return value;
+      } catch (Error e) {
+        throw e;
+      } catch (Throwable t) {
+        throw new InvocationTargetException(t);
+      }
+    };
+  }
+
+  private static ImmutableMap<String, MethodHandle> compileRecordComponents(final Class<?> cls) {
+    if (GET_RECORD_COMPONENTS == null) {
+      return ImmutableMap.of();
+    }
+
+    final Object[] components;
+    try {
+      components = (Object[]) GET_RECORD_COMPONENTS.invoke(cls);
+    } catch (IllegalAccessException | InvocationTargetException e) {
+      throw new IllegalStateException("Could not read record components of " + cls.getName(), e);
+    }
+    if (components == null) {
+      return ImmutableMap.of();
+    }
+
+    final ImmutableMap.Builder<String, MethodHandle> accessors = ImmutableMap.builder();
+    for (Object component : components) {
+      try {
+        final Method getName = component.getClass().getMethod("getName");
+        final Method getAccessor = component.getClass().getMethod("getAccessor");
+        final Method accessor = (Method) getAccessor.invoke(component);
+        accessor.setAccessible(true);
+        accessors.put(
+            (String) getName.invoke(component),
+            MethodHandles.lookup().unreflect(accessor).asType(ACCESSOR_TYPE));
+      } catch (ReflectiveOperationException | RuntimeException e) {
+        // Inaccessible components are left to the reflective lookup in IsPojo
+      }
+    }
+    return accessors.build();
+  }
+
+  private static ImmutableMap<String, MethodHandle> compileFields(final Class<?> cls) {
+    final Map<String, MethodHandle> getters = new HashMap<>();
+    for (Class<?> c = cls; c != null; c = c.getSuperclass()) {
+      for (Field field : c.getDeclaredFields()) {
+        if (Modifier.isStatic(field.getModifiers()) || getters.containsKey(field.getName())) {
+          continue;
+        }
+        try {
+          field.setAccessible(true);
+          getters.put(
+              field.getName(), MethodHandles.lookup().unreflectGetter(field).asType(ACCESSOR_TYPE));
+        } catch (ReflectiveOperationException | RuntimeException e) {
+          // Inaccessible fields are reported as missing
+        }
+      }
+    }
+    return ImmutableMap.copyOf(getters);
+  }
+
+  private static Method classMethod(final String name) {
+    try {
+      return Class.class.getMethod(name);
+    } catch (NoSuchMethodException e) {
+      return null;
+    }
+  }
+}
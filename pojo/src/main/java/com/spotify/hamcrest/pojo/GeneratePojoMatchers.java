@@ -0,0 +1,52 @@
+/*-
+ * -\-\-
+ * hamcrest-pojo
+ * --
+ * Copyright (C) 2017 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.hamcrest.pojo;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Requests typed matchers for the given classes from the {@code hamcrest-pojo-processor} annotation
+ * processor. The annotation can be put on any type, typically a test class.
+ *
+ * <p>For a class {@code User} a {@code UserMatcher} is generated in the same package, with a {@code
+ * user()} factory and one method per property. Getters like {@code getName()} or record components
+ * like {@code name()} become {@code withName(Matcher)}, other methods like {@code active()} become
+ * {@code whereActive(Matcher)}. The generated matchers call the methods directly and describe
+ * themselves and their mismatches in the same format as {@link IsPojo}.
+ *
+ * <pre>{@code
+ * @GeneratePojoMatchers({User.class, Address.class})
+ * public class UserServiceTest {
+ *   ...
+ *   assertThat(user, is(user().withName(is("Alice")).withAddress(is(address()...))));
+ * }
+ * }</pre>
+ */
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.TYPE)
+public @interface GeneratePojoMatchers {
+
+  /** The classes to generate matchers for. */
+  Class<?>[] value();
+}
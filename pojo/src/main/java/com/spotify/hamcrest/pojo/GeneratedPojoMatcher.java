@@ -0,0 +1,157 @@
+/*-
+ * -\-\-
+ * hamcrest-pojo
+ * --
+ * Copyright (C) 2017 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.hamcrest.pojo;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.base.Joiner;
+import com.google.common.base.Splitter;
+import com.google.common.collect.ImmutableList;
+import com.spotify.hamcrest.util.MismatchTree;
+import java.util.Arrays;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.hamcrest.StringDescription;
+import org.hamcrest.TypeSafeDiagnosingMatcher;
+
+/**
+ * Base class of the matchers generated for {@link GeneratePojoMatchers}. It is not meant to be
+ * extended by hand.
+ *
+ * <p>Properties are identified by their index in the array of method names passed by the generated
+ * subclass, which reads them in {@link #value(Object, int)} without reflection. Descriptions and
+ * mismatches are formatted like {@link IsPojo}.
+ */
+public abstract class GeneratedPojoMatcher<A> extends TypeSafeDiagnosingMatcher<A> {
+
+  private final Class<A> cls;
+  private final String[] methodNames;
+  private final int[] properties;
+  private final Matcher<?>[] matchers;
+  private final ImmutableList<String> keys;
+
+  /**
+   * Creates a matcher without any property expectations.
+   *
+   * @param cls the matched class.
+   * @param methodNames the names of all properties' methods, indexed by property.
+   */
+  protected GeneratedPojoMatcher(final Class<A> cls, final String[] methodNames) {
+    super(Object.class);
+    this.cls = cls;
+    this.methodNames = requireNonNull(methodNames);
+    this.properties = new int[0];
+    this.matchers = new Matcher<?>[0];
+    this.keys = ImmutableList.of();
+  }
+
+  /**
+   * Creates a copy of a matcher that additionally expects a property to match.
+   *
+   * @param base the matcher to extend.
+   * @param property the index of the property.
+   * @param matcher the matcher of the property value.
+   */
+  protected GeneratedPojoMatcher(
+      final GeneratedPojoMatcher<A> base, final int property, final Matcher<?> matcher) {
+    super(Object.class);
+    final String methodName = base.methodNames[property];
+    checkArgument(
+        !base.keys.contains(methodName), "Multiple entries with same key: %s", methodName);
+    this.cls = base.cls;
+    this.methodNames = base.methodNames;
+    this.properties = Arrays.copyOf(base.properties, base.properties.length + 1);
+    this.properties[base.properties.length] = property;
+    this.matchers = Arrays.copyOf(base.matchers, base.matchers.length + 1);
+    this.matchers[base.matchers.length] = requireNonNull(matcher);
+    this.keys = ImmutableList.<String>builder().addAll(base.keys).add(methodName).build();
+  }
+
+  /**
+   * Reads a property.
+   *
+   * @param item the object to read from.
+   * @param property the index of the property.
+   * @return the property value.
+   * @throws Exception anything thrown by the property method.
+   */
+  protected abstract Object value(A item, int property) throws Exception;
+
+  @Override
+  protected boolean matchesSafely(final A item, final Description mismatchDescription) {
+    if (!cls.isInstance(item)) {
+      mismatchDescription.appendText("not an instance of " + cls.getName());
+      return false;
+    }
+
+    final SortedMap<Integer, MismatchTree> mismatches = new TreeMap<>();
+
+    for (int i = 0; i < properties.length; i++) {
+      final Matcher<?> matcher = matchers[i];
+      try {
+        final Object value = value(item, properties[i]);
+        if (!matcher.matches(value)) {
+          mismatches.put(i, MismatchTree.of(matcher, value));
+        }
+      } catch (Exception e) {
+        mismatches.put(
+            i,
+            MismatchTree.leaf(
+                "threw an exception: " + e.getClass().getCanonicalName() + ": " + e.getMessage()));
+      }
+    }
+
+    if (!mismatches.isEmpty()) {
+      MismatchTree.nested(
+              cls.getSimpleName() + " ", keys, mismatches, GeneratedPojoMatcher::describeMethod)
+          .appendTo(mismatchDescription);
+      return false;
+    }
+
+    return true;
+  }
+
+  @Override
+  public void describeTo(final Description description) {
+    description.appendText(cls.getSimpleName()).appendText(" {\n");
+
+    for (int i = 0; i < properties.length; i++) {
+      description.appendText("  ");
+      describeMethod(keys.get(i), description);
+      description.appendText(": ");
+
+      final Description innerDescription = new StringDescription();
+      matchers[i].describeTo(innerDescription);
+
+      description
+          .appendText(Joiner.on("\n  ").join(Splitter.on('\n').split(innerDescription.toString())))
+          .appendText("\n");
+    }
+    description.appendText("}");
+  }
+
+  private static void describeMethod(final String name, final Description description) {
+    description.appendText(name).appendText("()");
+  }
+}
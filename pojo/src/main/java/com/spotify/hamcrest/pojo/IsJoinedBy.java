@@ -0,0 +1,241 @@
+/*-
+ * -\-\-
+ * hamcrest-pojo
+ * --
+ * Copyright (C) 2017 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.hamcrest.pojo;
+
+import static java.util.Objects.requireNonNull;
+
+import com.spotify.hamcrest.util.DescriptionUtils;
+import java.lang.invoke.SerializedLambda;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.hamcrest.StringDescription;
+import org.hamcrest.TypeSafeDiagnosingMatcher;
+import org.hamcrest.core.IsEqual;
+
+/**
+ * Matches an iterable of POJOs against expected POJOs, joined by a key property.
+ *
+ * <p>The expected items are indexed by key once, and every match is a single hash join over the
+ * actual items, so a match takes linear time where nesting {@code hasItem} in {@code
+ * containsInAnyOrder} takes quadratic time. Every actual item is matched by the matcher of the
+ * expected item with the same key. Missing, unexpected and mismatched items are reported
+ * separately, at most {@value #MAX_DESCRIBED_ITEMS} of each:
+ *
+ * <pre>
+ * had 1 missing, 1 unexpected and 1 mismatched of 100000 expected items, joined by id() {
+ *   ...
+ *   id() &lt;3&gt;: was missing
+ *   ...
+ *   id() &lt;42&gt;: User {
+ *     ...
+ *     name(): was "bob"
+ *     ...
+ *   }
+ *   ...
+ *   id() &lt;100001&gt;: was unexpected: &lt;User{id=100001, name=eve}&gt;
+ * }
+ * </pre>
+ */
+public final class IsJoinedBy<A, K> extends TypeSafeDiagnosingMatcher<Iterable<? extends A>> {
+
+  static final int MAX_DESCRIBED_ITEMS = 10;
+
+  private final MethodReference<A, K> key;
+  private final String keyName;
+  private final List<K> keys;
+  private final Map<K, Integer> positions;
+  private final List<Matcher<? super A>> matchers;
+
+  private IsJoinedBy(
+      final MethodReference<A, K> key,
+      final Iterable<? extends A> expected,
+      final Function<? super A, ? extends Matcher<? super A>> itemMatcher) {
+    final SerializedLambda serializedLambda = IsPojo.serializeLambda(key);
+    IsPojo.ensureDirectMethodReference(serializedLambda);
+
+    this.key = key;
+    this.keyName = serializedLambda.getImplMethodName() + "()";
+    final List<K> keys = new ArrayList<>();
+    final List<Matcher<? super A>> matchers = new ArrayList<>();
+    this.positions = new HashMap<>();
+    for (A item : expected) {
+      final K itemKey = keyOf(item);
+      if (positions.put(itemKey, keys.size()) != null) {
+        throw new IllegalArgumentException("Duplicate " + keyName + " " + itemKey);
+      }
+      keys.add(itemKey);
+      matchers.add(requireNonNull(itemMatcher.apply(item)));
+    }
+    this.keys = Collections.unmodifiableList(keys);
+    this.matchers = Collections.unmodifiableList(matchers);
+  }
+
+  /**
+   * Creates a matcher of an iterable that has an item with the same key for every expected item,
+   * and no other items. Every item must be matched by the matcher {@code itemMatcher} creates for
+   * the expected item with the same key, for example {@code expected ->
+   * pojo(User.class).where(User::name, is(expected.name()))}.
+   *
+   * @param key a method reference like {@code User::id}, which is also used to describe the key.
+   * @param expected the expected items, which must have distinct keys.
+   * @param itemMatcher creates the matcher for the actual item joined to an expected item.
+   */
+  public static <A, K> IsJoinedBy<A, K> joinedBy(
+      final MethodReference<A, K> key,
+      final Iterable<? extends A> expected,
+      final Function<? super A, ? extends Matcher<? super A>> itemMatcher) {
+    return new IsJoinedBy<>(key, expected, itemMatcher);
+  }
+
+  /**
+   * Creates a matcher of an iterable that has an equal item for every expected item, and no other
+   * items, joined by {@code key}.
+   *
+   * @see #joinedBy(MethodReference, Iterable, Function)
+   */
+  public static <A, K> IsJoinedBy<A, K> joinedBy(
+      final MethodReference<A, K> key, final Iterable<? extends A> expected) {
+    return new IsJoinedBy<>(key, expected, item -> IsEqual.<A>equalTo(item));
+  }
+
+  @Override
+  protected boolean matchesSafely(
+      final Iterable<? extends A> items, final Description mismatchDescription) {
+    final boolean describe = !(mismatchDescription instanceof Description.NullDescription);
+    final boolean[] found = new boolean[keys.size()];
+    final SortedMap<Integer, Consumer<Description>> described = new TreeMap<>();
+    final List<String> unexpectedKeys = new ArrayList<>();
+    int unexpected = 0;
+    int mismatched = 0;
+
+    for (A item : items) {
+      final K itemKey;
+      try {
+        itemKey = key.apply(item);
+      } catch (Exception e) {
+        mismatchDescription
+            .appendText("could not read " + keyName + " of ")
+            .appendValue(item)
+            .appendText(": " + e);
+        return false;
+      }
+
+      final Integer position = positions.get(itemKey);
+      if (position == null || found[position]) {
+        if (!describe) {
+          return false;
+        }
+        if (unexpected++ < MAX_DESCRIBED_ITEMS) {
+          final String reason = position == null ? "was unexpected: " : "was a duplicate: ";
+          described.put(
+              keys.size() + unexpectedKeys.size(), d -> d.appendText(reason).appendValue(item));
+          unexpectedKeys.add(describeKey(itemKey));
+        }
+        continue;
+      }
+
+      found[position] = true;
+      final Matcher<? super A> matcher = matchers.get(position);
+      if (!matcher.matches(item)) {
+        if (!describe) {
+          return false;
+        }
+        if (mismatched++ < MAX_DESCRIBED_ITEMS) {
+          described.put(position, d -> matcher.describeMismatch(item, d));
+        }
+      }
+    }
+
+    int missing = 0;
+    for (int position = 0; position < found.length; position++) {
+      if (!found[position]) {
+        if (!describe) {
+          return false;
+        }
+        if (missing++ < MAX_DESCRIBED_ITEMS) {
+          described.put(position, d -> d.appendText("was missing"));
+        }
+      }
+    }
+
+    if (described.isEmpty()) {
+      return true;
+    }
+
+    mismatchDescription.appendText(
+        "had "
+            + missing
+            + " missing, "
+            + unexpected
+            + " unexpected and "
+            + mismatched
+            + " mismatched of "
+            + keys.size()
+            + " expected items, joined by "
+            + keyName
+            + " ");
+    final List<String> allKeys =
+        new AbstractList<String>() {
+          @Override
+          public String get(final int index) {
+            return index < keys.size()
+                ? describeKey(keys.get(index))
+                : unexpectedKeys.get(index - keys.size());
+          }
+
+          @Override
+          public int size() {
+            return keys.size() + unexpectedKeys.size();
+          }
+        };
+    DescriptionUtils.describeNestedMismatches(
+        allKeys, mismatchDescription, described, (k, d) -> d.appendText(k));
+    return false;
+  }
+
+  @Override
+  public void describeTo(final Description description) {
+    description.appendText(
+        "an iterable with the " + keys.size() + " expected items, joined by " + keyName);
+  }
+
+  private K keyOf(final A item) {
+    try {
+      return key.apply(item);
+    } catch (Exception e) {
+      throw new IllegalArgumentException("Could not read " + keyName + " of " + item, e);
+    }
+  }
+
+  private String describeKey(final K itemKey) {
+    return new StringDescription().appendText(keyName + " ").appendValue(itemKey).toString();
+  }
+}
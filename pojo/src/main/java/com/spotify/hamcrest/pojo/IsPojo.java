@@ -28,17 +28,17 @@ import com.google.common.base.CaseFormat;
 import com.google.common.base.Joiner;
 import com.google.common.base.Splitter;
 import com.google.common.collect.ImmutableMap;
-import com.spotify.hamcrest.util.DescriptionUtils;
+import com.spotify.hamcrest.util.MismatchTree;
+import java.lang.invoke.MethodHandle;
 import java.lang.invoke.SerializedLambda;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.security.AccessController;
 import java.security.PrivilegedActionException;
 import java.security.PrivilegedExceptionAction;
-import java.util.LinkedHashMap;
-import java.util.Map;
 import java.util.Optional;
-import java.util.function.Consumer;
+import java.util.SortedMap;
+import java.util.TreeMap;
 import org.hamcrest.Description;
 import org.hamcrest.Matcher;
 import org.hamcrest.StringDescription;
@@ -53,6 +53,8 @@ public abstract class IsPojo<A> extends TypeSafeDiagnosingMatcher<A> {
 
   abstract Class<A> cls();
 
+  // keyed by the described property, "name()" for methods and "name" for fields, so that a field
+  // and a method of the same name don't collide
   abstract ImmutableMap<String, MethodHandler<A, ?>> methodHandlers();
 
   public static <A> IsPojo<A> pojo(final Class<A> cls) {
@@ -60,6 +62,11 @@ public abstract class IsPojo<A> extends TypeSafeDiagnosingMatcher<A> {
   }
 
   public <T> IsPojo<A> where(final String methodName, final Matcher<T> returnValueMatcher) {
+    final Optional<MethodHandle> recordAccessor = Accessors.recordComponent(cls(), methodName);
+    if (recordAccessor.isPresent()) {
+      return where(methodName, Accessors.reference(recordAccessor.get()), returnValueMatcher);
+    }
+
     return where(
         methodName,
         self -> {
@@ -87,7 +94,7 @@ public abstract class IsPojo<A> extends TypeSafeDiagnosingMatcher<A> {
       final Matcher<T> matcher) {
 
     return toBuilder()
-        .methodHandler(methodName, MethodHandler.create(valueExtractor, matcher))
+        .methodHandler(methodName + "()", MethodHandler.create(valueExtractor, matcher))
         .build();
   }
 
@@ -99,10 +106,35 @@ public abstract class IsPojo<A> extends TypeSafeDiagnosingMatcher<A> {
     }
   }
 
+  /**
+   * Expect that a property matches a value. For records the property is the record component of
+   * that name, otherwise it is read through its {@code get} method.
+   */
   public IsPojo<A> withProperty(String property, Matcher<?> valueMatcher) {
+    if (Accessors.recordComponent(cls(), property).isPresent()) {
+      return where(property, valueMatcher);
+    }
     return where("get" + CaseFormat.LOWER_CAMEL.to(CaseFormat.UPPER_CAMEL, property), valueMatcher);
   }
 
+  /**
+   * Expect that the value of a field matches a value. The field may be declared in the class or any
+   * of its superclasses and is read through a getter that is compiled once per class.
+   */
+  public <T> IsPojo<A> withField(final String fieldName, final Matcher<T> valueMatcher) {
+    final Optional<MethodHandle> getter = Accessors.field(cls(), fieldName);
+    final MethodReference<A, T> reference =
+        getter.isPresent()
+            ? Accessors.reference(getter.get())
+            : self -> {
+              throw new NoSuchFieldException(fieldName);
+            };
+
+    return toBuilder()
+        .methodHandler(fieldName, MethodHandler.create(reference, valueMatcher))
+        .build();
+  }
+
   private static <A> Builder<A> builder(final Class<A> cls) {
     return new AutoValue_IsPojo.Builder<A>().cls(cls);
   }
@@ -116,8 +148,8 @@ public abstract class IsPojo<A> extends TypeSafeDiagnosingMatcher<A> {
 
     abstract ImmutableMap.Builder<String, MethodHandler<A, ?>> methodHandlersBuilder();
 
-    Builder<A> methodHandler(final String methodName, final MethodHandler<A, ?> handler) {
-      methodHandlersBuilder().put(methodName, handler);
+    Builder<A> methodHandler(final String property, final MethodHandler<A, ?> handler) {
+      methodHandlersBuilder().put(property, handler);
       return this;
     }
 
@@ -131,19 +163,21 @@ public abstract class IsPojo<A> extends TypeSafeDiagnosingMatcher<A> {
       return false;
     }
 
-    final Map<String, Consumer<Description>> mismatches = new LinkedHashMap<>();
+    final SortedMap<Integer, MismatchTree> mismatches = new TreeMap<>();
 
-    methodHandlers()
-        .forEach(
-            (methodName, handler) ->
-                matchMethod(item, handler)
-                    .ifPresent(
-                        descriptionConsumer -> mismatches.put(methodName, descriptionConsumer)));
+    int position = 0;
+    for (MethodHandler<A, ?> handler : methodHandlers().values()) {
+      final int methodPosition = position++;
+      matchMethod(item, handler).ifPresent(mismatch -> mismatches.put(methodPosition, mismatch));
+    }
 
     if (!mismatches.isEmpty()) {
-      mismatchDescription.appendText(cls().getSimpleName()).appendText(" ");
-      DescriptionUtils.describeNestedMismatches(
-          methodHandlers().keySet(), mismatchDescription, mismatches, IsPojo::describeMethod);
+      MismatchTree.nested(
+              cls().getSimpleName() + " ",
+              methodHandlers().keySet().asList(),
+              mismatches,
+              (property, description) -> description.appendText(property))
+          .appendTo(mismatchDescription);
       return false;
     }
 
@@ -156,10 +190,10 @@ public abstract class IsPojo<A> extends TypeSafeDiagnosingMatcher<A> {
 
     methodHandlers()
         .forEach(
-            (methodName, handler) -> {
+            (property, handler) -> {
               final Matcher<?> matcher = handler.matcher();
 
-              description.appendText("  ").appendText(methodName).appendText("(): ");
+              description.appendText("  ").appendText(property).appendText(": ");
 
               Description innerDescription = new StringDescription();
               matcher.describeTo(innerDescription);
@@ -169,7 +203,7 @@ public abstract class IsPojo<A> extends TypeSafeDiagnosingMatcher<A> {
     description.appendText("}");
   }
 
-  private static <A> Optional<Consumer<Description>> matchMethod(
+  private static <A> Optional<MismatchTree> matchMethod(
       final A item, final MethodHandler<A, ?> handler) {
     final Matcher<?> matcher = handler.matcher();
     final MethodReference<A, ?> reference = handler.reference();
@@ -177,36 +211,29 @@ public abstract class IsPojo<A> extends TypeSafeDiagnosingMatcher<A> {
     try {
       final Object value = reference.apply(item);
       if (!matcher.matches(value)) {
-        return Optional.of(d -> matcher.describeMismatch(value, d));
+        return Optional.of(MismatchTree.of(matcher, value));
       } else {
         return Optional.empty();
       }
     } catch (IllegalAccessException e) {
-      return Optional.of(d -> d.appendText("not accessible"));
-    } catch (NoSuchMethodException e) {
-      return Optional.of(d -> d.appendText("did not exist"));
+      return Optional.of(MismatchTree.leaf("not accessible"));
+    } catch (NoSuchMethodException | NoSuchFieldException e) {
+      return Optional.of(MismatchTree.leaf("did not exist"));
     } catch (InvocationTargetException e) {
       final Throwable cause = e.getCause();
       return Optional.of(
-          d ->
-              d.appendText("threw an exception: ")
-                  .appendText(cause.getClass().getCanonicalName())
-                  .appendText(": ")
-                  .appendText(cause.getMessage()));
+          MismatchTree.leaf(
+              "threw an exception: "
+                  + cause.getClass().getCanonicalName()
+                  + ": "
+                  + cause.getMessage()));
     } catch (Exception e) {
       return Optional.of(
-          d ->
-              d.appendText("threw an exception: ")
-                  .appendText(e.getClass().getCanonicalName())
-                  .appendText(": ")
-                  .appendText(e.getMessage()));
+          MismatchTree.leaf(
+              "threw an exception: " + e.getClass().getCanonicalName() + ": " + e.getMessage()));
     }
   }
 
-  private static void describeMethod(String name, Description description) {
-    description.appendText(name).appendText("()");
-  }
-
   private void indentDescription(Description description, Description innerDescription) {
     description
         .appendText(Joiner.on("\n  ").join(Splitter.on('\n').split(innerDescription.toString())))
@@ -220,7 +247,7 @@ public abstract class IsPojo<A> extends TypeSafeDiagnosingMatcher<A> {
    * @param lambda lambda to extract the name from
    * @return a serialized version of the lambda, containing useful information for introspection
    */
-  private static SerializedLambda serializeLambda(final Object lambda) {
+  static SerializedLambda serializeLambda(final Object lambda) {
     requireNonNull(lambda);
 
     final Method writeReplace;
@@ -245,7 +272,7 @@ public abstract class IsPojo<A> extends TypeSafeDiagnosingMatcher<A> {
     }
   }
 
-  private static void ensureDirectMethodReference(final SerializedLambda serializedLambda) {
+  static void ensureDirectMethodReference(final SerializedLambda serializedLambda) {
     try {
       final Class<?> implClass = Class.forName(serializedLambda.getImplClass().replace('/', '.'));
       if (stream(implClass.getMethods())
@@ -0,0 +1,158 @@
+/*-
+ * -\-\-
+ * hamcrest-pojo
+ * --
+ * Copyright (C) 2016 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.hamcrest.pojo;
+
+import static com.spotify.hamcrest.pojo.IsJoinedBy.joinedBy;
+import static com.spotify.hamcrest.pojo.IsPojo.pojo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.core.Is.is;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import org.hamcrest.Matcher;
+import org.hamcrest.StringDescription;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class IsJoinedByTest {
+
+  @Rule public final ExpectedException expectedException = ExpectedException.none();
+
+  private static final List<SomeEntity> EXPECTED =
+      Arrays.asList(
+          new SomeEntity(1, "alice"),
+          new SomeEntity(2, "bob"),
+          new SomeEntity(3, "carol"),
+          new SomeEntity(4, "dave"));
+
+  @Test
+  public void testMatchesInAnyOrder() throws Exception {
+    final List<SomeEntity> actual = new ArrayList<>(EXPECTED);
+    Collections.reverse(actual);
+
+    assertThat(actual, joinedBy(SomeEntity::id, EXPECTED));
+    assertThat(EXPECTED.subList(0, 3), not(joinedBy(SomeEntity::id, EXPECTED)));
+    assertThat(Collections.emptyList(), joinedBy(SomeEntity::id, Collections.emptyList()));
+  }
+
+  @Test
+  public void testItemMatcher() throws Exception {
+    final Matcher<Iterable<? extends SomeEntity>> sut =
+        joinedBy(
+            SomeEntity::id,
+            EXPECTED,
+            expected -> pojo(SomeEntity.class).where(SomeEntity::name, is(expected.name())));
+
+    assertThat(EXPECTED, sut);
+    assertThat(
+        Arrays.asList(
+            new SomeEntity(1, "alice"),
+            new SomeEntity(2, "bob"),
+            new SomeEntity(3, "carol"),
+            new SomeEntity(4, "eve")),
+        not(sut));
+  }
+
+  @Test
+  public void testLargeJoin() throws Exception {
+    final List<SomeEntity> expected = new ArrayList<>();
+    for (int i = 0; i < 100_000; i++) {
+      expected.add(new SomeEntity(i, "user-" + i));
+    }
+    final List<SomeEntity> actual = new ArrayList<>(expected);
+    Collections.shuffle(actual, new Random(42));
+
+    assertThat(actual, joinedBy(SomeEntity::id, expected));
+  }
+
+  @Test
+  public void testDuplicateExpectedKey() throws Exception {
+    expectedException.expect(IllegalArgumentException.class);
+    expectedException.expectMessage("Duplicate id() 1");
+
+    joinedBy(SomeEntity::id, Arrays.asList(new SomeEntity(1, "a"), new SomeEntity(1, "b")));
+  }
+
+  @Test
+  public void testNotAMethodReference() throws Exception {
+    expectedException.expect(IllegalArgumentException.class);
+
+    joinedBy((SomeEntity entity) -> entity.id() + 1, EXPECTED);
+  }
+
+  @Test
+  public void testMismatchFormatting() throws Exception {
+    final Matcher<Iterable<? extends SomeEntity>> sut =
+        joinedBy(
+            SomeEntity::id,
+            EXPECTED,
+            expected -> pojo(SomeEntity.class).where(SomeEntity::name, is(expected.name())));
+
+    final StringDescription description = new StringDescription();
+    sut.describeMismatch(
+        Arrays.asList(
+            new SomeEntity(5, "eve"),
+            new SomeEntity(4, "dave"),
+            new SomeEntity(2, "robert"),
+            new SomeEntity(1, "alice"),
+            new SomeEntity(4, "dave")),
+        description);
+
+    assertThat(
+        description.toString(),
+        is(
+            "had 1 missing, 2 unexpected and 1 mismatched of 4 expected items, joined by id() {\n"
+                + "  ...\n"
+                + "  id() <2>: SomeEntity {\n"
+                + "    name(): was \"robert\"\n"
+                + "  }\n"
+                + "  id() <3>: was missing\n"
+                + "  ...\n"
+                + "  id() <5>: was unexpected: <SomeEntity{id=5, name=eve}>\n"
+                + "  id() <4>: was a duplicate: <SomeEntity{id=4, name=dave}>\n"
+                + "}"));
+  }
+
+  @Test
+  public void testMismatchesAreBounded() throws Exception {
+    final List<SomeEntity> expected = new ArrayList<>();
+    for (int i = 0; i < 1000; i++) {
+      expected.add(new SomeEntity(i, "user-" + i));
+    }
+
+    final StringDescription description = new StringDescription();
+    joinedBy(SomeEntity::id, expected).describeMismatch(Collections.emptyList(), description);
+
+    assertThat(description.toString().split("\n").length, is(IsJoinedBy.MAX_DESCRIBED_ITEMS + 3));
+  }
+
+  @Test
+  public void testDescription() throws Exception {
+    assertThat(
+        StringDescription.toString(joinedBy(SomeEntity::id, EXPECTED)),
+        is("an iterable with the 4 expected items, joined by id()"));
+  }
+}
@@ -251,4 +251,74 @@ public class IsPojoTest {
 
     assertThat(new SomeClass(), is(sut));
   }
+
+  @Test
+  public void testField() throws Exception {
+    final IsPojo<SomeClass> sut =
+        pojo(SomeClass.class)
+            .withField("publicField", is(42))
+            .withField("packageField", is("field"))
+            .withField("fieldInParent", is(true));
+
+    assertThat(new SomeClass(), is(sut));
+  }
+
+  @Test
+  public void testFieldDescriptionFormatting() throws Exception {
+    final IsPojo<SomeClass> sut =
+        pojo(SomeClass.class).where("foo", is(42)).withField("publicField", is(42));
+
+    final StringDescription description = new StringDescription();
+    sut.describeTo(description);
+
+    assertThat(
+        description.toString(),
+        is("SomeClass {\n" + "  foo(): is <42>\n" + "  publicField: is <42>\n" + "}"));
+  }
+
+  @Test
+  public void testFieldMismatchFormatting() throws Exception {
+    final IsPojo<SomeClass> sut =
+        pojo(SomeClass.class)
+            .where("foo", is(41))
+            .withField("publicField", is(42))
+            .withField("packageField", is("other"));
+
+    final StringDescription description = new StringDescription();
+    sut.describeMismatch(new SomeClass(), description);
+
+    assertThat(
+        description.toString(),
+        is(
+            "SomeClass {\n"
+                + "  foo(): was <42>\n"
+                + "  ...\n"
+                + "  packageField: was \"field\"\n"
+                + "}"));
+  }
+
+  @Test
+  public void testFieldAndMethodOfSameName() throws Exception {
+    final IsPojo<SomeEntity> sut =
+        pojo(SomeEntity.class).where(SomeEntity::id, is(1)).withField("id", is(2));
+
+    final StringDescription description = new StringDescription();
+    sut.describeMismatch(new SomeEntity(1, "one"), description);
+
+    assertThat(description.toString(), is("SomeEntity {\n" + "  ...\n" + "  id: was <1>\n" + "}"));
+    assertThat(
+        new SomeEntity(1, "one"),
+        is(pojo(SomeEntity.class).where(SomeEntity::id, is(1)).withField("id", is(1))));
+  }
+
+  @Test
+  public void testNoSuchField() throws Exception {
+    final IsPojo<SomeClass> sut = pojo(SomeClass.class).withField("doesNotExist", is(anything()));
+
+    final StringDescription description = new StringDescription();
+    sut.describeMismatch(new SomeClass(), description);
+
+    assertThat(
+        description.toString(), is("SomeClass {\n" + "  doesNotExist: did not exist\n" + "}"));
+  }
 }
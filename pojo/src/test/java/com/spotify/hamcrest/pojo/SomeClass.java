@@ -24,6 +24,10 @@ import java.util.ArrayList;
 
 class SomeClass extends SomeParent {
 
+  public final int publicField = 42;
+
+  String packageField = "field";
+
   public int foo() {
     return 42;
   }
@@ -24,6 +24,8 @@ import java.util.Collections;
 import java.util.List;
 
 class SomeParent {
+  private final boolean fieldInParent = true;
+
   public boolean methodInParent() {
     return true;
   }
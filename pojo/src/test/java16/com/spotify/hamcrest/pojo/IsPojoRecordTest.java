@@ -0,0 +1,101 @@
+/*-
+ * -\-\-
+ * hamcrest-pojo
+ * --
+ * Copyright (C) 2017 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.hamcrest.pojo;
+
+import static com.spotify.hamcrest.pojo.IsPojo.pojo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+
+import org.hamcrest.StringDescription;
+import org.junit.Test;
+
+public class IsPojoRecordTest {
+
+  record SomeRecord(int foo, String bar, String throwsException) {
+
+    SomeRecord(int foo, String bar) {
+      this(foo, bar, null);
+    }
+
+    public String getBar() {
+      return "not a component";
+    }
+
+    @Override
+    public String throwsException() {
+      throw new RuntimeException("Error!");
+    }
+  }
+
+  @Test
+  public void testWithProperty() throws Exception {
+    final IsPojo<SomeRecord> sut =
+        pojo(SomeRecord.class).withProperty("foo", is(42)).withProperty("bar", is("bar"));
+
+    assertThat(new SomeRecord(42, "bar"), is(sut));
+  }
+
+  @Test
+  public void testWhere() throws Exception {
+    final IsPojo<SomeRecord> sut =
+        pojo(SomeRecord.class).where("foo", is(42)).where("getBar", is("not a component"));
+
+    assertThat(new SomeRecord(42, "bar"), is(sut));
+  }
+
+  @Test
+  public void testMismatchFormatting() throws Exception {
+    final IsPojo<SomeRecord> sut =
+        pojo(SomeRecord.class).withProperty("foo", is(42)).withProperty("bar", is("baz"));
+
+    final StringDescription description = new StringDescription();
+    sut.describeMismatch(new SomeRecord(42, "bar"), description);
+
+    assertThat(
+        description.toString(),
+        is("SomeRecord {\n" + "  ...\n" + "  bar(): was \"bar\"\n" + "}"));
+  }
+
+  @Test
+  public void testAccessorsAreCompiledOncePerClass() throws Exception {
+    assertThat(
+        Accessors.recordComponent(SomeRecord.class, "foo").get()
+            == Accessors.recordComponent(SomeRecord.class, "foo").get(),
+        is(true));
+    assertThat(Accessors.recordComponent(SomeRecord.class, "getBar").isPresent(), is(false));
+    assertThat(Accessors.recordComponent(SomeClass.class, "foo").isPresent(), is(false));
+  }
+
+  @Test
+  public void testThrowsException() throws Exception {
+    final IsPojo<SomeRecord> sut = pojo(SomeRecord.class).where("throwsException", is("x"));
+
+    final StringDescription description = new StringDescription();
+    sut.describeMismatch(new SomeRecord(42, "bar"), description);
+
+    assertThat(
+        description.toString(),
+        is(
+            "SomeRecord {\n"
+                + "  throwsException(): threw an exception: java.lang.RuntimeException: Error!\n"
+                + "}"));
+  }
+}
@@ -0,0 +1,67 @@
+/*-
+ * -\-\-
+ * hamcrest-stream
+ * --
+ * Copyright (C) 2016 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.hamcrest.stream;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.concurrent.ForkJoinPool;
+import org.hamcrest.Matcher;
+
+/** Matchers for large collections. */
+public final class CollectionMatchers {
+
+  private CollectionMatchers() {}
+
+  /**
+   * Creates a Matcher that matches an Iterable where every item matches the given Matcher, like
+   * {@link org.hamcrest.Matchers#everyItem(Matcher)} but testing the items in parallel on the
+   * common {@link ForkJoinPool}. Only the mismatch with the lowest index is reported, and testing
+   * stops early once it is known.
+   */
+  public static <T> Matcher<Iterable<? extends T>> everyItemInParallel(
+      final Matcher<? super T> matcher) {
+    return new ParallelEveryItem<>(matcher, 1, null);
+  }
+
+  /**
+   * Creates a Matcher that matches an Iterable where every item matches the given Matcher, testing
+   * the items in parallel on the given {@link ForkJoinPool}. Only the mismatch with the lowest
+   * index is reported, and testing stops early once it is known.
+   */
+  public static <T> Matcher<Iterable<? extends T>> everyItemInParallel(
+      final Matcher<? super T> matcher, final ForkJoinPool pool) {
+    return everyItemInParallel(matcher, 1, pool);
+  }
+
+  /**
+   * Creates a Matcher that matches an Iterable where every item matches the given Matcher, testing
+   * the items in parallel on the given {@link ForkJoinPool}.
+   *
+   * <p>The items are split into chunks that are tested in parallel. Up to {@code maxMismatches}
+   * mismatches are reported, the ones with the lowest indices, and items after the last of those
+   * are skipped as soon as it is known. Items of a {@link java.util.RandomAccess} {@link
+   * java.util.List} are read in place, other iterables are copied first.
+   */
+  public static <T> Matcher<Iterable<? extends T>> everyItemInParallel(
+      final Matcher<? super T> matcher, final int maxMismatches, final ForkJoinPool pool) {
+    return new ParallelEveryItem<>(matcher, maxMismatches, requireNonNull(pool));
+  }
+}
@@ -0,0 +1,71 @@
+/*-
+ * -\-\-
+ * hamcrest-stream
+ * --
+ * Copyright (C) 2016 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.hamcrest.stream;
+
+import com.spotify.hamcrest.util.MismatchTree;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.WeakHashMap;
+import java.util.stream.Stream;
+import org.hamcrest.Description;
+import org.hamcrest.TypeSafeDiagnosingMatcher;
+
+/**
+ * Matches an empty stream. At most one element is consumed, and kept per stream so that the
+ * mismatch can be described after the stream was matched.
+ */
+class EmptyStream extends TypeSafeDiagnosingMatcher<Stream<?>> {
+
+  private static final Object EMPTY = new Object();
+
+  private final Map<Stream<?>, Object> firstElements =
+      Collections.synchronizedMap(new WeakHashMap<>());
+
+  EmptyStream() {
+    super(Stream.class);
+  }
+
+  @Override
+  protected boolean matchesSafely(final Stream<?> stream, final Description mismatchDescription) {
+    final Object first;
+    if (firstElements.containsKey(stream)) {
+      first = firstElements.get(stream);
+    } else {
+      final Object[] element = {EMPTY};
+      final Spliterator<?> spliterator = stream.spliterator();
+      spliterator.tryAdvance(item -> element[0] = item);
+      first = element[0];
+      firstElements.put(stream, first);
+    }
+
+    if (first == EMPTY) {
+      return true;
+    }
+    MismatchTree.leaf("was not empty, its first element was ", first).appendTo(mismatchDescription);
+    return false;
+  }
+
+  @Override
+  public void describeTo(final Description description) {
+    description.appendText("an empty stream");
+  }
+}
@@ -0,0 +1,212 @@
+/*-
+ * -\-\-
+ * hamcrest-stream
+ * --
+ * Copyright (C) 2016 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.hamcrest.stream;
+
+import static java.util.Objects.requireNonNull;
+
+import com.spotify.hamcrest.util.MismatchTree;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.hamcrest.TypeSafeDiagnosingMatcher;
+
+/**
+ * Matches an {@link Iterable} where every item matches a matcher, testing the items in parallel.
+ *
+ * <p>A {@link RandomAccess} {@link List} is split into chunks directly, anything else is copied
+ * into an array first. Chunks run as fork/join tasks. Once a chunk found as many mismatches as will
+ * be reported, items after its last one can't be among the reported mismatches any more, so every
+ * chunk stops before them. The mismatches of the chunks are merged by index, so the lowest indices
+ * are reported no matter which chunk finished first.
+ *
+ * <p>Matching and describing the mismatch both call {@link #matchesSafely}, so the mismatches of
+ * the last failed match are kept for the describe pass instead of scanning the items again. They
+ * are only used for the very same Iterable, otherwise the items are scanned again.
+ */
+class ParallelEveryItem<T> extends TypeSafeDiagnosingMatcher<Iterable<? extends T>> {
+
+  /** The number of chunks per worker thread, so that an unlucky slow chunk can be compensated. */
+  private static final int CHUNKS_PER_THREAD = 16;
+
+  private final Matcher<? super T> matcher;
+  private final int maxMismatches;
+  private final ForkJoinPool pool;
+  private final AtomicReference<Failure> lastFailure = new AtomicReference<>();
+
+  ParallelEveryItem(
+      final Matcher<? super T> matcher, final int maxMismatches, final ForkJoinPool pool) {
+    super(Iterable.class);
+    if (maxMismatches <= 0) {
+      throw new IllegalArgumentException("maxMismatches must be positive: " + maxMismatches);
+    }
+    this.matcher = requireNonNull(matcher);
+    this.maxMismatches = maxMismatches;
+    this.pool = pool;
+  }
+
+  @Override
+  protected boolean matchesSafely(
+      final Iterable<? extends T> items, final Description mismatchDescription) {
+    final boolean describe = !(mismatchDescription instanceof Description.NullDescription);
+    final Failure failure = describe ? lastFailure.getAndSet(null) : null;
+    final List<Mismatch> mismatches =
+        failure != null && failure.items.get() == items ? failure.mismatches : scan(items);
+    if (mismatches.isEmpty()) {
+      return true;
+    }
+    if (!describe) {
+      lastFailure.set(new Failure(items, mismatches));
+      return false;
+    }
+
+    for (int i = 0; i < mismatches.size(); i++) {
+      final Mismatch mismatch = mismatches.get(i);
+      MismatchTree.wrapping(
+              (i == 0 ? "" : "\n") + "item " + mismatch.index + " ",
+              MismatchTree.of(matcher, mismatch.item))
+          .appendTo(mismatchDescription);
+    }
+    return false;
+  }
+
+  private List<Mismatch> scan(final Iterable<? extends T> items) {
+    final List<?> list = randomAccess(items);
+    final ForkJoinPool pool = this.pool == null ? ForkJoinPool.commonPool() : this.pool;
+    final int chunkSize = Math.max(1, list.size() / (pool.getParallelism() * CHUNKS_PER_THREAD));
+    return pool.invoke(new Chunk(list, 0, list.size(), chunkSize, new AtomicInteger(list.size())));
+  }
+
+  private static List<?> randomAccess(final Iterable<?> items) {
+    if (items instanceof List && items instanceof RandomAccess) {
+      return (List<?>) items;
+    } else if (items instanceof Collection) {
+      return Arrays.asList(((Collection<?>) items).toArray());
+    }
+    final List<Object> list = new ArrayList<>();
+    items.forEach(list::add);
+    return list;
+  }
+
+  @Override
+  public void describeTo(final Description description) {
+    description.appendText("every item is ").appendDescriptionOf(matcher);
+  }
+
+  private final class Chunk extends RecursiveTask<List<Mismatch>> {
+
+    private static final long serialVersionUID = 1L;
+
+    private final List<?> items;
+    private final int start;
+    private final int end;
+    private final int chunkSize;
+    // items from this index on can't be among the reported mismatches
+    private final AtomicInteger bound;
+
+    Chunk(
+        final List<?> items,
+        final int start,
+        final int end,
+        final int chunkSize,
+        final AtomicInteger bound) {
+      this.items = items;
+      this.start = start;
+      this.end = end;
+      this.chunkSize = chunkSize;
+      this.bound = bound;
+    }
+
+    @Override
+    protected List<Mismatch> compute() {
+      if (end - start <= chunkSize) {
+        return scan();
+      }
+
+      final int middle = (start + end) >>> 1;
+      final Chunk right = new Chunk(items, middle, end, chunkSize, bound);
+      right.fork();
+      final List<Mismatch> left = new Chunk(items, start, middle, chunkSize, bound).compute();
+      return merge(left, right.join());
+    }
+
+    private List<Mismatch> scan() {
+      List<Mismatch> mismatches = Collections.emptyList();
+      for (int i = start; i < end && i < bound.get(); i++) {
+        final Object item = items.get(i);
+        if (!matcher.matches(item)) {
+          if (mismatches.isEmpty()) {
+            mismatches = new ArrayList<>();
+          }
+          mismatches.add(new Mismatch(i, item));
+          if (mismatches.size() == maxMismatches) {
+            final int next = i + 1;
+            bound.accumulateAndGet(next, Math::min);
+            break;
+          }
+        }
+      }
+      return mismatches;
+    }
+
+    private List<Mismatch> merge(final List<Mismatch> left, final List<Mismatch> right) {
+      if (right.isEmpty() || left.size() == maxMismatches) {
+        return left;
+      } else if (left.isEmpty()) {
+        return right;
+      }
+      final List<Mismatch> merged = new ArrayList<>(left);
+      merged.addAll(right.subList(0, Math.min(right.size(), maxMismatches - left.size())));
+      return merged;
+    }
+  }
+
+  private static final class Mismatch {
+
+    private final int index;
+    private final Object item;
+
+    Mismatch(final int index, final Object item) {
+      this.index = index;
+      this.item = item;
+    }
+  }
+
+  private static final class Failure {
+
+    private final WeakReference<Iterable<?>> items;
+    private final List<Mismatch> mismatches;
+
+    Failure(final Iterable<?> items, final List<Mismatch> mismatches) {
+      this.items = new WeakReference<>(items);
+      this.mismatches = mismatches;
+    }
+  }
+}
@@ -0,0 +1,207 @@
+/*-
+ * -\-\-
+ * hamcrest-stream
+ * --
+ * Copyright (C) 2016 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.hamcrest.stream;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.stream.Stream;
+import org.hamcrest.Matcher;
+
+/**
+ * Matchers for sorted elements, for example the pages of an export or the rows of a cursor.
+ *
+ * <p>The actual and expected elements must both be sorted by the given {@link Comparator}, which
+ * also decides which elements are equal. They are compared by merging them in a single pass that
+ * only keeps the current element of each side in memory, so the elements don't need to fit in
+ * memory. Reading stops once the first {@code maxMismatches} differences are found, 10 unless
+ * given. Actual elements that turn out not to be sorted are reported as a difference, while
+ * expected elements that are not sorted throw an {@link IllegalArgumentException}.
+ *
+ * <p>An {@link Iterator} or a {@link Stream} can only be read once, so a matcher remembers their
+ * outcome until they are garbage collected. An {@link Iterable} is read again on every match.
+ */
+public final class SortedMatchers {
+
+  static final int MAX_DESCRIBED_MISMATCHES = 10;
+
+  private SortedMatchers() {}
+
+  /**
+   * Creates a Matcher that matches a sorted Iterable with the same elements as the given sorted
+   * elements, including duplicates.
+   */
+  public static <T> Matcher<Iterable<? extends T>> sortedIterableEqualTo(
+      final Iterable<? extends T> expected, final Comparator<? super T> comparator) {
+    return sortedIterableEqualTo(expected, comparator, MAX_DESCRIBED_MISMATCHES);
+  }
+
+  /**
+   * Creates a Matcher that matches a sorted Iterable with the same elements as the given sorted
+   * elements, including duplicates, reporting up to {@code maxMismatches} differences.
+   */
+  public static <T> Matcher<Iterable<? extends T>> sortedIterableEqualTo(
+      final Iterable<? extends T> expected,
+      final Comparator<? super T> comparator,
+      final int maxMismatches) {
+    return iterable(expected, comparator, true, maxMismatches);
+  }
+
+  /**
+   * Creates a Matcher that matches a sorted Iterable that contains all of the given sorted
+   * elements, and possibly others.
+   */
+  public static <T> Matcher<Iterable<? extends T>> sortedIterableContaining(
+      final Iterable<? extends T> expected, final Comparator<? super T> comparator) {
+    return sortedIterableContaining(expected, comparator, MAX_DESCRIBED_MISMATCHES);
+  }
+
+  /**
+   * Creates a Matcher that matches a sorted Iterable that contains all of the given sorted
+   * elements, and possibly others, reporting up to {@code maxMismatches} missing elements.
+   */
+  public static <T> Matcher<Iterable<? extends T>> sortedIterableContaining(
+      final Iterable<? extends T> expected,
+      final Comparator<? super T> comparator,
+      final int maxMismatches) {
+    return iterable(expected, comparator, false, maxMismatches);
+  }
+
+  /**
+   * Creates a Matcher that matches a sorted Iterator with the same elements as the given sorted
+   * elements, including duplicates.
+   */
+  public static <T> Matcher<Iterator<? extends T>> sortedIteratorEqualTo(
+      final Iterable<? extends T> expected, final Comparator<? super T> comparator) {
+    return sortedIteratorEqualTo(expected, comparator, MAX_DESCRIBED_MISMATCHES);
+  }
+
+  /**
+   * Creates a Matcher that matches a sorted Iterator with the same elements as the given sorted
+   * elements, including duplicates, reporting up to {@code maxMismatches} differences.
+   */
+  public static <T> Matcher<Iterator<? extends T>> sortedIteratorEqualTo(
+      final Iterable<? extends T> expected,
+      final Comparator<? super T> comparator,
+      final int maxMismatches) {
+    return iterator(expected, comparator, true, maxMismatches);
+  }
+
+  /**
+   * Creates a Matcher that matches a sorted Iterator that contains all of the given sorted
+   * elements, and possibly others.
+   */
+  public static <T> Matcher<Iterator<? extends T>> sortedIteratorContaining(
+      final Iterable<? extends T> expected, final Comparator<? super T> comparator) {
+    return sortedIteratorContaining(expected, comparator, MAX_DESCRIBED_MISMATCHES);
+  }
+
+  /**
+   * Creates a Matcher that matches a sorted Iterator that contains all of the given sorted
+   * elements, and possibly others, reporting up to {@code maxMismatches} missing elements.
+   */
+  public static <T> Matcher<Iterator<? extends T>> sortedIteratorContaining(
+      final Iterable<? extends T> expected,
+      final Comparator<? super T> comparator,
+      final int maxMismatches) {
+    return iterator(expected, comparator, false, maxMismatches);
+  }
+
+  /**
+   * Creates a Matcher that matches a sorted Stream with the same elements as the given sorted
+   * elements, including duplicates.
+   */
+  public static <T> Matcher<Stream<? extends T>> sortedStreamEqualTo(
+      final Iterable<? extends T> expected, final Comparator<? super T> comparator) {
+    return sortedStreamEqualTo(expected, comparator, MAX_DESCRIBED_MISMATCHES);
+  }
+
+  /**
+   * Creates a Matcher that matches a sorted Stream with the same elements as the given sorted
+   * elements, including duplicates, reporting up to {@code maxMismatches} differences.
+   */
+  public static <T> Matcher<Stream<? extends T>> sortedStreamEqualTo(
+      final Iterable<? extends T> expected,
+      final Comparator<? super T> comparator,
+      final int maxMismatches) {
+    return stream(expected, comparator, true, maxMismatches);
+  }
+
+  /**
+   * Creates a Matcher that matches a sorted Stream that contains all of the given sorted elements,
+   * and possibly others.
+   */
+  public static <T> Matcher<Stream<? extends T>> sortedStreamContaining(
+      final Iterable<? extends T> expected, final Comparator<? super T> comparator) {
+    return sortedStreamContaining(expected, comparator, MAX_DESCRIBED_MISMATCHES);
+  }
+
+  /**
+   * Creates a Matcher that matches a sorted Stream that contains all of the given sorted elements,
+   * and possibly others, reporting up to {@code maxMismatches} missing elements.
+   */
+  public static <T> Matcher<Stream<? extends T>> sortedStreamContaining(
+      final Iterable<? extends T> expected,
+      final Comparator<? super T> comparator,
+      final int maxMismatches) {
+    return stream(expected, comparator, false, maxMismatches);
+  }
+
+  private static <T> Matcher<Iterable<? extends T>> iterable(
+      final Iterable<? extends T> expected,
+      final Comparator<? super T> comparator,
+      final boolean strict,
+      final int maxMismatches) {
+    return new SortedMerge<Iterable<? extends T>, T>(
+        Iterable.class,
+        "iterable",
+        Iterable::iterator,
+        false,
+        expected,
+        comparator,
+        strict,
+        maxMismatches);
+  }
+
+  private static <T> Matcher<Iterator<? extends T>> iterator(
+      final Iterable<? extends T> expected,
+      final Comparator<? super T> comparator,
+      final boolean strict,
+      final int maxMismatches) {
+    return new SortedMerge<Iterator<? extends T>, T>(
+        Iterator.class, "iterator", it -> it, true, expected, comparator, strict, maxMismatches);
+  }
+
+  private static <T> Matcher<Stream<? extends T>> stream(
+      final Iterable<? extends T> expected,
+      final Comparator<? super T> comparator,
+      final boolean strict,
+      final int maxMismatches) {
+    return new SortedMerge<Stream<? extends T>, T>(
+        Stream.class,
+        "stream",
+        Stream::iterator,
+        true,
+        expected,
+        comparator,
+        strict,
+        maxMismatches);
+  }
+}
@@ -0,0 +1,221 @@
+/*-
+ * -\-\-
+ * hamcrest-stream
+ * --
+ * Copyright (C) 2016 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.hamcrest.stream;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.function.Function;
+import org.hamcrest.Description;
+import org.hamcrest.StringDescription;
+import org.hamcrest.TypeSafeDiagnosingMatcher;
+
+/**
+ * Matches sorted elements against sorted expected elements with a single merge of both, which reads
+ * every element once and only keeps the current element of each side and the reported differences
+ * in memory.
+ *
+ * <p>Elements are considered equal when the comparator returns 0. When the actual elements turn out
+ * not to be sorted the merge stops, since any later difference would be meaningless.
+ *
+ * @param <S> the type of the source of actual elements, like an {@link Iterable}.
+ */
+class SortedMerge<S, T> extends TypeSafeDiagnosingMatcher<S> {
+
+  private static final int MAX_DESCRIBED_ELEMENTS = 10;
+
+  private final String sourceName;
+  private final Function<? super S, ? extends Iterator<? extends T>> elements;
+  private final boolean singlePass;
+  private final Iterable<? extends T> expected;
+  private final Comparator<? super T> comparator;
+  private final boolean strict;
+  private final int maxMismatches;
+  // single-pass sources can't be read again to describe the mismatch
+  private final Map<S, Outcome> outcomes = Collections.synchronizedMap(new WeakHashMap<>());
+
+  SortedMerge(
+      final Class<?> sourceType,
+      final String sourceName,
+      final Function<? super S, ? extends Iterator<? extends T>> elements,
+      final boolean singlePass,
+      final Iterable<? extends T> expected,
+      final Comparator<? super T> comparator,
+      final boolean strict,
+      final int maxMismatches) {
+    super(sourceType);
+    if (maxMismatches < 1) {
+      throw new IllegalArgumentException("maxMismatches must be positive, was " + maxMismatches);
+    }
+    this.sourceName = requireNonNull(sourceName);
+    this.elements = requireNonNull(elements);
+    this.singlePass = singlePass;
+    this.expected = requireNonNull(expected);
+    this.comparator = requireNonNull(comparator);
+    this.strict = strict;
+    this.maxMismatches = maxMismatches;
+  }
+
+  @Override
+  protected boolean matchesSafely(final S item, final Description mismatchDescription) {
+    final Outcome outcome;
+    if (singlePass) {
+      final Outcome known = outcomes.get(item);
+      outcome = known != null ? known : merge(item, maxMismatches);
+      outcomes.put(item, outcome);
+    } else {
+      final boolean describe = !(mismatchDescription instanceof Description.NullDescription);
+      outcome = merge(item, describe ? maxMismatches : 1);
+    }
+
+    if (outcome.mismatches.isEmpty()) {
+      return true;
+    }
+    describe(outcome, mismatchDescription);
+    return false;
+  }
+
+  private Outcome merge(final S item, final int limit) {
+    final Iterator<? extends T> actualElements = elements.apply(item);
+    final Iterator<? extends T> expectedElements = expected.iterator();
+    final List<String> mismatches = new ArrayList<>();
+
+    long actualIndex = 0;
+    long expectedIndex = 0;
+    // explicit flags rather than null checks, so that null elements are supported
+    boolean actualLeft = actualElements.hasNext();
+    T actual = actualLeft ? actualElements.next() : null;
+    boolean expectedLeft = expectedElements.hasNext();
+    T expect = expectedLeft ? expectedElements.next() : null;
+
+    while ((actualLeft || expectedLeft) && mismatches.size() < limit) {
+      final int order;
+      if (!actualLeft) {
+        order = 1;
+      } else if (!expectedLeft) {
+        order = -1;
+      } else {
+        order = comparator.compare(actual, expect);
+      }
+
+      if (order < 0 && strict) {
+        mismatches.add(elementName(actualIndex) + " was unexpected: " + describeValue(actual));
+      } else if (order > 0) {
+        mismatches.add(
+            "expected element " + expectedIndex + " was missing: " + describeValue(expect));
+      }
+
+      if (order >= 0 && expectedLeft) {
+        final T previous = expect;
+        expectedLeft = expectedElements.hasNext();
+        expect = expectedLeft ? expectedElements.next() : null;
+        expectedIndex++;
+        if (expectedLeft && comparator.compare(previous, expect) > 0) {
+          throw new IllegalArgumentException(
+              "Expected elements are not sorted, element "
+                  + expectedIndex
+                  + " "
+                  + describeValue(expect)
+                  + " came after "
+                  + describeValue(previous));
+        }
+      }
+      if (order <= 0 && actualLeft) {
+        final T previous = actual;
+        actualLeft = actualElements.hasNext();
+        actual = actualLeft ? actualElements.next() : null;
+        actualIndex++;
+        if (actualLeft && comparator.compare(previous, actual) > 0) {
+          mismatches.add(
+              elementName(actualIndex)
+                  + " was out of order: "
+                  + describeValue(actual)
+                  + " came after "
+                  + describeValue(previous));
+          return new Outcome(mismatches, actualIndex + 1, false);
+        }
+      }
+    }
+    return new Outcome(mismatches, actualIndex, !actualLeft && !expectedLeft);
+  }
+
+  private void describe(final Outcome outcome, final Description mismatchDescription) {
+    if (mismatchDescription instanceof Description.NullDescription) {
+      return;
+    }
+    final int size = outcome.mismatches.size();
+    mismatchDescription
+        .appendText(outcome.complete ? "had " : "had at least ")
+        .appendText(String.valueOf(size))
+        .appendText(size == 1 ? " difference in " : " differences in ")
+        .appendText(outcome.complete ? "" : "the first ")
+        .appendText(String.valueOf(outcome.read))
+        .appendText(outcome.read == 1 ? " element:" : " elements:");
+    for (String mismatch : outcome.mismatches) {
+      mismatchDescription.appendText("\n  ").appendText(mismatch);
+    }
+  }
+
+  @Override
+  public void describeTo(final Description description) {
+    description
+        .appendText("a sorted ")
+        .appendText(sourceName)
+        .appendText(strict ? " with exactly the elements [" : " containing the elements [");
+    int described = 0;
+    for (Iterator<? extends T> it = expected.iterator(); it.hasNext(); described++) {
+      final T element = it.next();
+      if (described == MAX_DESCRIBED_ELEMENTS) {
+        description.appendText(", ...");
+        break;
+      }
+      description.appendText(described == 0 ? "" : ", ").appendValue(element);
+    }
+    description.appendText("]");
+  }
+
+  private static String elementName(final long index) {
+    return "element " + index;
+  }
+
+  private static String describeValue(final Object value) {
+    return new StringDescription().appendValue(value).toString();
+  }
+
+  private static final class Outcome {
+
+    private final List<String> mismatches;
+    private final long read;
+    private final boolean complete;
+
+    Outcome(final List<String> mismatches, final long read, final boolean complete) {
+      this.mismatches = mismatches;
+      this.read = read;
+      this.complete = complete;
+    }
+  }
+}
@@ -0,0 +1,189 @@
+/*-
+ * -\-\-
+ * hamcrest-stream
+ * --
+ * Copyright (C) 2016 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.hamcrest.stream;
+
+import static java.util.Objects.requireNonNull;
+
+import com.spotify.hamcrest.util.MismatchTree;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.hamcrest.TypeSafeDiagnosingMatcher;
+
+/**
+ * Matches a stream where every, some or no element matches a matcher.
+ *
+ * <p>The stream is consumed lazily and only until an element decides the outcome, for example the
+ * first mismatch when every element should match. Parallel streams are evaluated in parallel, in
+ * which case the position of an element is not reported. Only the first few mismatching elements
+ * are kept to describe a stream where no element matched.
+ *
+ * <p>Since a stream can only be consumed once, the outcome is kept per stream so that it can be
+ * described after it was matched.
+ */
+class StreamMatcher<T> extends TypeSafeDiagnosingMatcher<Stream<? extends T>> {
+
+  static final int MAX_DESCRIBED_MISMATCHES = 10;
+
+  enum Quantifier {
+    EVERY("a stream where every element "),
+    SOME("a stream with an element that "),
+    NONE("a stream with no element that ");
+
+    private final String description;
+
+    Quantifier(final String description) {
+      this.description = description;
+    }
+  }
+
+  private final Quantifier quantifier;
+  private final Matcher<? super T> matcher;
+  private final Map<Stream<?>, Outcome> outcomes = Collections.synchronizedMap(new WeakHashMap<>());
+
+  StreamMatcher(final Quantifier quantifier, final Matcher<? super T> matcher) {
+    super(Stream.class);
+    this.quantifier = requireNonNull(quantifier);
+    this.matcher = requireNonNull(matcher);
+  }
+
+  @Override
+  protected boolean matchesSafely(
+      final Stream<? extends T> stream, final Description mismatchDescription) {
+    Outcome outcome = outcomes.get(stream);
+    if (outcome == null) {
+      outcome = evaluate(stream);
+      outcomes.put(stream, outcome);
+    }
+
+    final boolean matched =
+        quantifier == Quantifier.SOME ? outcome.decisive != null : outcome.decisive == null;
+    if (!matched) {
+      describe(outcome, mismatchDescription);
+    }
+    return matched;
+  }
+
+  private Outcome evaluate(final Stream<? extends T> stream) {
+    final boolean parallel = stream.isParallel();
+    final LongAdder evaluated = new LongAdder();
+    final List<Element> mismatches = new ArrayList<>();
+
+    final Predicate<T> decisive =
+        item -> {
+          evaluated.increment();
+          final boolean matches = matcher.matches(item);
+          if (!matches && quantifier == Quantifier.SOME) {
+            synchronized (mismatches) {
+              if (mismatches.size() < MAX_DESCRIBED_MISMATCHES) {
+                mismatches.add(new Element(item, parallel ? -1 : evaluated.sum() - 1));
+              }
+            }
+          }
+          return quantifier == Quantifier.EVERY ? !matches : matches;
+        };
+
+    final Optional<Element> found =
+        stream
+            .filter(decisive)
+            .map(item -> new Element(item, parallel ? -1 : evaluated.sum() - 1))
+            .findFirst();
+    return new Outcome(found.orElse(null), mismatches, evaluated.sum());
+  }
+
+  private void describe(final Outcome outcome, final Description mismatchDescription) {
+    switch (quantifier) {
+      case EVERY:
+        MismatchTree.wrapping(
+                outcome.decisive.name() + " ", MismatchTree.of(matcher, outcome.decisive.value))
+            .appendTo(mismatchDescription);
+        break;
+      case NONE:
+        MismatchTree.leaf(outcome.decisive.name() + " was ", outcome.decisive.value)
+            .appendTo(mismatchDescription);
+        break;
+      case SOME:
+        if (outcome.evaluated == 0) {
+          mismatchDescription.appendText("was empty");
+          return;
+        }
+        mismatchDescription
+            .appendText("none of ")
+            .appendText(String.valueOf(outcome.evaluated))
+            .appendText(outcome.evaluated == 1 ? " element" : " elements")
+            .appendText(" matched");
+        for (Element mismatch : outcome.mismatches) {
+          mismatchDescription.appendText("\n  ").appendText(mismatch.name()).appendText(" ");
+          matcher.describeMismatch(mismatch.value, mismatchDescription);
+        }
+        if (outcome.evaluated > outcome.mismatches.size()) {
+          mismatchDescription
+              .appendText("\n  ... ")
+              .appendText(String.valueOf(outcome.evaluated - outcome.mismatches.size()))
+              .appendText(" more");
+        }
+        break;
+      default:
+        throw new IllegalStateException("Unknown quantifier " + quantifier);
+    }
+  }
+
+  @Override
+  public void describeTo(final Description description) {
+    description.appendText(quantifier.description).appendDescriptionOf(matcher);
+  }
+
+  private static final class Element {
+
+    private final Object value;
+    private final long index;
+
+    Element(final Object value, final long index) {
+      this.value = value;
+      this.index = index;
+    }
+
+    String name() {
+      return index < 0 ? "an element" : "element " + index;
+    }
+  }
+
+  private static final class Outcome {
+
+    private final Element decisive;
+    private final List<Element> mismatches;
+    private final long evaluated;
+
+    Outcome(final Element decisive, final List<Element> mismatches, final long evaluated) {
+      this.decisive = decisive;
+      this.mismatches = mismatches;
+      this.evaluated = evaluated;
+    }
+  }
+}
@@ -0,0 +1,67 @@
+/*-
+ * -\-\-
+ * hamcrest-stream
+ * --
+ * Copyright (C) 2016 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.hamcrest.stream;
+
+import java.util.stream.Stream;
+import org.hamcrest.Matcher;
+
+/**
+ * Matchers for {@link Stream} instances that consume the stream lazily.
+ *
+ * <p>A stream is only consumed until its outcome is decided, for example up to the first element
+ * that doesn't match {@link #everyElement(Matcher)}, and parallel streams are evaluated in
+ * parallel. Nothing is collected except for the first {@value
+ * StreamMatcher#MAX_DESCRIBED_MISMATCHES} mismatching elements when {@link #someElement(Matcher)}
+ * doesn't match, which are used to describe the mismatch.
+ */
+public final class StreamMatchers {
+
+  private StreamMatchers() {}
+
+  /** Creates a Matcher that matches a stream without elements. */
+  public static Matcher<Stream<?>> emptyStream() {
+    return new EmptyStream();
+  }
+
+  /**
+   * Creates a Matcher that matches a stream where every element matches the given Matcher, which
+   * includes an empty stream. The stream is consumed up to the first element that doesn't match.
+   */
+  public static <T> Matcher<Stream<? extends T>> everyElement(final Matcher<? super T> matcher) {
+    return new StreamMatcher<>(StreamMatcher.Quantifier.EVERY, matcher);
+  }
+
+  /**
+   * Creates a Matcher that matches a stream with at least one element that matches the given
+   * Matcher. The stream is consumed up to the first element that matches.
+   */
+  public static <T> Matcher<Stream<? extends T>> someElement(final Matcher<? super T> matcher) {
+    return new StreamMatcher<>(StreamMatcher.Quantifier.SOME, matcher);
+  }
+
+  /**
+   * Creates a Matcher that matches a stream where no element matches the given Matcher, which
+   * includes an empty stream. The stream is consumed up to the first element that matches.
+   */
+  public static <T> Matcher<Stream<? extends T>> noElement(final Matcher<? super T> matcher) {
+    return new StreamMatcher<>(StreamMatcher.Quantifier.NONE, matcher);
+  }
+}
@@ -0,0 +1,72 @@
+/*-
+ * -\-\-
+ * hamcrest-stream
+ * --
+ * Copyright (C) 2016 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.hamcrest.stream;
+
+import static com.spotify.hamcrest.stream.StreamMatchers.emptyStream;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+import org.hamcrest.Matcher;
+import org.hamcrest.StringDescription;
+import org.junit.Test;
+
+public class EmptyStreamTest {
+
+  private static final Matcher<Stream<?>> SUT = emptyStream();
+
+  @Test
+  public void testMismatchFormatting() throws Exception {
+    final StringDescription description = new StringDescription();
+    final Stream<String> stream = Stream.of("a", "b");
+
+    assertThat(SUT.matches(stream), is(false));
+    SUT.describeMismatch(stream, description);
+
+    assertThat(description.toString(), is("was not empty, its first element was \"a\""));
+  }
+
+  @Test
+  public void testNullElement() throws Exception {
+    final StringDescription description = new StringDescription();
+    final Stream<String> stream = Stream.of((String) null);
+
+    assertThat(SUT.matches(stream), is(false));
+    SUT.describeMismatch(stream, description);
+
+    assertThat(description.toString(), is("was not empty, its first element was null"));
+  }
+
+  @Test
+  public void testConsumesOneElement() throws Exception {
+    final AtomicInteger consumed = new AtomicInteger();
+
+    SUT.matches(Stream.of(1, 2, 3).peek(i -> consumed.incrementAndGet()));
+
+    assertThat(consumed.get(), is(1));
+  }
+
+  @Test
+  public void testDescriptionFormatting() throws Exception {
+    assertThat(StringDescription.toString(SUT), is("an empty stream"));
+  }
+}
@@ -0,0 +1,158 @@
+/*-
+ * -\-\-
+ * hamcrest-stream
+ * --
+ * Copyright (C) 2016 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.hamcrest.stream;
+
+import static com.spotify.hamcrest.stream.CollectionMatchers.everyItemInParallel;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.not;
+import static org.junit.Assert.assertThat;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.hamcrest.BaseMatcher;
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.hamcrest.StringDescription;
+import org.junit.AfterClass;
+import org.junit.Test;
+
+public class ParallelEveryItemTest {
+
+  private static final ForkJoinPool POOL = new ForkJoinPool(4);
+
+  @AfterClass
+  public static void tearDown() throws Exception {
+    POOL.shutdown();
+  }
+
+  private static List<Integer> range(final int size) {
+    return IntStream.range(0, size).boxed().collect(Collectors.toCollection(ArrayList::new));
+  }
+
+  private static String mismatch(final Matcher<?> matcher, final Object actual) {
+    final StringDescription description = new StringDescription();
+    matcher.describeMismatch(actual, description);
+    return description.toString();
+  }
+
+  /** Matches anything but -1, counting the items it tested. */
+  private static Matcher<Integer> notMinusOne(final AtomicInteger tested) {
+    return new BaseMatcher<Integer>() {
+      @Override
+      public boolean matches(final Object item) {
+        tested.incrementAndGet();
+        return !item.equals(-1);
+      }
+
+      @Override
+      public void describeTo(final Description description) {
+        description.appendText("not -1");
+      }
+    };
+  }
+
+  @Test
+  public void testMatches() throws Exception {
+    assertThat(range(100_000), everyItemInParallel(greaterThanOrEqualTo(0)));
+    assertThat(range(100_000), everyItemInParallel(greaterThanOrEqualTo(0), POOL));
+    assertThat(range(0), everyItemInParallel(equalTo(1)));
+    assertThat(range(100_000), not(everyItemInParallel(lessThan(99_999))));
+  }
+
+  @Test
+  public void testIterables() throws Exception {
+    assertThat(new LinkedList<>(range(1000)), everyItemInParallel(lessThan(1000)));
+    assertThat(new LinkedHashSet<>(range(1000)), not(everyItemInParallel(lessThan(999))));
+    assertThat(range(1000)::iterator, everyItemInParallel(lessThan(1000)));
+  }
+
+  @Test
+  public void testReportsLowestIndex() throws Exception {
+    final List<Integer> items = range(100_000);
+    items.set(70_000, -1);
+    items.set(500, -1);
+    items.set(99_999, -1);
+
+    for (int i = 0; i < 20; i++) {
+      assertThat(mismatch(everyItemInParallel(not(-1), POOL), items), is("item 500 was <-1>"));
+    }
+  }
+
+  @Test
+  public void testReportsMultipleMismatchesInIndexOrder() throws Exception {
+    final List<Integer> items = range(100_000);
+    for (int index : new int[] {90_000, 7, 50_000, 3, 60_000}) {
+      items.set(index, -1);
+    }
+
+    assertThat(
+        mismatch(everyItemInParallel(not(-1), 3, POOL), items),
+        is("item 3 was <-1>\nitem 7 was <-1>\nitem 50000 was <-1>"));
+  }
+
+  @Test
+  public void testStopsEarly() throws Exception {
+    final List<Integer> items = range(1_000_000);
+    items.set(0, -1);
+    final AtomicInteger tested = new AtomicInteger();
+
+    assertThat(items, not(everyItemInParallel(notMinusOne(tested), POOL)));
+
+    assertThat(tested.get(), is(lessThan(100_000)));
+  }
+
+  @Test
+  public void testFailingAssertionScansOnce() throws Exception {
+    final List<Integer> items = range(10_000);
+    items.set(9_999, -1);
+    final AtomicInteger tested = new AtomicInteger();
+
+    try {
+      assertThat(items, everyItemInParallel(notMinusOne(tested), POOL));
+      throw new IllegalStateException("expected the assertion to fail");
+    } catch (AssertionError e) {
+      assertThat(e.getMessage(), containsString("item 9999 was <-1>"));
+    }
+
+    assertThat(tested.get(), is(10_000));
+  }
+
+  @Test
+  public void testDescription() throws Exception {
+    assertThat(
+        StringDescription.toString(everyItemInParallel(equalTo(1))), is("every item is <1>"));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testInvalidMaxMismatches() throws Exception {
+    everyItemInParallel(equalTo(1), 0, POOL);
+  }
+}
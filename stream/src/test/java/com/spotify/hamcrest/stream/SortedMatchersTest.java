@@ -0,0 +1,122 @@
+/*-
+ * -\-\-
+ * hamcrest-stream
+ * --
+ * Copyright (C) 2016 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.hamcrest.stream;
+
+import static com.spotify.hamcrest.stream.SortedMatchers.sortedIterableContaining;
+import static com.spotify.hamcrest.stream.SortedMatchers.sortedIterableEqualTo;
+import static com.spotify.hamcrest.stream.SortedMatchers.sortedIteratorContaining;
+import static com.spotify.hamcrest.stream.SortedMatchers.sortedIteratorEqualTo;
+import static com.spotify.hamcrest.stream.SortedMatchers.sortedStreamContaining;
+import static com.spotify.hamcrest.stream.SortedMatchers.sortedStreamEqualTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.junit.Assert.assertThat;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+import org.hamcrest.Matcher;
+import org.hamcrest.StringDescription;
+import org.junit.Test;
+
+public class SortedMatchersTest {
+
+  private static final Comparator<Integer> ORDER = Comparator.naturalOrder();
+  private static final List<Integer> EXPECTED = Arrays.asList(1, 2, 2, 5);
+
+  @Test
+  public void testIterableEqualTo() throws Exception {
+    assertThat(Arrays.asList(1, 2, 2, 5), sortedIterableEqualTo(EXPECTED, ORDER));
+    assertThat(Arrays.asList(1, 2, 5), not(sortedIterableEqualTo(EXPECTED, ORDER)));
+    assertThat(Arrays.asList(1, 2, 2, 3, 5), not(sortedIterableEqualTo(EXPECTED, ORDER)));
+    assertThat(Collections.emptyList(), sortedIterableEqualTo(Collections.emptyList(), ORDER));
+  }
+
+  @Test
+  public void testIterableContaining() throws Exception {
+    assertThat(Arrays.asList(0, 1, 2, 2, 3, 5, 8), sortedIterableContaining(EXPECTED, ORDER));
+    assertThat(Arrays.asList(1, 2, 3, 5), not(sortedIterableContaining(EXPECTED, ORDER)));
+  }
+
+  @Test
+  public void testIteratorEqualTo() throws Exception {
+    assertThat(EXPECTED.iterator(), sortedIteratorEqualTo(EXPECTED, ORDER));
+    assertThat(Arrays.asList(1, 2, 5).iterator(), not(sortedIteratorEqualTo(EXPECTED, ORDER)));
+  }
+
+  @Test
+  public void testIteratorContaining() throws Exception {
+    assertThat(Arrays.asList(1, 2, 2, 4, 5).iterator(), sortedIteratorContaining(EXPECTED, ORDER));
+    assertThat(Arrays.asList(2, 2, 5).iterator(), not(sortedIteratorContaining(EXPECTED, ORDER)));
+  }
+
+  @Test
+  public void testStreamEqualTo() throws Exception {
+    assertThat(Stream.of(1, 2, 2, 5), sortedStreamEqualTo(EXPECTED, ORDER));
+    assertThat(Stream.of(1, 2, 2, 5, 6), not(sortedStreamEqualTo(EXPECTED, ORDER)));
+  }
+
+  @Test
+  public void testStreamContaining() throws Exception {
+    assertThat(Stream.of(1, 2, 2, 5, 6), sortedStreamContaining(EXPECTED, ORDER));
+    assertThat(Stream.of(1, 2, 6), not(sortedStreamContaining(EXPECTED, ORDER)));
+  }
+
+  @Test
+  public void testComparatorDecidesEquality() throws Exception {
+    final Comparator<String> order = String.CASE_INSENSITIVE_ORDER;
+
+    assertThat(
+        Arrays.asList("a", "B", "c"), sortedIterableEqualTo(Arrays.asList("A", "b", "C"), order));
+  }
+
+  @Test
+  public void testSinglePassSourceIsDescribedWithoutReadingAgain() throws Exception {
+    final Matcher<Iterator<? extends Integer>> sut = sortedIteratorEqualTo(EXPECTED, ORDER);
+    final Iterator<Integer> actual = Arrays.asList(1, 2, 5).iterator();
+
+    assertThat(sut.matches(actual), is(false));
+
+    final StringDescription description = new StringDescription();
+    sut.describeMismatch(actual, description);
+    assertThat(
+        description.toString(),
+        is("had 1 difference in 3 elements:\n  expected element 2 was missing: <2>"));
+  }
+
+  @Test
+  public void testDescription() throws Exception {
+    assertThat(
+        StringDescription.toString(sortedStreamEqualTo(EXPECTED, ORDER)),
+        is("a sorted stream with exactly the elements [<1>, <2>, <2>, <5>]"));
+    assertThat(
+        StringDescription.toString(sortedIteratorContaining(EXPECTED, ORDER)),
+        is("a sorted iterator containing the elements [<1>, <2>, <2>, <5>]"));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testMaxMismatchesMustBePositive() throws Exception {
+    sortedIterableEqualTo(EXPECTED, ORDER, 0);
+  }
+}
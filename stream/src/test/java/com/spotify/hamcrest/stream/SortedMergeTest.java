@@ -0,0 +1,146 @@
+/*-
+ * -\-\-
+ * hamcrest-stream
+ * --
+ * Copyright (C) 2016 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.hamcrest.stream;
+
+import static com.spotify.hamcrest.stream.SortedMatchers.sortedIterableContaining;
+import static com.spotify.hamcrest.stream.SortedMatchers.sortedIterableEqualTo;
+import static com.spotify.hamcrest.stream.SortedMatchers.sortedIteratorEqualTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.junit.Assert.assertThat;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.LongUnaryOperator;
+import org.hamcrest.Matcher;
+import org.hamcrest.StringDescription;
+import org.junit.Test;
+
+public class SortedMergeTest {
+
+  private static final Comparator<Integer> ORDER = Comparator.naturalOrder();
+
+  private static String mismatch(final Matcher<?> matcher, final Object actual) {
+    final StringDescription description = new StringDescription();
+    matcher.describeMismatch(actual, description);
+    return description.toString();
+  }
+
+  @Test
+  public void testMismatch() throws Exception {
+    assertThat(
+        mismatch(
+            sortedIterableEqualTo(Arrays.asList(1, 2, 4, 6), ORDER), Arrays.asList(1, 3, 4, 5)),
+        is(
+            "had 4 differences in 4 elements:\n"
+                + "  expected element 1 was missing: <2>\n"
+                + "  element 1 was unexpected: <3>\n"
+                + "  element 3 was unexpected: <5>\n"
+                + "  expected element 3 was missing: <6>"));
+  }
+
+  @Test
+  public void testContainingIgnoresOtherElements() throws Exception {
+    assertThat(
+        mismatch(sortedIterableContaining(Arrays.asList(1, 2, 9), ORDER), Arrays.asList(1, 3, 4)),
+        is(
+            "had 2 differences in 3 elements:\n"
+                + "  expected element 1 was missing: <2>\n"
+                + "  expected element 2 was missing: <9>"));
+  }
+
+  @Test
+  public void testNullElements() throws Exception {
+    final Comparator<Integer> order = Comparator.nullsFirst(ORDER);
+
+    assertThat(Arrays.asList(null, 1), sortedIterableEqualTo(Arrays.asList(null, 1), order));
+    assertThat(Arrays.asList(1), not(sortedIterableEqualTo(Arrays.asList(null, 1), order)));
+  }
+
+  @Test
+  public void testReportsFirstDifferencesOnly() throws Exception {
+    final Iterable<Integer> actual = () -> sequence(1_000_000, i -> 2 * i);
+    final Iterable<Integer> expected = () -> sequence(1_000_000, i -> i);
+
+    assertThat(
+        mismatch(sortedIterableEqualTo(expected, ORDER, 2), actual),
+        is(
+            "had at least 2 differences in the first 2 elements:\n"
+                + "  expected element 1 was missing: <1>\n"
+                + "  expected element 3 was missing: <3>"));
+  }
+
+  @Test
+  public void testUnsortedActual() throws Exception {
+    assertThat(
+        mismatch(sortedIterableEqualTo(Arrays.asList(1, 2, 3), ORDER), Arrays.asList(1, 3, 2)),
+        is(
+            "had at least 2 differences in the first 3 elements:\n"
+                + "  expected element 1 was missing: <2>\n"
+                + "  element 2 was out of order: <2> came after <3>"));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testUnsortedExpected() throws Exception {
+    sortedIterableEqualTo(Arrays.asList(2, 1), ORDER).matches(Arrays.asList(2, 1));
+  }
+
+  @Test
+  public void testElementsNotInMemory() throws Exception {
+    // 50M boxed elements wouldn't fit in a small test heap if either side was collected
+    final long size = 50_000_000;
+    final Iterable<Integer> expected = () -> sequence(size, i -> i);
+
+    assertThat(sequence(size, i -> i), sortedIteratorEqualTo(expected, ORDER));
+    assertThat(
+        mismatch(sortedIteratorEqualTo(expected, ORDER), sequence(size - 1, i -> i)),
+        is(
+            "had 1 difference in "
+                + (size - 1)
+                + " elements:\n  expected element "
+                + (size - 1)
+                + " was missing: <"
+                + (size - 1)
+                + ">"));
+  }
+
+  /** Like a cursor, produces the elements one by one. */
+  private static Iterator<Integer> sequence(final long size, final LongUnaryOperator element) {
+    return new Iterator<Integer>() {
+      private long index;
+
+      @Override
+      public boolean hasNext() {
+        return index < size;
+      }
+
+      @Override
+      public Integer next() {
+        if (!hasNext()) {
+          throw new NoSuchElementException();
+        }
+        return (int) element.applyAsLong(index++);
+      }
+    };
+  }
+}
@@ -0,0 +1,109 @@
+/*-
+ * -\-\-
+ * hamcrest-stream
+ * --
+ * Copyright (C) 2016 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.hamcrest.stream;
+
+import static com.spotify.hamcrest.stream.StreamMatchers.everyElement;
+import static com.spotify.hamcrest.stream.StreamMatchers.noElement;
+import static com.spotify.hamcrest.stream.StreamMatchers.someElement;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.hamcrest.Matcher;
+import org.hamcrest.StringDescription;
+import org.junit.Test;
+
+public class StreamMatcherTest {
+
+  private static String mismatch(final Matcher<?> matcher, final Object actual) {
+    final StringDescription description = new StringDescription();
+    matcher.describeMismatch(actual, description);
+    return description.toString();
+  }
+
+  @Test
+  public void testEveryElementMismatch() throws Exception {
+    assertThat(mismatch(everyElement(is(1)), Stream.of(1, 1, 2, 3)), is("element 2 was <2>"));
+  }
+
+  @Test
+  public void testNoElementMismatch() throws Exception {
+    assertThat(mismatch(noElement(is(2)), Stream.of(1, 2, 3)), is("element 1 was <2>"));
+  }
+
+  @Test
+  public void testSomeElementMismatch() throws Exception {
+    assertThat(
+        mismatch(someElement(is(5)), Stream.of(1, 2)),
+        is("none of 2 elements matched\n  element 0 was <1>\n  element 1 was <2>"));
+  }
+
+  @Test
+  public void testSomeElementMismatchIsBounded() throws Exception {
+    assertThat(
+        mismatch(someElement(is(-1)), IntStream.range(0, 1000).boxed()),
+        is(
+            "none of 1000 elements matched\n"
+                + "  element 0 was <0>\n"
+                + "  element 1 was <1>\n"
+                + "  element 2 was <2>\n"
+                + "  element 3 was <3>\n"
+                + "  element 4 was <4>\n"
+                + "  element 5 was <5>\n"
+                + "  element 6 was <6>\n"
+                + "  element 7 was <7>\n"
+                + "  element 8 was <8>\n"
+                + "  element 9 was <9>\n"
+                + "  ... 990 more"));
+  }
+
+  @Test
+  public void testSomeElementOfEmptyStream() throws Exception {
+    assertThat(mismatch(someElement(is(1)), Stream.empty()), is("was empty"));
+  }
+
+  @Test
+  public void testParallelMismatch() throws Exception {
+    assertThat(
+        mismatch(everyElement(is(0)), IntStream.range(0, 1000).boxed().parallel()),
+        is("an element was <1>"));
+  }
+
+  @Test
+  public void testDescribeAfterMatch() throws Exception {
+    final Matcher<Stream<? extends Integer>> sut = everyElement(is(1));
+    final Stream<Integer> stream = Stream.of(1, 2);
+
+    assertThat(sut.matches(stream), is(false));
+    assertThat(mismatch(sut, stream), is("element 1 was <2>"));
+  }
+
+  @Test
+  public void testDescription() throws Exception {
+    assertThat(
+        StringDescription.toString(everyElement(is(1))), is("a stream where every element is <1>"));
+    assertThat(
+        StringDescription.toString(someElement(is(1))), is("a stream with an element that is <1>"));
+    assertThat(
+        StringDescription.toString(noElement(is(1))), is("a stream with no element that is <1>"));
+  }
+}
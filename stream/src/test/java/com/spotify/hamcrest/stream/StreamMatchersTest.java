@@ -0,0 +1,101 @@
+/*-
+ * -\-\-
+ * hamcrest-stream
+ * --
+ * Copyright (C) 2016 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.hamcrest.stream;
+
+import static com.spotify.hamcrest.stream.StreamMatchers.emptyStream;
+import static com.spotify.hamcrest.stream.StreamMatchers.everyElement;
+import static com.spotify.hamcrest.stream.StreamMatchers.noElement;
+import static com.spotify.hamcrest.stream.StreamMatchers.someElement;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.not;
+import static org.junit.Assert.assertThat;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.junit.Test;
+
+public class StreamMatchersTest {
+
+  private static Stream<Integer> naturals() {
+    return Stream.iterate(0, i -> i + 1);
+  }
+
+  @Test
+  public void testEveryElement() throws Exception {
+    assertThat(Stream.of(1, 2, 3), everyElement(lessThan(4)));
+    assertThat(Stream.empty(), everyElement(is(1)));
+    assertThat(naturals(), not(everyElement(lessThan(10))));
+  }
+
+  @Test
+  public void testSomeElement() throws Exception {
+    assertThat(Stream.of(1, 2, 3), someElement(is(2)));
+    assertThat(Stream.of(1, 2, 3), not(someElement(is(4))));
+    assertThat(Stream.empty(), not(someElement(is(1))));
+    assertThat(naturals(), someElement(is(1000)));
+  }
+
+  @Test
+  public void testNoElement() throws Exception {
+    assertThat(Stream.of(1, 2, 3), noElement(is(4)));
+    assertThat(naturals(), not(noElement(is(5))));
+  }
+
+  @Test
+  public void testEmptyStream() throws Exception {
+    assertThat(Stream.empty(), emptyStream());
+    assertThat(naturals(), not(emptyStream()));
+  }
+
+  @Test
+  public void testStopsAtDecisiveElement() throws Exception {
+    final AtomicInteger consumed = new AtomicInteger();
+
+    assertThat(
+        naturals().limit(100).peek(i -> consumed.incrementAndGet()),
+        not(everyElement(lessThan(3))));
+
+    assertThat(consumed.get(), is(4));
+  }
+
+  @Test
+  public void testParallel() throws Exception {
+    assertThat(
+        IntStream.range(0, 100_000).boxed().parallel(), everyElement(greaterThanOrEqualTo(0)));
+    assertThat(IntStream.range(0, 100_000).boxed().parallel(), someElement(is(99_999)));
+    assertThat(IntStream.range(0, 100_000).boxed().parallel(), noElement(is(-1)));
+  }
+
+  /**
+   * Ensure that the matchers can be used with streams and matchers of other generic types. This
+   * test is really verified at compile-time and not run-time.
+   */
+  @Test
+  public void testGenerics() throws Exception {
+    final Stream<List<Integer>> stream = Stream.of(Arrays.asList(1, 2));
+    assertThat(stream, everyElement(is(Arrays.asList(1, 2))));
+  }
+}
@@ -0,0 +1,303 @@
+/*-
+ * -\-\-
+ * hamcrest-text
+ * --
+ * Copyright (C) 2016 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.hamcrest.text;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.hamcrest.Description;
+
+/**
+ * Describes how a text differs from the expected one as the hunks of a line-based unified diff.
+ *
+ * <p>Multi-megabyte texts usually differ in a small part, so the common prefix and suffix are
+ * skipped with region comparisons first and only the lines in between are diffed. If they take more
+ * than a given number of edits, only the first differing line is shown. Lines longer than {@value
+ * #MAX_LINE_LENGTH} characters are cut down to the part around the first difference.
+ */
+final class LineDiff {
+
+  static final int CONTEXT_LINES = 3;
+  static final int MAX_LINE_LENGTH = 120;
+
+  private static final int BLOCK_LENGTH = 4096;
+
+  private final String expected;
+  private final String actual;
+  private final int[] expectedLines;
+  private final int[] actualLines;
+
+  private LineDiff(final String expected, final String actual) {
+    this.expected = expected;
+    this.actual = actual;
+    this.expectedLines = lineStarts(expected);
+    this.actualLines = lineStarts(actual);
+  }
+
+  /**
+   * Returns the index of the first character at which the texts differ, the length of the shorter
+   * text if it is a prefix of the other one, or -1 if they are equal.
+   */
+  static int firstDifference(final String a, final String b) {
+    final int length = Math.min(a.length(), b.length());
+    for (int i = 0; i < length; i += BLOCK_LENGTH) {
+      final int block = Math.min(BLOCK_LENGTH, length - i);
+      if (!a.regionMatches(i, b, i, block)) {
+        int j = i;
+        while (a.charAt(j) == b.charAt(j)) {
+          j++;
+        }
+        return j;
+      }
+    }
+    return a.length() == b.length() ? -1 : length;
+  }
+
+  /** Returns the number of characters at the end that the texts have in common. */
+  static int commonSuffix(final String a, final String b) {
+    final int length = Math.min(a.length(), b.length());
+    for (int i = 0; i < length; i += BLOCK_LENGTH) {
+      final int block = Math.min(BLOCK_LENGTH, length - i);
+      if (!a.regionMatches(a.length() - i - block, b, b.length() - i - block, block)) {
+        int j = i;
+        while (a.charAt(a.length() - j - 1) == b.charAt(b.length() - j - 1)) {
+          j++;
+        }
+        return j;
+      }
+    }
+    return length;
+  }
+
+  /**
+   * Appends {@code differed first at line L, column C:} followed by the hunks of the diff between
+   * the texts, which must not be equal. If more than {@code maxEdits} lines differ, only the hunk
+   * of the first differing line is appended.
+   */
+  static void describe(
+      final String expected,
+      final String actual,
+      final int maxEdits,
+      final Description description) {
+    new LineDiff(expected, actual).describe(maxEdits, description);
+  }
+
+  private void describe(final int maxEdits, final Description description) {
+    final int first = firstDifference(expected, actual);
+    final int firstLine = lineOf(expectedLines, first);
+    final int column = first - expectedLines[firstLine];
+
+    // lines that are entirely in the common suffix, preceding newline included
+    final int suffix = commonSuffix(expected, actual);
+    int suffixLines = 0;
+    while (suffixLines < expectedLines.length - firstLine
+        && suffixLines < actualLines.length - firstLine) {
+      final int start = expectedLines[expectedLines.length - suffixLines - 1];
+      final int actualStart = actualLines[actualLines.length - suffixLines - 1];
+      if (start == 0
+          || actualStart == 0
+          || expected.length() - start + 1 > suffix
+          || expected.length() - start != actual.length() - actualStart) {
+        break;
+      }
+      suffixLines++;
+    }
+
+    final int expectedEnd = expectedLines.length - suffixLines;
+    final int actualEnd = actualLines.length - suffixLines;
+    final Map<String, Integer> ids = new HashMap<>();
+    final String script =
+        MyersDiff.diff(
+            lineIds(ids, expected, expectedLines, firstLine, expectedEnd),
+            lineIds(ids, actual, actualLines, firstLine, actualEnd),
+            maxEdits);
+
+    final List<Line> lines = new ArrayList<>();
+    for (int i = Math.max(0, firstLine - CONTEXT_LINES); i < firstLine; i++) {
+      lines.add(new Line(MyersDiff.EQUAL, i, i));
+    }
+    description.appendText(
+        "differed first at line " + (firstLine + 1) + ", column " + (column + 1));
+    if (script == null) {
+      description.appendText(", and more than " + maxEdits + " lines differ:");
+      lines.add(new Line(MyersDiff.DELETE, firstLine, firstLine));
+      lines.add(new Line(MyersDiff.INSERT, firstLine, firstLine));
+      appendHunk(description, lines, column);
+      return;
+    }
+
+    description.appendText(":");
+    int e = firstLine;
+    int a = firstLine;
+    for (int i = 0; i < script.length(); i++) {
+      final char op = script.charAt(i);
+      lines.add(new Line(op, e, a));
+      if (op != MyersDiff.INSERT) {
+        e++;
+      }
+      if (op != MyersDiff.DELETE) {
+        a++;
+      }
+    }
+    for (int i = 0; i < CONTEXT_LINES && e + i < expectedLines.length; i++) {
+      lines.add(new Line(MyersDiff.EQUAL, e + i, a + i));
+    }
+    appendHunks(description, lines);
+  }
+
+  /** Splits the lines into hunks with at most {@link #CONTEXT_LINES} around every change. */
+  private void appendHunks(final Description description, final List<Line> lines) {
+    int start = -1;
+    int lastChange = -1;
+    for (int i = 0; i < lines.size(); i++) {
+      if (lines.get(i).op == MyersDiff.EQUAL) {
+        continue;
+      }
+      if (start >= 0 && i - lastChange > 2 * CONTEXT_LINES + 1) {
+        appendHunk(
+            description,
+            lines.subList(start, lastChange + CONTEXT_LINES + 1),
+            focus(lines.subList(start, lastChange + 1)));
+        start = -1;
+      }
+      if (start < 0) {
+        start = Math.max(0, i - CONTEXT_LINES);
+      }
+      lastChange = i;
+    }
+    final int end = Math.min(lines.size(), lastChange + CONTEXT_LINES + 1);
+    appendHunk(description, lines.subList(start, end), focus(lines.subList(start, lastChange + 1)));
+  }
+
+  private void appendHunk(final Description description, final List<Line> hunk, final int focus) {
+    int expectedCount = 0;
+    int actualCount = 0;
+    for (Line line : hunk) {
+      expectedCount += line.op == MyersDiff.INSERT ? 0 : 1;
+      actualCount += line.op == MyersDiff.DELETE ? 0 : 1;
+    }
+    final Line first = hunk.get(0);
+    description.appendText(
+        "\n  @@ -"
+            + (first.expected + (expectedCount > 0 ? 1 : 0))
+            + ","
+            + expectedCount
+            + " +"
+            + (first.actual + (actualCount > 0 ? 1 : 0))
+            + ","
+            + actualCount
+            + " @@");
+    for (Line line : hunk) {
+      if (line.op == MyersDiff.INSERT) {
+        description.appendText("\n  + " + window(line(actual, actualLines, line.actual), focus));
+      } else {
+        final String text = window(line(expected, expectedLines, line.expected), focus);
+        description.appendText((line.op == MyersDiff.EQUAL ? "\n    " : "\n  - ") + text);
+      }
+    }
+  }
+
+  /** The column of the first difference between the first deleted and inserted line. */
+  private int focus(final List<Line> hunk) {
+    String deleted = null;
+    String inserted = null;
+    for (Line line : hunk) {
+      if (line.op == MyersDiff.DELETE && deleted == null) {
+        deleted = line(expected, expectedLines, line.expected);
+      } else if (line.op == MyersDiff.INSERT && inserted == null) {
+        inserted = line(actual, actualLines, line.actual);
+      }
+    }
+    return deleted == null || inserted == null
+        ? 0
+        : Math.max(0, firstDifference(deleted, inserted));
+  }
+
+  private static String window(final String line, final int focus) {
+    if (line.length() <= MAX_LINE_LENGTH) {
+      return line;
+    }
+    final int from =
+        Math.max(0, Math.min(focus - MAX_LINE_LENGTH / 2, line.length() - MAX_LINE_LENGTH));
+    final int to = Math.min(line.length(), from + MAX_LINE_LENGTH);
+    return (from > 0 ? "..." : "") + line.substring(from, to) + (to < line.length() ? "..." : "");
+  }
+
+  /** Numbers the lines in {@code [from, to)} so that equal lines get equal numbers. */
+  private static int[] lineIds(
+      final Map<String, Integer> ids,
+      final String text,
+      final int[] lines,
+      final int from,
+      final int to) {
+    final int[] result = new int[to - from];
+    for (int i = from; i < to; i++) {
+      result[i - from] = ids.computeIfAbsent(line(text, lines, i), line -> ids.size());
+    }
+    return result;
+  }
+
+  private static int[] lineStarts(final String text) {
+    int count = 1;
+    for (int i = text.indexOf('\n'); i >= 0; i = text.indexOf('\n', i + 1)) {
+      count++;
+    }
+    final int[] starts = new int[count];
+    int line = 1;
+    for (int i = text.indexOf('\n'); i >= 0; i = text.indexOf('\n', i + 1)) {
+      starts[line++] = i + 1;
+    }
+    return starts;
+  }
+
+  private static String line(final String text, final int[] lines, final int line) {
+    final int end = line + 1 < lines.length ? lines[line + 1] - 1 : text.length();
+    return text.substring(lines[line], end);
+  }
+
+  private static int lineOf(final int[] lines, final int index) {
+    int low = 0;
+    int high = lines.length - 1;
+    while (low < high) {
+      final int mid = (low + high + 1) >>> 1;
+      if (lines[mid] <= index) {
+        low = mid;
+      } else {
+        high = mid - 1;
+      }
+    }
+    return low;
+  }
+
+  private static final class Line {
+
+    private final char op;
+    private final int expected;
+    private final int actual;
+
+    Line(final char op, final int expected, final int actual) {
+      this.op = op;
+      this.expected = expected;
+      this.actual = actual;
+    }
+  }
+}
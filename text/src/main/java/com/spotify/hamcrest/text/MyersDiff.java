@@ -0,0 +1,110 @@
+/*-
+ * -\-\-
+ * hamcrest-text
+ * --
+ * Copyright (C) 2016 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.hamcrest.text;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The greedy O(ND) shortest edit script of Myers, "An O(ND) Difference Algorithm and Its
+ * Variations" (1986), with a cap on D.
+ *
+ * <p>The script is returned as a string with one character per step: {@link #EQUAL} for an element
+ * that is in both sequences, {@link #DELETE} for an element that is only in {@code a} and {@link
+ * #INSERT} for one that is only in {@code b}. Deletions are placed before insertions at the same
+ * position. Time and memory are bounded by O((N + M) * D) and O(D^2).
+ */
+final class MyersDiff {
+
+  static final char EQUAL = '=';
+  static final char DELETE = '-';
+  static final char INSERT = '+';
+
+  private MyersDiff() {}
+
+  /**
+   * Computes the shortest edit script from {@code a} to {@code b}, or returns null if it takes more
+   * than {@code maxEdits} deletions and insertions.
+   */
+  static String diff(final int[] a, final int[] b, final int maxEdits) {
+    final int n = a.length;
+    final int m = b.length;
+    final int max = Math.min(n + m, maxEdits);
+    final int offset = max + 1;
+    final int[] v = new int[2 * max + 3];
+    // trace.get(d) holds v[-d - 1 .. d + 1] as it was before step d
+    final List<int[]> trace = new ArrayList<>();
+
+    for (int d = 0; d <= max; d++) {
+      trace.add(Arrays.copyOfRange(v, offset - d - 1, offset + d + 2));
+      for (int k = -d; k <= d; k += 2) {
+        int x;
+        if (k == -d || (k != d && v[offset + k - 1] < v[offset + k + 1])) {
+          x = v[offset + k + 1];
+        } else {
+          x = v[offset + k - 1] + 1;
+        }
+        int y = x - k;
+        while (x < n && y < m && a[x] == b[y]) {
+          x++;
+          y++;
+        }
+        v[offset + k] = x;
+        if (x >= n && y >= m) {
+          return backtrack(trace, d, n, m);
+        }
+      }
+    }
+    return null;
+  }
+
+  private static String backtrack(final List<int[]> trace, final int edits, int x, int y) {
+    final StringBuilder script = new StringBuilder();
+    for (int d = edits; d > 0; d--) {
+      final int[] v = trace.get(d);
+      // v[i] holds the furthest x on diagonal i - d - 1
+      final int k = x - y;
+      final int previousK;
+      if (k == -d || (k != d && v[k - 1 + d + 1] < v[k + 1 + d + 1])) {
+        previousK = k + 1;
+      } else {
+        previousK = k - 1;
+      }
+      final int previousX = v[previousK + d + 1];
+      final int previousY = previousX - previousK;
+      while (x > previousX && y > previousY) {
+        script.append(EQUAL);
+        x--;
+        y--;
+      }
+      script.append(x == previousX ? INSERT : DELETE);
+      x = previousX;
+      y = previousY;
+    }
+    while (x > 0 && y > 0) {
+      script.append(EQUAL);
+      x--;
+      y--;
+    }
+    return script.reverse().toString();
+  }
+}
@@ -0,0 +1,69 @@
+/*-
+ * -\-\-
+ * hamcrest-text
+ * --
+ * Copyright (C) 2016 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.hamcrest.text;
+
+import org.hamcrest.Description;
+import org.hamcrest.TypeSafeMatcher;
+
+/**
+ * Matches a string equal to an expected one. Short single-line strings are described like {@link
+ * org.hamcrest.core.IsEqual}; otherwise the description is cut off and a mismatch is a bounded
+ * line-based diff, see {@link LineDiff}.
+ */
+final class TextMatcher extends TypeSafeMatcher<String> {
+
+  private final String expected;
+  private final int maxEdits;
+
+  TextMatcher(final String expected, final int maxEdits) {
+    this.expected = expected;
+    this.maxEdits = maxEdits;
+  }
+
+  @Override
+  protected boolean matchesSafely(final String item) {
+    return expected.equals(item);
+  }
+
+  @Override
+  public void describeTo(final Description description) {
+    if (expected.length() <= LineDiff.MAX_LINE_LENGTH) {
+      description.appendValue(expected);
+    } else {
+      description
+          .appendText("a string of " + expected.length() + " characters starting with ")
+          .appendValue(expected.substring(0, LineDiff.MAX_LINE_LENGTH));
+    }
+  }
+
+  @Override
+  protected void describeMismatchSafely(final String item, final Description mismatchDescription) {
+    if (isShort(expected) && isShort(item)) {
+      mismatchDescription.appendText("was ").appendValue(item);
+    } else {
+      LineDiff.describe(expected, item, maxEdits, mismatchDescription);
+    }
+  }
+
+  private static boolean isShort(final String text) {
+    return text.length() <= LineDiff.MAX_LINE_LENGTH && text.indexOf('\n') < 0;
+  }
+}
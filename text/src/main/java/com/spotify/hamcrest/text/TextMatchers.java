@@ -0,0 +1,75 @@
+/*-
+ * -\-\-
+ * hamcrest-text
+ * --
+ * Copyright (C) 2016 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.hamcrest.text;
+
+import static java.util.Objects.requireNonNull;
+
+import org.hamcrest.Matcher;
+
+/**
+ * Matchers for large texts.
+ *
+ * <p>{@code org.hamcrest.Matchers.equalTo} prints both strings in full when they differ, which is
+ * unreadable for rendered templates, CSV exports or JSON documents of several megabytes. These
+ * matchers print a unified diff of the differing lines instead:
+ *
+ * <pre>
+ *      but: differed first at line 20482, column 9:
+ *   &#64;&#64; -20479,7 +20479,7 &#64;&#64;
+ *     20477,user-20477
+ *     20478,user-20478
+ *     20479,user-20479
+ *   - 20480,user-20480
+ *   + 20480,usr-20480
+ *     20481,user-20481
+ *     20482,user-20482
+ *     20483,user-20483
+ * </pre>
+ */
+public final class TextMatchers {
+
+  /** The default for the maximum number of differing lines that are diffed. */
+  public static final int DEFAULT_MAX_EDITS = 1000;
+
+  private TextMatchers() {}
+
+  /**
+   * Creates a {@link Matcher} that matches a string equal to {@code expected}. A mismatch shows the
+   * differing lines with three lines of context, as long as at most {@link #DEFAULT_MAX_EDITS}
+   * lines need to be deleted or inserted; otherwise only the first differing line is shown.
+   */
+  public static Matcher<String> textEqualTo(final String expected) {
+    return textEqualTo(expected, DEFAULT_MAX_EDITS);
+  }
+
+  /**
+   * Creates a {@link Matcher} that matches a string equal to {@code expected}. A mismatch shows the
+   * differing lines with three lines of context, as long as at most {@code maxEdits} lines need to
+   * be deleted or inserted; otherwise only the first differing line is shown. The time to compute
+   * the diff grows linearly with {@code maxEdits}, the memory quadratically.
+   */
+  public static Matcher<String> textEqualTo(final String expected, final int maxEdits) {
+    if (maxEdits < 0) {
+      throw new IllegalArgumentException("maxEdits must not be negative, was " + maxEdits);
+    }
+    return new TextMatcher(requireNonNull(expected), maxEdits);
+  }
+}
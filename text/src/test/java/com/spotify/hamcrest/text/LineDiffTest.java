@@ -0,0 +1,170 @@
+/*-
+ * -\-\-
+ * hamcrest-text
+ * --
+ * Copyright (C) 2016 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.hamcrest.text;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import org.hamcrest.StringDescription;
+import org.junit.Test;
+
+public class LineDiffTest {
+
+  @Test
+  public void testFirstDifference() throws Exception {
+    final String large = repeat('a', 10_000);
+
+    assertThat(LineDiff.firstDifference("abc", "abc"), is(-1));
+    assertThat(LineDiff.firstDifference("abc", "abd"), is(2));
+    assertThat(LineDiff.firstDifference("ab", "abc"), is(2));
+    assertThat(LineDiff.firstDifference(large + "b", large + "c"), is(10_000));
+    assertThat(LineDiff.firstDifference(large, large), is(-1));
+  }
+
+  @Test
+  public void testCommonSuffix() throws Exception {
+    final String large = repeat('a', 10_000);
+
+    assertThat(LineDiff.commonSuffix("abc", "xbc"), is(2));
+    assertThat(LineDiff.commonSuffix("abc", "bc"), is(2));
+    assertThat(LineDiff.commonSuffix("abc", "abd"), is(0));
+    assertThat(LineDiff.commonSuffix("b" + large, "c" + large), is(10_000));
+  }
+
+  @Test
+  public void testChangedLine() throws Exception {
+    assertThat(
+        describe("a\nb\nc\nd\ne\nf\ng\nh\ni", "a\nb\nc\nd\nE\nf\ng\nh\ni", 10),
+        is(
+            "differed first at line 5, column 1:\n"
+                + "  @@ -2,7 +2,7 @@\n"
+                + "    b\n"
+                + "    c\n"
+                + "    d\n"
+                + "  - e\n"
+                + "  + E\n"
+                + "    f\n"
+                + "    g\n"
+                + "    h"));
+  }
+
+  @Test
+  public void testSeparateHunks() throws Exception {
+    final String expected = "1\n2\n3\n4\n5\n6\n7\n8\n9\n10\n11\n12";
+
+    assertThat(
+        describe(expected, expected.replace("2\n", "").replace("11", "eleven"), 10),
+        is(
+            "differed first at line 2, column 1:\n"
+                + "  @@ -1,5 +1,4 @@\n"
+                + "    1\n"
+                + "  - 2\n"
+                + "    3\n"
+                + "    4\n"
+                + "    5\n"
+                + "  @@ -8,5 +7,5 @@\n"
+                + "    8\n"
+                + "    9\n"
+                + "    10\n"
+                + "  - 11\n"
+                + "  + eleven\n"
+                + "    12"));
+  }
+
+  @Test
+  public void testInsertionAtStartAndEnd() throws Exception {
+    assertThat(
+        describe("a\nb\n", "x\na\nb\n", 10),
+        is("differed first at line 1, column 1:\n  @@ -1,3 +1,4 @@\n  + x\n    a\n    b\n    "));
+    assertThat(
+        describe("a\nb", "a\nb\nc", 10),
+        is("differed first at line 2, column 2:\n  @@ -1,2 +1,3 @@\n    a\n    b\n  + c"));
+  }
+
+  @Test
+  public void testRepeatedSuffix() throws Exception {
+    assertThat(
+        describe("a\na", "a\na\na", 10),
+        is("differed first at line 2, column 2:\n  @@ -1,2 +1,3 @@\n    a\n  + a\n    a"));
+  }
+
+  @Test
+  public void testMaxEdits() throws Exception {
+    assertThat(
+        describe("a\nb\nc\nd\ne", "a\nB\nC\nD\ne", 6),
+        is(
+            "differed first at line 2, column 1:\n"
+                + "  @@ -1,5 +1,5 @@\n"
+                + "    a\n"
+                + "  - b\n"
+                + "  - c\n"
+                + "  - d\n"
+                + "  + B\n"
+                + "  + C\n"
+                + "  + D\n"
+                + "    e"));
+    assertThat(
+        describe("a\nb\nc\nd\ne", "a\nB\nC\nD\ne", 5),
+        is(
+            "differed first at line 2, column 1, and more than 5 lines differ:\n"
+                + "  @@ -1,2 +1,2 @@\n"
+                + "    a\n"
+                + "  - b\n"
+                + "  + B"));
+  }
+
+  @Test
+  public void testLongLinesAreCutAroundTheDifference() throws Exception {
+    final String expected = repeat('a', 1000) + "b" + repeat('a', 1000);
+    final String actual = repeat('a', 1000) + "c" + repeat('a', 1000);
+    final String window = repeat('a', LineDiff.MAX_LINE_LENGTH / 2);
+
+    assertThat(
+        describe(expected, actual, 10),
+        is(
+            "differed first at line 1, column 1001:\n"
+                + "  @@ -1,1 +1,1 @@\n"
+                + "  - ..."
+                + window
+                + "b"
+                + window.substring(1)
+                + "...\n"
+                + "  + ..."
+                + window
+                + "c"
+                + window.substring(1)
+                + "..."));
+  }
+
+  private static String describe(final String expected, final String actual, final int maxEdits) {
+    final StringDescription description = new StringDescription();
+    LineDiff.describe(expected, actual, maxEdits, description);
+    return description.toString();
+  }
+
+  private static String repeat(final char c, final int count) {
+    final StringBuilder builder = new StringBuilder(count);
+    for (int i = 0; i < count; i++) {
+      builder.append(c);
+    }
+    return builder.toString();
+  }
+}
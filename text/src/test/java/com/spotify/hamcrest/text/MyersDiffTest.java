@@ -0,0 +1,114 @@
+/*-
+ * -\-\-
+ * hamcrest-text
+ * --
+ * Copyright (C) 2016 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.hamcrest.text;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+import java.util.Random;
+import org.junit.Test;
+
+public class MyersDiffTest {
+
+  @Test
+  public void testEqual() throws Exception {
+    assertThat(MyersDiff.diff(new int[] {1, 2, 3}, new int[] {1, 2, 3}, 10), is("==="));
+    assertThat(MyersDiff.diff(new int[0], new int[0], 0), is(""));
+  }
+
+  @Test
+  public void testInsertAndDelete() throws Exception {
+    assertThat(MyersDiff.diff(new int[0], new int[] {1, 2}, 10), is("++"));
+    assertThat(MyersDiff.diff(new int[] {1, 2}, new int[0], 10), is("--"));
+    assertThat(MyersDiff.diff(new int[] {1, 2, 3}, new int[] {1, 3}, 10), is("=-="));
+    assertThat(MyersDiff.diff(new int[] {1, 3}, new int[] {1, 2, 3}, 10), is("=+="));
+  }
+
+  @Test
+  public void testChangePutsDeletionFirst() throws Exception {
+    assertThat(MyersDiff.diff(new int[] {1, 2, 3}, new int[] {1, 4, 3}, 10), is("=-+="));
+  }
+
+  @Test
+  public void testShortestScript() throws Exception {
+    // the example of the paper, ABCABBA to CBABAC, has 5 edits
+    final String script =
+        MyersDiff.diff(new int[] {1, 2, 3, 1, 2, 2, 1}, new int[] {3, 2, 1, 2, 1, 3}, 10);
+
+    assertThat(script.replace("=", "").length(), is(5));
+  }
+
+  @Test
+  public void testMaxEdits() throws Exception {
+    assertThat(MyersDiff.diff(new int[] {1, 2, 3}, new int[] {4, 5, 6}, 6).length(), is(6));
+    assertThat(MyersDiff.diff(new int[] {1, 2, 3}, new int[] {4, 5, 6}, 5), is(nullValue()));
+  }
+
+  @Test
+  public void testScriptIsShortestTransformation() throws Exception {
+    final Random random = new Random(42);
+    for (int n = 0; n < 200; n++) {
+      final int[] a = random(random);
+      final int[] b = random(random);
+      final String script = MyersDiff.diff(a, b, a.length + b.length);
+
+      int x = 0;
+      int y = 0;
+      for (int i = 0; i < script.length(); i++) {
+        switch (script.charAt(i)) {
+          case MyersDiff.EQUAL:
+            assertThat(a[x++], is(b[y++]));
+            break;
+          case MyersDiff.DELETE:
+            x++;
+            break;
+          default:
+            y++;
+        }
+      }
+      assertThat(x, is(a.length));
+      assertThat(y, is(b.length));
+      assertThat(script.replace("=", "").length(), is(a.length + b.length - 2 * lcs(a, b)));
+    }
+  }
+
+  private static int lcs(final int[] a, final int[] b) {
+    final int[][] lengths = new int[a.length + 1][b.length + 1];
+    for (int i = 1; i <= a.length; i++) {
+      for (int j = 1; j <= b.length; j++) {
+        lengths[i][j] =
+            a[i - 1] == b[j - 1]
+                ? lengths[i - 1][j - 1] + 1
+                : Math.max(lengths[i - 1][j], lengths[i][j - 1]);
+      }
+    }
+    return lengths[a.length][b.length];
+  }
+
+  private static int[] random(final Random random) {
+    final int[] array = new int[random.nextInt(30)];
+    for (int i = 0; i < array.length; i++) {
+      array[i] = random.nextInt(4);
+    }
+    return array;
+  }
+}
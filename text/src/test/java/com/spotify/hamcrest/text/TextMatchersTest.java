@@ -0,0 +1,115 @@
+/*-
+ * -\-\-
+ * hamcrest-text
+ * --
+ * Copyright (C) 2016 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.hamcrest.text;
+
+import static com.spotify.hamcrest.text.TextMatchers.textEqualTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.junit.Assert.assertThat;
+
+import org.hamcrest.Matcher;
+import org.hamcrest.StringDescription;
+import org.junit.Test;
+
+public class TextMatchersTest {
+
+  private static final String CSV = csv(100_000);
+
+  @Test
+  public void testMatches() throws Exception {
+    assertThat("foo", textEqualTo("foo"));
+    assertThat("foo", not(textEqualTo("bar")));
+    assertThat(null, not(textEqualTo("foo")));
+    assertThat(csv(100_000), textEqualTo(CSV));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNegativeMaxEdits() throws Exception {
+    textEqualTo("foo", -1);
+  }
+
+  @Test
+  public void testShortMismatchFormatting() throws Exception {
+    final StringDescription description = new StringDescription();
+    textEqualTo("foo").describeMismatch("bar", description);
+
+    assertThat(description.toString(), is("was \"bar\""));
+  }
+
+  @Test
+  public void testMismatchFormatting() throws Exception {
+    final StringDescription description = new StringDescription();
+    textEqualTo(CSV)
+        .describeMismatch(CSV.replace("\n20480,user-20480\n", "\n20480,usr-20480\n"), description);
+
+    assertThat(
+        description.toString(),
+        is(
+            "differed first at line 20482, column 9:\n"
+                + "  @@ -20479,7 +20479,7 @@\n"
+                + "    20477,user-20477\n"
+                + "    20478,user-20478\n"
+                + "    20479,user-20479\n"
+                + "  - 20480,user-20480\n"
+                + "  + 20480,usr-20480\n"
+                + "    20481,user-20481\n"
+                + "    20482,user-20482\n"
+                + "    20483,user-20483"));
+  }
+
+  @Test
+  public void testMismatchIsBounded() throws Exception {
+    final Matcher<String> sut = textEqualTo(CSV, 10);
+
+    final StringDescription description = new StringDescription();
+    sut.describeMismatch(CSV.replace("user", "usr"), description);
+
+    assertThat(
+        description.toString(),
+        is(
+            "differed first at line 2, column 5, and more than 10 lines differ:\n"
+                + "  @@ -1,2 +1,2 @@\n"
+                + "    id,name\n"
+                + "  - 0,user-0\n"
+                + "  + 0,usr-0"));
+  }
+
+  @Test
+  public void testDescriptionFormatting() throws Exception {
+    assertThat(StringDescription.toString(textEqualTo("foo")), is("\"foo\""));
+    assertThat(
+        StringDescription.toString(textEqualTo(CSV)),
+        is(
+            "a string of "
+                + CSV.length()
+                + " characters starting with \"id,name\\n0,user-0\\n1,user-1\\n2,user-2\\n"
+                + "3,user-3\\n4,user-4\\n5,user-5\\n6,user-6\\n7,user-7\\n8,user-8\\n9,user-9\\n"
+                + "10,user-10\\n11,user-11\\n\""));
+  }
+
+  private static String csv(final int rows) {
+    final StringBuilder csv = new StringBuilder("id,name\n");
+    for (int i = 0; i < rows; i++) {
+      csv.append(i).append(",user-").append(i).append('\n');
+    }
+    return csv.toString();
+  }
+}
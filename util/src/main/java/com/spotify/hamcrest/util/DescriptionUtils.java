@@ -20,13 +20,11 @@
 
 package com.spotify.hamcrest.util;
 
-import static com.google.common.base.Preconditions.checkArgument;
-
-import com.google.common.base.Joiner;
-import com.google.common.base.Splitter;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.SortedMap;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import org.hamcrest.Description;
@@ -36,13 +34,11 @@ import org.hamcrest.StringDescription;
  * Utils class to help fill {@link Description}.
  *
  * @see #describeNestedMismatches(Set, Description, Map, BiConsumer)
+ * @see #describeNestedMismatches(List, Description, SortedMap, BiConsumer)
  * @see #indentDescription(Description, Description)
  */
 public final class DescriptionUtils {
 
-  private static final Splitter LINE_SPLITTER = Splitter.on('\n');
-  private static final Joiner INDENTED_LINE_JOINER = Joiner.on("\n  ");
-
   private DescriptionUtils() {
     throw new IllegalAccessError("This class may not be instantiated.");
   }
@@ -54,8 +50,7 @@ public final class DescriptionUtils {
    * @param innerDescription the description we want indented.
    */
   public static void indentDescription(Description description, Description innerDescription) {
-    final Iterable<String> lines = LINE_SPLITTER.split(innerDescription.toString().trim());
-    final String indentedLines = INDENTED_LINE_JOINER.join(lines);
+    final String indentedLines = innerDescription.toString().trim().replace("\n", "\n  ");
     description.appendText(indentedLines).appendText("\n");
   }
 
@@ -94,7 +89,9 @@ public final class DescriptionUtils {
       Description mismatchDescription,
       Map<String, Consumer<Description>> mismatchedKeys,
       BiConsumer<String, Description> describeKey) {
-    checkArgument(!mismatchedKeys.isEmpty(), "mismatchKeys must not be empty");
+    if (mismatchedKeys.isEmpty()) {
+      throw new IllegalArgumentException("mismatchKeys must not be empty");
+    }
     String previousMismatchKey = null;
     String previousKey = null;
 
@@ -121,6 +118,63 @@ public final class DescriptionUtils {
     mismatchDescription.appendText("}");
   }
 
+  /**
+   * Describes a nested mismatch given the positions of the mismatched keys.
+   *
+   * <p>Produces the same output as {@link #describeNestedMismatches(Set, Description, Map,
+   * BiConsumer)}, but only visits the mismatched positions instead of scanning every key, so
+   * describing a few mismatches in a very wide object does not cost a pass over all keys. Ellipsis
+   * (...) is derived from the gaps between consecutive positions.
+   *
+   * @param allKeys {@link List} of all keys expecting to match, in output order. This should be a
+   *     {@link java.util.RandomAccess} list since keys are looked up by position
+   * @param mismatchDescription The {@link Description} to write the output to
+   * @param mismatchedPositions A {@link SortedMap} from the position in {@code allKeys} of every
+   *     mismatched key to a {@link Consumer} which will describe the mismatch for that key
+   * @param describeKey A {@link BiConsumer} used to describe the key
+   */
+  public static void describeNestedMismatches(
+      List<String> allKeys,
+      Description mismatchDescription,
+      SortedMap<Integer, Consumer<Description>> mismatchedPositions,
+      BiConsumer<String, Description> describeKey) {
+    if (mismatchedPositions.isEmpty()) {
+      throw new IllegalArgumentException("mismatchedPositions must not be empty");
+    }
+    checkPosition(mismatchedPositions.firstKey(), allKeys.size(), "first mismatched position");
+    checkPosition(mismatchedPositions.lastKey(), allKeys.size(), "last mismatched position");
+    int previousPosition = -1;
+
+    mismatchDescription.appendText("{\n");
+
+    for (Map.Entry<Integer, Consumer<Description>> mismatch : mismatchedPositions.entrySet()) {
+      final int position = mismatch.getKey();
+
+      // If any keys were skipped since the previous mismatch (or the start) then add ellipsis
+      if (position > previousPosition + 1) {
+        mismatchDescription.appendText("  ...\n");
+      }
+
+      describeMismatchForKey(
+          allKeys.get(position), mismatchDescription, describeKey, mismatch.getValue());
+      previousPosition = position;
+    }
+
+    // If the last element was not a mismatch then add ellipsis
+    if (previousPosition < allKeys.size() - 1) {
+      mismatchDescription.appendText("  ...\n");
+    }
+
+    mismatchDescription.appendText("}");
+  }
+
+  private static void checkPosition(final int position, final int size, final String name) {
+    if (position < 0 || position >= size) {
+      throw new IndexOutOfBoundsException(
+          name + " (" + position + ") must be between 0 and the number of keys (" + size + ")");
+    }
+  }
+
   private static void describeMismatchForKey(
       String key,
       Description mismatchDescription,
@@ -0,0 +1,440 @@
+/*-
+ * -\-\-
+ * hamcrest-util
+ * --
+ * Copyright (C) 2016 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.hamcrest.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.hamcrest.SelfDescribing;
+import org.hamcrest.StringDescription;
+
+/**
+ * A structured description of a mismatch.
+ *
+ * <p>Every node has an optional path (the key or property it was found under in its parent), an
+ * optional reason and, for leaves, the expected description and the actual value. Nodes are either
+ * leaves, wrappers around a single inner mismatch, or nested objects whose children are keyed by
+ * position, in which case the text rendering uses {@link
+ * DescriptionUtils#describeNestedMismatches(List, Description, SortedMap, BiConsumer)}.
+ *
+ * <p>Use {@link #of(Matcher, Object)} to obtain the tree for a failed match. Matchers in this
+ * library write their mismatches through {@link #appendTo(Description)}, which attaches the
+ * structure as-is; any other matcher ends up as a text leaf. Text is only rendered when the tree is
+ * described or exported with {@link #toJson()}.
+ *
+ * <pre>{@code
+ * {"children":[{"path":"foo","reason":"was a number node with value that was <2>",
+ *   "expected":"is a number node with value that is <1>","actual":"<2>"}]}
+ * }</pre>
+ */
+public final class MismatchTree implements SelfDescribing {
+
+  private enum Kind {
+    LEAF,
+    WRAPPER,
+    NESTED,
+  }
+
+  private static final Object NO_ACTUAL = new Object();
+
+  private final String path;
+  private final Resolver resolver;
+
+  private final Kind kind;
+  private final String reason;
+  private final SelfDescribing expected;
+  private final Object actual;
+  private final boolean renderActual;
+  private final List<String> keys;
+  private final BiConsumer<String, Description> describeKey;
+  private final SortedMap<Integer, MismatchTree> children;
+
+  private MismatchTree(
+      final String path,
+      final Kind kind,
+      final String reason,
+      final SelfDescribing expected,
+      final Object actual,
+      final boolean renderActual,
+      final List<String> keys,
+      final BiConsumer<String, Description> describeKey,
+      final SortedMap<Integer, MismatchTree> children) {
+    this.path = path;
+    this.resolver = null;
+    this.kind = kind;
+    this.reason = reason;
+    this.expected = expected;
+    this.actual = actual;
+    this.renderActual = renderActual;
+    this.keys = keys;
+    this.describeKey = describeKey;
+    this.children = children;
+  }
+
+  private MismatchTree(final String path, final Resolver resolver) {
+    this.path = path;
+    this.resolver = resolver;
+    this.kind = null;
+    this.reason = null;
+    this.expected = null;
+    this.actual = NO_ACTUAL;
+    this.renderActual = false;
+    this.keys = null;
+    this.describeKey = null;
+    this.children = null;
+  }
+
+  /**
+   * Creates the mismatch tree of a matcher against an item it did not match.
+   *
+   * <p>The tree is resolved lazily: the matcher is only asked to describe the mismatch once the
+   * tree is inspected, described or exported.
+   *
+   * @param matcher the matcher that did not match.
+   * @param actual the item that was matched against.
+   * @return the mismatch tree.
+   */
+  public static MismatchTree of(final Matcher<?> matcher, final Object actual) {
+    return new MismatchTree(null, new Resolver(requireNonNull(matcher), actual));
+  }
+
+  /**
+   * Creates a leaf with a textual reason.
+   *
+   * @param reason the reason of the mismatch.
+   * @return the mismatch tree.
+   */
+  public static MismatchTree leaf(final String reason) {
+    return new MismatchTree(
+        null, Kind.LEAF, requireNonNull(reason), null, NO_ACTUAL, false, null, null, null);
+  }
+
+  /**
+   * Creates a leaf with a textual reason followed by the actual value, for example {@code was
+   * present with <1>}.
+   *
+   * @param reason the reason of the mismatch.
+   * @param actual the actual value, appended to the reason when rendered.
+   * @return the mismatch tree.
+   */
+  public static MismatchTree leaf(final String reason, final Object actual) {
+    return new MismatchTree(
+        null, Kind.LEAF, requireNonNull(reason), null, actual, true, null, null, null);
+  }
+
+  /**
+   * Creates a node that prefixes a single inner mismatch with a reason, for example {@code was an
+   * Optional whose value ...}.
+   *
+   * @param reason the text rendered before the inner mismatch.
+   * @param child the inner mismatch.
+   * @return the mismatch tree.
+   */
+  public static MismatchTree wrapping(final String reason, final MismatchTree child) {
+    final SortedMap<Integer, MismatchTree> children = new TreeMap<>();
+    children.put(0, requireNonNull(child));
+    return new MismatchTree(
+        null, Kind.WRAPPER, requireNonNull(reason), null, NO_ACTUAL, false, null, null, children);
+  }
+
+  /**
+   * Creates a node for a nested type like an Object or a Map, rendered as described in {@link
+   * DescriptionUtils#describeNestedMismatches(List, Description, SortedMap, BiConsumer)}. Every
+   * child gets the key at its position as path.
+   *
+   * @param reason the text rendered before the nested mismatches, may be empty.
+   * @param keys all keys expecting to match, in output order.
+   * @param children the mismatched children by their position in {@code keys}.
+   * @param describeKey used to describe a key.
+   * @return the mismatch tree.
+   */
+  public static MismatchTree nested(
+      final String reason,
+      final List<String> keys,
+      final SortedMap<Integer, MismatchTree> children,
+      final BiConsumer<String, Description> describeKey) {
+    final SortedMap<Integer, MismatchTree> keyedChildren = new TreeMap<>();
+    for (Map.Entry<Integer, MismatchTree> child : children.entrySet()) {
+      keyedChildren.put(child.getKey(), child.getValue().withPath(keys.get(child.getKey())));
+    }
+    return new MismatchTree(
+        null,
+        Kind.NESTED,
+        requireNonNull(reason),
+        null,
+        NO_ACTUAL,
+        false,
+        keys,
+        requireNonNull(describeKey),
+        keyedChildren);
+  }
+
+  /**
+   * Writes this tree to a mismatch description.
+   *
+   * <p>If the description is collecting a {@link MismatchTree} the structure is attached as-is, if
+   * it is a {@link Description.NullDescription} nothing is rendered, and otherwise the tree is
+   * rendered as text.
+   *
+   * @param mismatchDescription the description to write to.
+   */
+  public void appendTo(final Description mismatchDescription) {
+    if (mismatchDescription instanceof MismatchTreeDescription) {
+      ((MismatchTreeDescription) mismatchDescription).attach(this);
+    } else if (!(mismatchDescription instanceof Description.NullDescription)) {
+      describeTo(mismatchDescription);
+    }
+  }
+
+  /**
+   * Returns this tree with every mismatch described now. A tree created with {@link #of(Matcher,
+   * Object)} otherwise asks its matcher to describe the mismatch only when it is first inspected,
+   * which is too late if the actual value may still change in the meantime.
+   *
+   * @return the resolved tree.
+   */
+  public MismatchTree resolve() {
+    final MismatchTree node = resolved();
+    final SortedMap<Integer, MismatchTree> children;
+    if (node.children == null) {
+      children = null;
+    } else {
+      children = new TreeMap<>();
+      node.children.forEach((position, child) -> children.put(position, child.resolve()));
+    }
+    return new MismatchTree(
+        path,
+        node.kind,
+        node.reason,
+        node.expected,
+        node.actual,
+        node.renderActual,
+        node.keys,
+        node.describeKey,
+        children);
+  }
+
+  /** The key or property this mismatch was found under in its parent. */
+  public Optional<String> path() {
+    return Optional.ofNullable(path);
+  }
+
+  /** The reason of this mismatch, not including the text of any children. */
+  public Optional<String> reason() {
+    final String reason = resolved().reason.trim();
+    return reason.isEmpty() ? Optional.empty() : Optional.of(reason);
+  }
+
+  /** The description of what was expected, if known for this node. */
+  public Optional<String> expected() {
+    final MismatchTree node = resolved();
+    return node.expected == null
+        ? Optional.empty()
+        : Optional.of(StringDescription.toString(node.expected));
+  }
+
+  /** The actual value as rendered by {@link Description#appendValue(Object)}, if known. */
+  public Optional<String> actual() {
+    final MismatchTree node = resolved();
+    return node.actual == NO_ACTUAL
+        ? Optional.empty()
+        : Optional.of(new StringDescription().appendValue(node.actual).toString());
+  }
+
+  /** The inner mismatches of this node, in position order. */
+  public List<MismatchTree> children() {
+    final MismatchTree node = resolved();
+    return node.children == null
+        ? Collections.emptyList()
+        : Collections.unmodifiableList(new ArrayList<>(node.children.values()));
+  }
+
+  /**
+   * Exports this tree as compact JSON. Every node is an object with the optional fields {@code
+   * path}, {@code reason}, {@code expected}, {@code actual} and {@code children}.
+   *
+   * @return the JSON text.
+   */
+  public String toJson() {
+    final StringBuilder json = new StringBuilder();
+    appendJson(json);
+    return json.toString();
+  }
+
+  @Override
+  public void describeTo(final Description description) {
+    final MismatchTree node = resolved();
+    switch (node.kind) {
+      case LEAF:
+        description.appendText(node.reason);
+        if (node.renderActual) {
+          description.appendValue(node.actual);
+        }
+        break;
+      case WRAPPER:
+        description.appendText(node.reason);
+        node.children.get(0).describeTo(description);
+        break;
+      case NESTED:
+        final SortedMap<Integer, Consumer<Description>> mismatchedPositions = new TreeMap<>();
+        node.children.forEach(
+            (position, child) -> mismatchedPositions.put(position, child::describeTo));
+        description.appendText(node.reason);
+        DescriptionUtils.describeNestedMismatches(
+            node.keys, description, mismatchedPositions, node.describeKey);
+        break;
+      default:
+        throw new IllegalStateException("Unknown kind " + node.kind);
+    }
+  }
+
+  @Override
+  public String toString() {
+    return StringDescription.toString(this);
+  }
+
+  MismatchTree withPath(final String path) {
+    if (resolver != null) {
+      return new MismatchTree(path, resolver);
+    }
+    return new MismatchTree(
+        path, kind, reason, expected, actual, renderActual, keys, describeKey, children);
+  }
+
+  private MismatchTree resolved() {
+    return resolver == null ? this : resolver.get();
+  }
+
+  private void appendJson(final StringBuilder json) {
+    final int start = json.length();
+    json.append('{');
+    if (path != null) {
+      appendJsonField(json, start, "path", path);
+    }
+    reason().ifPresent(reason -> appendJsonField(json, start, "reason", reason));
+    expected().ifPresent(expected -> appendJsonField(json, start, "expected", expected));
+    actual().ifPresent(actual -> appendJsonField(json, start, "actual", actual));
+    final List<MismatchTree> children = children();
+    if (!children.isEmpty()) {
+      appendJsonName(json, start, "children");
+      json.append('[');
+      for (int i = 0; i < children.size(); i++) {
+        if (i > 0) {
+          json.append(',');
+        }
+        children.get(i).appendJson(json);
+      }
+      json.append(']');
+    }
+    json.append('}');
+  }
+
+  private static void appendJsonField(
+      final StringBuilder json, final int start, final String name, final String value) {
+    appendJsonName(json, start, name);
+    appendJsonString(json, value);
+  }
+
+  private static void appendJsonName(final StringBuilder json, final int start, final String name) {
+    if (json.length() > start + 1) {
+      json.append(',');
+    }
+    appendJsonString(json, name);
+    json.append(':');
+  }
+
+  private static void appendJsonString(final StringBuilder json, final String value) {
+    json.append('"');
+    for (int i = 0; i < value.length(); i++) {
+      final char c = value.charAt(i);
+      switch (c) {
+        case '"':
+          json.append("\\\"");
+          break;
+        case '\\':
+          json.append("\\\\");
+          break;
+        case '\n':
+          json.append("\\n");
+          break;
+        case '\r':
+          json.append("\\r");
+          break;
+        case '\t':
+          json.append("\\t");
+          break;
+        default:
+          if (c < 0x20) {
+            json.append(String.format("\\u%04x", (int) c));
+          } else {
+            json.append(c);
+          }
+      }
+    }
+    json.append('"');
+  }
+
+  /** Lazily asks a matcher to describe its mismatch, once. */
+  private static final class Resolver {
+
+    private final Matcher<?> matcher;
+    private final Object actual;
+    private MismatchTree resolved;
+
+    Resolver(final Matcher<?> matcher, final Object actual) {
+      this.matcher = matcher;
+      this.actual = actual;
+    }
+
+    synchronized MismatchTree get() {
+      if (resolved == null) {
+        final MismatchTreeDescription description = new MismatchTreeDescription();
+        matcher.describeMismatch(actual, description);
+        resolved =
+            description
+                .tree()
+                .orElseGet(
+                    () ->
+                        new MismatchTree(
+                            null,
+                            Kind.LEAF,
+                            description.text(),
+                            matcher,
+                            actual,
+                            false,
+                            null,
+                            null,
+                            null));
+      }
+      return resolved;
+    }
+  }
+}
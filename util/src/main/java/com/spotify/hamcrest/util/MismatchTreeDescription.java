@@ -0,0 +1,82 @@
+/*-
+ * -\-\-
+ * hamcrest-util
+ * --
+ * Copyright (C) 2016 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.hamcrest.util;
+
+import java.util.Optional;
+import org.hamcrest.BaseDescription;
+
+/**
+ * A {@link org.hamcrest.Description} that collects a {@link MismatchTree}.
+ *
+ * <p>Text appended before a tree is attached becomes the reason of a wrapping node. If anything is
+ * appended after a tree was attached, or several trees are attached, the structure can't be kept
+ * and everything is collected as text instead.
+ */
+class MismatchTreeDescription extends BaseDescription {
+
+  private final StringBuilder text = new StringBuilder();
+  private MismatchTree tree;
+  private boolean flattened;
+
+  void attach(final MismatchTree tree) {
+    if (this.tree == null && !flattened) {
+      this.tree = tree;
+    } else {
+      flatten();
+      tree.describeTo(this);
+    }
+  }
+
+  Optional<MismatchTree> tree() {
+    if (tree == null) {
+      return Optional.empty();
+    } else if (text.length() == 0) {
+      return Optional.of(tree);
+    } else {
+      return Optional.of(MismatchTree.wrapping(text.toString(), tree));
+    }
+  }
+
+  String text() {
+    return text.toString();
+  }
+
+  @Override
+  protected void append(final String str) {
+    flatten();
+    text.append(str);
+  }
+
+  @Override
+  protected void append(final char c) {
+    flatten();
+    text.append(c);
+  }
+
+  private void flatten() {
+    if (tree != null) {
+      final MismatchTree attached = tree;
+      tree = null;
+      flattened = true;
+      attached.describeTo(this);
+    }
+  }
+}
@@ -25,9 +25,12 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.core.Is.is;
 
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSortedMap;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.SortedMap;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import org.hamcrest.Description;
@@ -136,4 +139,66 @@ public class DescriptionUtilsTest {
                 + "  ...\n"
                 + "}"));
   }
+
+  @Test
+  public void describeNestedMismatchesByPositionEllipsisAroundMiddleElements() throws Exception {
+    List<String> allKeys = asList("first", "second", "third", "forth", "fifth");
+    StringDescription description = new StringDescription();
+    SortedMap<Integer, Consumer<Description>> mismatchedPositions =
+        ImmutableSortedMap.of(
+            1, desc -> desc.appendText("mismatch!"),
+            3, desc -> desc.appendText("mismatch!"));
+    BiConsumer<String, Description> describeKey = (str, desc) -> desc.appendText(str);
+
+    DescriptionUtils.describeNestedMismatches(
+        allKeys, description, mismatchedPositions, describeKey);
+
+    assertThat(
+        description.toString(),
+        is(
+            "{\n"
+                + "  ...\n"
+                + "  second: mismatch!\n"
+                + "  ...\n"
+                + "  forth: mismatch!\n"
+                + "  ...\n"
+                + "}"));
+  }
+
+  @Test
+  public void describeNestedMismatchesByPositionNoEllipsisAtEdges() throws Exception {
+    List<String> allKeys = asList("first", "second", "third");
+    StringDescription description = new StringDescription();
+    SortedMap<Integer, Consumer<Description>> mismatchedPositions =
+        ImmutableSortedMap.of(
+            0, desc -> desc.appendText("mismatch!"),
+            1, desc -> desc.appendText("mismatch!"),
+            2, desc -> desc.appendText("{\n  nestedKey: mismatch!\n}"));
+    BiConsumer<String, Description> describeKey = (str, desc) -> desc.appendText(str);
+
+    DescriptionUtils.describeNestedMismatches(
+        allKeys, description, mismatchedPositions, describeKey);
+
+    assertThat(
+        description.toString(),
+        is(
+            "{\n"
+                + "  first: mismatch!\n"
+                + "  second: mismatch!\n"
+                + "  third: {\n"
+                + "    nestedKey: mismatch!\n"
+                + "  }\n"
+                + "}"));
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class)
+  public void describeNestedMismatchesByPositionRejectsPositionOutOfRange() throws Exception {
+    List<String> allKeys = asList("first", "second");
+    SortedMap<Integer, Consumer<Description>> mismatchedPositions =
+        ImmutableSortedMap.of(2, desc -> desc.appendText("mismatch!"));
+    BiConsumer<String, Description> describeKey = (str, desc) -> desc.appendText(str);
+
+    DescriptionUtils.describeNestedMismatches(
+        allKeys, new StringDescription(), mismatchedPositions, describeKey);
+  }
 }
@@ -0,0 +1,155 @@
+/*-
+ * -\-\-
+ * hamcrest-util
+ * --
+ * Copyright (C) 2016 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.hamcrest.util;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+
+import com.google.common.collect.ImmutableSortedMap;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.hamcrest.StringDescription;
+import org.hamcrest.TypeSafeDiagnosingMatcher;
+import org.junit.Test;
+
+public class MismatchTreeTest {
+
+  private static final List<String> KEYS = asList("first", "second", "third");
+
+  /** Matches a list of three strings element-wise, describing mismatches as a nested tree. */
+  private static final Matcher<List<String>> SUT =
+      new TypeSafeDiagnosingMatcher<List<String>>() {
+        @Override
+        protected boolean matchesSafely(List<String> item, Description mismatchDescription) {
+          final Matcher<String> second = is("b");
+          if (second.matches(item.get(1))) {
+            return true;
+          }
+          MismatchTree.nested(
+                  "list ",
+                  KEYS,
+                  ImmutableSortedMap.of(1, MismatchTree.of(second, item.get(1))),
+                  (key, d) -> d.appendText(key))
+              .appendTo(mismatchDescription);
+          return false;
+        }
+
+        @Override
+        public void describeTo(Description description) {
+          description.appendText("a list");
+        }
+      };
+
+  @Test
+  public void testLeafFromForeignMatcher() throws Exception {
+    final MismatchTree tree = MismatchTree.of(is(1), 2);
+
+    assertThat(tree.reason(), is(Optional.of("was <2>")));
+    assertThat(tree.expected(), is(Optional.of("is <1>")));
+    assertThat(tree.actual(), is(Optional.of("<2>")));
+    assertThat(tree.children().isEmpty(), is(true));
+    assertThat(tree.toString(), is("was <2>"));
+  }
+
+  @Test
+  public void testLeafWithActual() throws Exception {
+    final MismatchTree tree = MismatchTree.leaf("was present with ", 1);
+
+    assertThat(tree.reason(), is(Optional.of("was present with")));
+    assertThat(tree.actual(), is(Optional.of("<1>")));
+    assertThat(tree.toString(), is("was present with <1>"));
+  }
+
+  @Test
+  public void testNestedRendering() throws Exception {
+    final StringDescription description = new StringDescription();
+    SUT.describeMismatch(asList("a", "c", "d"), description);
+
+    assertThat(
+        description.toString(),
+        is("list {\n" + "  ...\n" + "  second: was \"c\"\n" + "  ...\n" + "}"));
+  }
+
+  @Test
+  public void testStructureIsKeptThroughDelegatingMatchers() throws Exception {
+    final MismatchTree tree = MismatchTree.of(is(SUT), asList("a", "c", "d"));
+
+    assertThat(tree.reason(), is(Optional.of("list")));
+    assertThat(tree.children().size(), is(1));
+    assertThat(tree.children().get(0).path(), is(Optional.of("second")));
+    assertThat(tree.children().get(0).expected(), is(Optional.of("is \"b\"")));
+    assertThat(tree.children().get(0).actual(), is(Optional.of("\"c\"")));
+  }
+
+  @Test
+  public void testWrappingPrefixFromText() throws Exception {
+    final Matcher<List<String>> prefixed =
+        new TypeSafeDiagnosingMatcher<List<String>>() {
+          @Override
+          protected boolean matchesSafely(List<String> item, Description mismatchDescription) {
+            if (SUT.matches(item)) {
+              return true;
+            }
+            mismatchDescription.appendText("inner ");
+            SUT.describeMismatch(item, mismatchDescription);
+            return false;
+          }
+
+          @Override
+          public void describeTo(Description description) {}
+        };
+
+    final MismatchTree tree = MismatchTree.of(prefixed, asList("a", "c", "d"));
+
+    assertThat(tree.reason(), is(Optional.of("inner")));
+    assertThat(tree.children().get(0).reason(), is(Optional.of("list")));
+    assertThat(tree.toString(), is("inner list {\n  ...\n  second: was \"c\"\n  ...\n}"));
+  }
+
+  @Test
+  public void testResolveDescribesNow() throws Exception {
+    final List<String> item = new ArrayList<>(asList("a", "c", "d"));
+    final MismatchTree resolved =
+        MismatchTree.wrapping("at last ", MismatchTree.of(SUT, item)).resolve();
+    final MismatchTree lazy = MismatchTree.wrapping("at last ", MismatchTree.of(SUT, item));
+
+    item.set(1, "e");
+
+    assertThat(resolved.toString(), is("at last list {\n  ...\n  second: was \"c\"\n  ...\n}"));
+    assertThat(lazy.toString(), is("at last list {\n  ...\n  second: was \"e\"\n  ...\n}"));
+  }
+
+  @Test
+  public void testToJson() throws Exception {
+    final MismatchTree tree = MismatchTree.of(SUT, asList("a", "c\n", "d"));
+
+    assertThat(
+        tree.toJson(),
+        is(
+            "{\"reason\":\"list\",\"children\":[{\"path\":\"second\","
+                + "\"reason\":\"was \\\"c\\\\n\\\"\",\"expected\":\"is \\\"b\\\"\","
+                + "\"actual\":\"\\\"c\\\\n\\\"\"}]}"));
+  }
+}